@@ -1,14 +1,22 @@
 package com.project.safetyFence.admin;
 
+import com.project.safetyFence.admin.dto.AdminPageResponseDto;
 import com.project.safetyFence.admin.dto.StatisticsResponseDto;
 import com.project.safetyFence.admin.dto.UserResponseDto;
 import com.project.safetyFence.admin.dto.AdminLinkResponseDto;
+import com.project.safetyFence.common.retention.RetentionRunReport;
+import com.project.safetyFence.common.retention.RetentionTarget;
+import com.project.safetyFence.user.deletion.AccountDeletionReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -19,14 +27,20 @@ public class AdminController {
     private final AdminService adminService;
 
     /**
-     * 전체 사용자 목록 조회
-     * GET /admin/users
+     * 사용자 목록 조회 (페이지)
+     * GET /admin/users?page=0&size=20&sort=name&direction=ASC&keyword=홍길동
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        log.info("📋 관리자 요청: 전체 사용자 목록 조회");
-        List<UserResponseDto> users = adminService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<AdminPageResponseDto<UserResponseDto>> getUsers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "number") String sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        log.info("📋 관리자 요청: 사용자 목록 조회 - page={}, size={}, sort={} {}, keyword={}",
+                page, size, sort, direction, keyword);
+        Page<UserResponseDto> users = adminService.getUsers(keyword, page, size, sort, direction);
+        return ResponseEntity.ok(AdminPageResponseDto.from(users));
     }
 
     /**
@@ -34,10 +48,18 @@ public class AdminController {
      * DELETE /admin/users/{userNumber}
      */
     @DeleteMapping("/users/{userNumber}")
-    public ResponseEntity<String> deleteUser(@PathVariable String userNumber) {
+    public ResponseEntity<AccountDeletionReport> deleteUser(@PathVariable String userNumber) {
         log.info("🗑️ 관리자 요청: 사용자 삭제 - {}", userNumber);
-        adminService.deleteUser(userNumber);
-        return ResponseEntity.ok("사용자가 삭제되었습니다");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminService.deleteUser(userNumber));
+    }
+
+    /**
+     * 사용자 삭제 작업 진행 상황
+     * GET /admin/users/{userNumber}/deletion
+     */
+    @GetMapping("/users/{userNumber}/deletion")
+    public ResponseEntity<AccountDeletionReport> getDeletionReport(@PathVariable String userNumber) {
+        return ResponseEntity.ok(adminService.getDeletionReport(userNumber));
     }
 
     /**
@@ -52,14 +74,20 @@ public class AdminController {
     }
 
     /**
-     * 전체 링크 목록 조회
-     * GET /admin/links
+     * 링크 목록 조회 (페이지)
+     * GET /admin/links?page=0&size=20&sort=wardName&direction=ASC&keyword=010
      */
     @GetMapping("/links")
-    public ResponseEntity<List<AdminLinkResponseDto>> getAllLinks() {
-        log.info("🔗 관리자 요청: 전체 링크 목록 조회");
-        List<AdminLinkResponseDto> links = adminService.getAllLinks();
-        return ResponseEntity.ok(links);
+    public ResponseEntity<AdminPageResponseDto<AdminLinkResponseDto>> getLinks(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        log.info("🔗 관리자 요청: 링크 목록 조회 - page={}, size={}, sort={} {}, keyword={}",
+                page, size, sort, direction, keyword);
+        Page<AdminLinkResponseDto> links = adminService.getLinks(keyword, page, size, sort, direction);
+        return ResponseEntity.ok(AdminPageResponseDto.from(links));
     }
 
     /**
@@ -105,4 +133,23 @@ public class AdminController {
         int count = adminService.deleteOldLogs(monthsOld);
         return ResponseEntity.ok(count + "개의 오래된 로그가 삭제되었습니다");
     }
+
+    /**
+     * 보존 기간 정리 즉시 실행 (위치/로그/복약 기록)
+     * POST /admin/cleanup/retention
+     */
+    @PostMapping("/cleanup/retention")
+    public ResponseEntity<List<RetentionRunReport>> runRetention() {
+        log.info("🧹 관리자 요청: 보존 기간 정리 실행");
+        return ResponseEntity.ok(adminService.runRetention());
+    }
+
+    /**
+     * 테이블별 마지막 보존 기간 정리 결과
+     * GET /admin/cleanup/retention
+     */
+    @GetMapping("/cleanup/retention")
+    public ResponseEntity<Map<RetentionTarget, RetentionRunReport>> getRetentionReports() {
+        return ResponseEntity.ok(adminService.getRetentionReports());
+    }
 }
@@ -3,22 +3,40 @@ package com.project.safetyFence.admin;
 import com.project.safetyFence.admin.dto.AdminLinkResponseDto;
 import com.project.safetyFence.admin.dto.StatisticsResponseDto;
 import com.project.safetyFence.admin.dto.UserResponseDto;
+import com.project.safetyFence.admin.stats.SystemStatistics;
 import com.project.safetyFence.calendar.UserEventRepository;
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.common.exception.ErrorResult;
+import com.project.safetyFence.common.retention.RetentionEngine;
+import com.project.safetyFence.common.retention.RetentionRunReport;
+import com.project.safetyFence.common.retention.RetentionTarget;
 import com.project.safetyFence.geofence.GeofenceRepository;
 import com.project.safetyFence.link.LinkRepository;
 import com.project.safetyFence.link.domain.Link;
-import com.project.safetyFence.log.LogRepository;
 import com.project.safetyFence.medication.MedicationRepository;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.user.dto.AdminUserRowDto;
+import com.project.safetyFence.user.dto.UserCountDto;
+import com.project.safetyFence.user.deletion.AccountDeletionReport;
+import com.project.safetyFence.user.deletion.AccountDeletionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,66 +50,85 @@ public class AdminService {
     private final GeofenceRepository geofenceRepository;
     private final MedicationRepository medicationRepository;
     private final UserEventRepository userEventRepository;
-    private final LogRepository logRepository;
+    private final RetentionEngine retentionEngine;
+    private final SystemStatistics systemStatistics;
+    private final AccountDeletionService accountDeletionService;
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final int PASSWORD_LENGTH = 8;
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> USER_SORT_PROPERTIES = Set.of("number", "name", "birth");
+    // API 정렬 키 -> JPQL 경로 (AdminLinkResponseDto 필드명 기준)
+    private static final Map<String, String> LINK_SORT_PATHS = Map.of(
+            "id", "l.id",
+            "wardName", "w.name",
+            "guardianName", "g.name",
+            "relation", "l.relation"
+    );
+
     /**
-     * 전체 사용자 목록 조회
+     * 사용자 목록 조회 (페이지)
+     * 페이지 조회 1회 + 항목별 GROUP BY 집계 5회로, 페이지 크기와 무관하게 쿼리 수가 고정된다.
+     * @param keyword 번호/이름 부분 일치 (null이면 전체)
+     * @param sort number, name, birth 중 하나
      */
-    public List<UserResponseDto> getAllUsers() {
-        List<User> users = userRepository.findAll();
-
-        return users.stream()
-                .map(user -> {
-                    // 각 사용자의 통계 정보 계산
-                    int geofenceCount = user.getGeofences().size();
-                    int medicationCount = user.getMedications().size();
-                    int eventCount = user.getUserEvents().size();
-
-                    // 연결된 보호자/피보호자 수 계산
-                    int linkedGuardiansCount = linkRepository.findByUserNumber(user.getNumber()).size();
-                    int linkedWardsCount = user.getLinks().size();
-
-                    return new UserResponseDto(
-                            user.getNumber(),
-                            user.getName(),
-                            user.getBirth(),
-                            user.getLinkCode(),
-                            geofenceCount,
-                            medicationCount,
-                            eventCount,
-                            linkedGuardiansCount,
-                            linkedWardsCount
-                    );
-                })
-                .collect(Collectors.toList());
+    public Page<UserResponseDto> getUsers(String keyword, int page, int size, String sort, Sort.Direction direction) {
+        if (!USER_SORT_PROPERTIES.contains(sort)) {
+            throw new CustomException(ErrorResult.INVALID_SORT_PROPERTY);
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), clampPageSize(size),
+                Sort.by(direction, sort).and(Sort.by(Sort.Direction.ASC, "number")));
+        Page<AdminUserRowDto> rows = userRepository.findAdminUserPage(toLikePattern(keyword), pageable);
+
+        if (rows.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rows.getTotalElements());
+        }
+
+        List<String> numbers = rows.map(AdminUserRowDto::getNumber).getContent();
+        Map<String, Long> geofenceCounts = toCountMap(geofenceRepository.countByUserNumbers(numbers));
+        Map<String, Long> medicationCounts = toCountMap(medicationRepository.countByUserNumbers(numbers));
+        Map<String, Long> eventCounts = toCountMap(userEventRepository.countByUserNumbers(numbers));
+        // 기존 집계 기준 유지: 보호자 수 = userNumber로 매핑된 링크, 피보호자 수 = 본인이 보유한 링크
+        Map<String, Long> guardianCounts = toCountMap(linkRepository.countByLinkedNumbers(numbers));
+        Map<String, Long> wardCounts = toCountMap(linkRepository.countByOwnerNumbers(numbers));
+
+        return rows.map(row -> new UserResponseDto(
+                row.getNumber(),
+                row.getName(),
+                row.getBirth(),
+                row.getLinkCode(),
+                geofenceCounts.getOrDefault(row.getNumber(), 0L).intValue(),
+                medicationCounts.getOrDefault(row.getNumber(), 0L).intValue(),
+                eventCounts.getOrDefault(row.getNumber(), 0L).intValue(),
+                guardianCounts.getOrDefault(row.getNumber(), 0L).intValue(),
+                wardCounts.getOrDefault(row.getNumber(), 0L).intValue()
+        ));
     }
 
     /**
-     * 사용자 삭제 (연관된 모든 데이터 cascade 삭제)
+     * 사용자 삭제 (계정 즉시 비활성화, 연관 데이터는 커밋 후 비동기 삭제)
      */
     @Transactional
-    public void deleteUser(String userNumber) {
+    public AccountDeletionReport deleteUser(String userNumber) {
         User user = userRepository.findByNumber(userNumber);
         if (user == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userNumber);
         }
 
-        log.info("🗑️ 사용자 삭제 시작: {} ({})", user.getName(), userNumber);
+        log.info("🗑️ 사용자 삭제 접수: {} ({})", user.getName(), userNumber);
 
-        // JPA cascade 설정으로 자동 삭제:
-        // - UserAddress (OneToOne, cascade ALL)
-        // - UserLocation (OneToMany, cascade ALL)
-        // - Log (OneToMany, cascade ALL)
-        // - Link (OneToMany, cascade ALL)
-        // - Geofence (OneToMany, cascade ALL)
-        // - UserEvent (OneToMany, cascade ALL)
-        // - Medication (OneToMany, cascade ALL)
+        // UserAddress, UserLocation, Log, Link, Geofence, UserEvent, Medication (+ MedicationLog)는
+        // AccountDeletionService가 청크 단위 벌크 DELETE로 삭제 (이미 비활성화된 계정이면 작업만 다시 시작)
+        return accountDeletionService.request(user);
+    }
 
-        userRepository.delete(user);
-        log.info("✅ 사용자 및 연관 데이터 삭제 완료: {}", userNumber);
+    /**
+     * 사용자 삭제 작업 진행 상황
+     */
+    public AccountDeletionReport getDeletionReport(String userNumber) {
+        return accountDeletionService.getReport(userNumber)
+                .orElseThrow(() -> new IllegalArgumentException("삭제 작업 기록이 없습니다: " + userNumber));
     }
 
     /**
@@ -112,27 +149,19 @@ public class AdminService {
     }
 
     /**
-     * 전체 링크 목록 조회
+     * 링크 목록 조회 (페이지)
+     * 양쪽 사용자 이름은 조인 한 번으로 함께 조회한다.
+     * @param keyword 양쪽 번호/이름 부분 일치 (null이면 전체)
+     * @param sort id, wardName, guardianName, relation 중 하나
      */
-    public List<AdminLinkResponseDto> getAllLinks() {
-        List<Link> links = linkRepository.findAll();
-
-        return links.stream()
-                .map(link -> {
-                    User ward = link.getUser();  // 피보호자
-                    User guardian = userRepository.findByNumber(link.getUserNumber());  // 보호자
-
-                    return new AdminLinkResponseDto(
-                            link.getId(),
-                            ward.getNumber(),
-                            ward.getName(),
-                            guardian != null ? guardian.getNumber() : link.getUserNumber(),
-                            guardian != null ? guardian.getName() : "알 수 없음",
-                            link.getRelation(),
-                            link.getIsPrimary()
-                    );
-                })
-                .collect(Collectors.toList());
+    public Page<AdminLinkResponseDto> getLinks(String keyword, int page, int size, String sort, Sort.Direction direction) {
+        String sortPath = LINK_SORT_PATHS.get(sort);
+        if (sortPath == null) {
+            throw new CustomException(ErrorResult.INVALID_SORT_PROPERTY);
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), clampPageSize(size),
+                JpaSort.unsafe(direction, sortPath).and(Sort.by(Sort.Direction.ASC, "id")));
+        return linkRepository.findAdminLinkPage(toLikePattern(keyword), pageable);
     }
 
     /**
@@ -149,28 +178,10 @@ public class AdminService {
 
     /**
      * 시스템 통계 조회
+     * 테이블 count 없이 이벤트로 유지되는 메모리 통계를 반환한다 (StatisticsReconciler가 주기적으로 보정)
      */
     public StatisticsResponseDto getStatistics() {
-        long totalUsers = userRepository.count();
-        long totalLinks = linkRepository.count();
-        long totalGeofences = geofenceRepository.count();
-
-        // 현재 활성 중인 임시 지오펜스 수 (type=1 && endTime > now)
-        long activeGeofences = geofenceRepository.findByTypeAndEndTimeBefore(1, LocalDateTime.now()).size();
-
-        long totalMedications = medicationRepository.count();
-        long totalEvents = userEventRepository.count();
-        long totalLogs = logRepository.count();
-
-        return new StatisticsResponseDto(
-                totalUsers,
-                totalLinks,
-                totalGeofences,
-                activeGeofences,
-                totalMedications,
-                totalEvents,
-                totalLogs
-        );
+        return systemStatistics.snapshot();
     }
 
     /**
@@ -191,21 +202,45 @@ public class AdminService {
 
     /**
      * 오래된 로그 정리 (monthsOld개월 이전 로그 삭제)
+     * RetentionEngine의 청크 단위 DELETE로 처리하므로 트랜잭션 없이 실행한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int deleteOldLogs(int monthsOld) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(monthsOld);
+        RetentionRunReport report = retentionEngine.purgeBefore(RetentionTarget.LOG, cutoffDate);
+
+        log.info("🧹 오래된 로그 정리 완료: {}개월 이전 {}개 삭제", monthsOld, report.deleted());
+        return (int) report.deleted();
+    }
 
-        List<com.project.safetyFence.log.domain.Log> allLogs = logRepository.findAll();
-        List<com.project.safetyFence.log.domain.Log> oldLogs = allLogs.stream()
-                .filter(log -> log.getArriveTime().isBefore(cutoffDate))
-                .collect(Collectors.toList());
+    /**
+     * 보존 기간 정리 즉시 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<RetentionRunReport> runRetention() {
+        return retentionEngine.runAll();
+    }
+
+    /**
+     * 테이블별 마지막 보존 기간 정리 결과
+     */
+    public Map<RetentionTarget, RetentionRunReport> getRetentionReports() {
+        return retentionEngine.getLastReports();
+    }
 
-        int count = oldLogs.size();
-        logRepository.deleteAll(oldLogs);
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
-        log.info("🧹 오래된 로그 정리 완료: {}개월 이전 {}개 삭제", monthsOld, count);
-        return count;
+    private String toLikePattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return "%";
+        }
+        return "%" + keyword.trim() + "%";
+    }
+
+    private Map<String, Long> toCountMap(List<UserCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(UserCountDto::getUserNumber, UserCountDto::getCount));
     }
 
     /**
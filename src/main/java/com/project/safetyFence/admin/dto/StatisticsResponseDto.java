@@ -1,26 +1,28 @@
 package com.project.safetyFence.admin.dto;
 
+import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
+@Builder
 public class StatisticsResponseDto {
     private long totalUsers;
     private long totalLinks;
     private long totalGeofences;
     private long activeGeofences;      // 현재 활성 중인 지오펜스 (type=1 && endTime > now)
+    private long permanentGeofences;   // 영구 지오펜스 (type=0)
     private long totalMedications;
     private long totalEvents;
     private long totalLogs;
 
-    public StatisticsResponseDto(long totalUsers, long totalLinks, long totalGeofences,
-                                long activeGeofences, long totalMedications,
-                                long totalEvents, long totalLogs) {
-        this.totalUsers = totalUsers;
-        this.totalLinks = totalLinks;
-        this.totalGeofences = totalGeofences;
-        this.activeGeofences = activeGeofences;
-        this.totalMedications = totalMedications;
-        this.totalEvents = totalEvents;
-        this.totalLogs = totalLogs;
-    }
-}
\ No newline at end of file
+    // 최근 1분 평균 초당 건수
+    private double locationUpdatesPerSecond;  // 위치 업데이트 수신
+    private double locationSavesPerSecond;    // 위치 DB 저장
+    private double logsPerSecond;             // 로그 저장
+
+    private int connectedSessions;     // 연결된 WebSocket 세션 수
+    private int onlineUsers;           // 접속 중인 사용자 수
+    private LocalDateTime reconciledAt; // 마지막 DB 보정 시각
+}
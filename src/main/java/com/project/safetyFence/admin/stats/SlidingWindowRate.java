@@ -0,0 +1,50 @@
+package com.project.safetyFence.admin.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N초 동안의 초당 발생 건수
+ * 초 단위 버킷 링을 사용하며, 진행 중인 현재 초는 계산에서 제외한다.
+ */
+public class SlidingWindowRate {
+
+    private final int windowSeconds;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray epochSeconds;
+
+    public SlidingWindowRate(int windowSeconds) {
+        this.windowSeconds = Math.max(windowSeconds, 1);
+        // 현재 초 버킷이 창의 가장 오래된 버킷을 덮어쓰지 않도록 한 칸 여유
+        this.counts = new AtomicLongArray(this.windowSeconds + 1);
+        this.epochSeconds = new AtomicLongArray(this.windowSeconds + 1);
+    }
+
+    public void record() {
+        record(System.currentTimeMillis() / 1000);
+    }
+
+    void record(long nowSecond) {
+        int index = (int) (nowSecond % counts.length());
+        long epoch = epochSeconds.get(index);
+        // 지난 초의 버킷이면 먼저 비운다 (경합 시 몇 건 누락은 모니터링 용도로 허용)
+        if (epoch != nowSecond && epochSeconds.compareAndSet(index, epoch, nowSecond)) {
+            counts.set(index, 0);
+        }
+        counts.incrementAndGet(index);
+    }
+
+    public double perSecond() {
+        return perSecond(System.currentTimeMillis() / 1000);
+    }
+
+    double perSecond(long nowSecond) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long epoch = epochSeconds.get(i);
+            if (epoch >= nowSecond - windowSeconds && epoch < nowSecond) {
+                total += counts.get(i);
+            }
+        }
+        return (double) total / windowSeconds;
+    }
+}
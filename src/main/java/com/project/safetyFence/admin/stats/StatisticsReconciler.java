@@ -0,0 +1,59 @@
+package com.project.safetyFence.admin.stats;
+
+import com.project.safetyFence.calendar.UserEventRepository;
+import com.project.safetyFence.common.datasource.PrimaryReads;
+import com.project.safetyFence.geofence.GeofenceRepository;
+import com.project.safetyFence.link.LinkRepository;
+import com.project.safetyFence.log.LogRepository;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메모리 통계를 DB 건수로 보정한다.
+ * 시작 시 한 번 초기값을 채우고, 이후 주기적으로 누락/중복 반영을 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsReconciler {
+
+    private static final int PERMANENT_GEOFENCE_TYPE = 0;
+    private static final int TEMPORARY_GEOFENCE_TYPE = 1;
+
+    private final SystemStatistics systemStatistics;
+    private final UserRepository userRepository;
+    private final LinkRepository linkRepository;
+    private final GeofenceRepository geofenceRepository;
+    private final MedicationRepository medicationRepository;
+    private final UserEventRepository userEventRepository;
+    private final LogRepository logRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+        log.info("📊 시스템 통계 초기화 완료");
+    }
+
+    @Scheduled(fixedDelayString = "${admin.statistics.reconcile-interval-ms:600000}",
+               initialDelayString = "${admin.statistics.reconcile-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        // 보정값이 커밋 후 반영된 카운터를 덮어쓰므로 지연된 복제본이 아닌 primary에서 센다
+        PrimaryReads.run(() -> systemStatistics.reconcile(
+                userRepository.count(),
+                linkRepository.count(),
+                geofenceRepository.countByType(PERMANENT_GEOFENCE_TYPE),
+                geofenceRepository.countByType(TEMPORARY_GEOFENCE_TYPE),
+                medicationRepository.count(),
+                userEventRepository.count(),
+                logRepository.count()
+        ));
+    }
+}
@@ -0,0 +1,186 @@
+package com.project.safetyFence.admin.stats;
+
+import com.project.safetyFence.admin.dto.StatisticsResponseDto;
+import com.project.safetyFence.calendar.domain.UserEvent;
+import com.project.safetyFence.geofence.domain.Geofence;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
+import com.project.safetyFence.user.domain.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 시스템 통계 (메모리 카운터)
+ * 엔티티 추가/삭제가 커밋될 때 StatisticsEntityListener가 증감시키고,
+ * StatisticsReconciler가 주기적으로 DB 건수로 보정한다.
+ * 관리자 통계 조회는 테이블 count 없이 이 값을 그대로 반환한다.
+ */
+@Slf4j
+@Component
+public class SystemStatistics {
+
+    private static final int TEMPORARY_GEOFENCE_TYPE = 1;
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    private final ActiveSessionRegistry activeSessionRegistry;
+
+    private final AtomicLong users = new AtomicLong();
+    private final AtomicLong links = new AtomicLong();
+    private final AtomicLong permanentGeofences = new AtomicLong();
+    private final AtomicLong temporaryGeofences = new AtomicLong();
+    private final AtomicLong medications = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong logs = new AtomicLong();
+
+    private final SlidingWindowRate locationUpdateRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final SlidingWindowRate locationSaveRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final SlidingWindowRate logRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+
+    private final AtomicReference<LocalDateTime> reconciledAt = new AtomicReference<>();
+
+    public SystemStatistics(ActiveSessionRegistry activeSessionRegistry, MeterRegistry meterRegistry) {
+        this.activeSessionRegistry = activeSessionRegistry;
+
+        registerCount(meterRegistry, "users", users);
+        registerCount(meterRegistry, "links", links);
+        registerCount(meterRegistry, "medications", medications);
+        registerCount(meterRegistry, "events", events);
+        registerCount(meterRegistry, "logs", logs);
+        Gauge.builder("safetyfence.geofences", permanentGeofences, AtomicLong::get)
+                .tag("type", "permanent").register(meterRegistry);
+        Gauge.builder("safetyfence.geofences", temporaryGeofences, AtomicLong::get)
+                .tag("type", "temporary").register(meterRegistry);
+
+        Gauge.builder("safetyfence.ingest.rate", locationUpdateRate, SlidingWindowRate::perSecond)
+                .tag("source", "location_update").baseUnit("per_second").register(meterRegistry);
+        Gauge.builder("safetyfence.ingest.rate", locationSaveRate, SlidingWindowRate::perSecond)
+                .tag("source", "location_save").baseUnit("per_second").register(meterRegistry);
+        Gauge.builder("safetyfence.ingest.rate", logRate, SlidingWindowRate::perSecond)
+                .tag("source", "log").baseUnit("per_second").register(meterRegistry);
+
+        Gauge.builder("safetyfence.websocket.sessions", activeSessionRegistry,
+                ActiveSessionRegistry::getSessionCount).register(meterRegistry);
+    }
+
+    private void registerCount(MeterRegistry meterRegistry, String entity, AtomicLong counter) {
+        Gauge.builder("safetyfence.entities", counter, AtomicLong::get)
+                .tag("entity", entity).register(meterRegistry);
+    }
+
+    /**
+     * 엔티티 추가 커밋 반영
+     */
+    public void onInserted(Object entity) {
+        apply(entity, 1);
+        if (entity instanceof Log) {
+            logRate.record();
+        } else if (entity instanceof UserLocation) {
+            locationSaveRate.record();
+        }
+    }
+
+    /**
+     * 엔티티 삭제 커밋 반영
+     */
+    public void onDeleted(Object entity) {
+        apply(entity, -1);
+    }
+
+    /**
+     * 벌크 삭제처럼 엔티티 이벤트 없이 지워진 건수 반영
+     */
+    public void onBulkDeleted(Class<?> entityType, long count) {
+        AtomicLong counter = counterFor(entityType);
+        if (counter != null) {
+            counter.addAndGet(-count);
+        }
+    }
+
+    // 위치 업데이트 수신 (DB 저장 여부와 무관)
+    public void recordLocationUpdate() {
+        locationUpdateRate.record();
+    }
+
+    private void apply(Object entity, long delta) {
+        if (entity instanceof Geofence geofence) {
+            (geofence.getType() == TEMPORARY_GEOFENCE_TYPE ? temporaryGeofences : permanentGeofences)
+                    .addAndGet(delta);
+            return;
+        }
+        AtomicLong counter = counterFor(entity.getClass());
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+    }
+
+    private AtomicLong counterFor(Class<?> entityType) {
+        if (User.class.isAssignableFrom(entityType)) {
+            return users;
+        }
+        if (Link.class.isAssignableFrom(entityType)) {
+            return links;
+        }
+        if (Medication.class.isAssignableFrom(entityType)) {
+            return medications;
+        }
+        if (UserEvent.class.isAssignableFrom(entityType)) {
+            return events;
+        }
+        if (Log.class.isAssignableFrom(entityType)) {
+            return logs;
+        }
+        return null;
+    }
+
+    /**
+     * DB 건수로 보정
+     */
+    public void reconcile(long userCount, long linkCount, long permanentGeofenceCount, long temporaryGeofenceCount,
+                          long medicationCount, long eventCount, long logCount) {
+        logDrift("users", users.getAndSet(userCount), userCount);
+        logDrift("links", links.getAndSet(linkCount), linkCount);
+        logDrift("permanentGeofences", permanentGeofences.getAndSet(permanentGeofenceCount), permanentGeofenceCount);
+        logDrift("temporaryGeofences", temporaryGeofences.getAndSet(temporaryGeofenceCount), temporaryGeofenceCount);
+        logDrift("medications", medications.getAndSet(medicationCount), medicationCount);
+        logDrift("events", events.getAndSet(eventCount), eventCount);
+        logDrift("logs", logs.getAndSet(logCount), logCount);
+        reconciledAt.set(LocalDateTime.now());
+    }
+
+    private void logDrift(String name, long before, long actual) {
+        if (reconciledAt.get() != null && before != actual) {
+            log.info("📊 통계 보정: {} {} -> {}", name, before, actual);
+        }
+    }
+
+    public StatisticsResponseDto snapshot() {
+        long permanent = permanentGeofences.get();
+        long temporary = temporaryGeofences.get();
+        return StatisticsResponseDto.builder()
+                .totalUsers(users.get())
+                .totalLinks(links.get())
+                .totalGeofences(permanent + temporary)
+                // 만료된 일시 지오펜스는 TemporaryGeofenceExpiryScheduler가 바로 삭제하므로 남아있는 일시 지오펜스 = 활성
+                .activeGeofences(temporary)
+                .permanentGeofences(permanent)
+                .totalMedications(medications.get())
+                .totalEvents(events.get())
+                .totalLogs(logs.get())
+                .locationUpdatesPerSecond(locationUpdateRate.perSecond())
+                .locationSavesPerSecond(locationSaveRate.perSecond())
+                .logsPerSecond(logRate.perSecond())
+                .connectedSessions(activeSessionRegistry.getSessionCount())
+                .onlineUsers(activeSessionRegistry.getOnlineUserCount())
+                .reconciledAt(reconciledAt.get())
+                .build();
+    }
+}
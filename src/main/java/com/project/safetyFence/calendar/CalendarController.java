@@ -3,12 +3,17 @@ package com.project.safetyFence.calendar;
 import com.project.safetyFence.calendar.dto.EventDataRequestDto;
 import com.project.safetyFence.calendar.dto.OneDayResponseDto;
 import com.project.safetyFence.calendar.CalendarService;
+import com.project.safetyFence.calendar.cache.CalendarCache;
 import com.project.safetyFence.mypage.dto.NumberRequestDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -16,21 +21,57 @@ import java.util.List;
 public class CalendarController {
 
     private final CalendarService calendarService;
+    private final CalendarCache calendarCache;
 
+    // 기간 조회 (from/to 생략 시 이번 달)
+    // 캘린더가 바뀌지 않았으면 If-None-Match에 대해 조회/직렬화 없이 304 반환
     @GetMapping("/calendar/userData")
-    public ResponseEntity<List<OneDayResponseDto>> getCalendarData(HttpServletRequest request) {
+    public ResponseEntity<List<OneDayResponseDto>> getCalendarData(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         String userNumber = (String) request.getAttribute("userNumber");
-        List<OneDayResponseDto> calendarData = calendarService.getCalendarData(userNumber);
-        return ResponseEntity.ok(calendarData);
+        CalendarWindow window = resolveWindow(from, to);
+
+        String etag = calendarCache.currentEtag(userNumber, window.from(), window.to());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<OneDayResponseDto> calendarData = loadCalendarData(userNumber, window);
+        return ResponseEntity.ok().eTag(etag).body(calendarData);
     }
 
     @PostMapping("/calendar/userData")
-    public ResponseEntity<List<OneDayResponseDto>> getCalendarData(@RequestBody NumberRequestDto numberRequestDto, HttpServletRequest request) {
+    public ResponseEntity<List<OneDayResponseDto>> getCalendarData(
+            @RequestBody NumberRequestDto numberRequestDto,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request) {
         String userNumber = numberRequestDto.getNumber();
-        List<OneDayResponseDto> calendarData = calendarService.getCalendarData(userNumber);
+        List<OneDayResponseDto> calendarData = loadCalendarData(userNumber, resolveWindow(from, to));
         return ResponseEntity.ok(calendarData);
     }
 
+    private List<OneDayResponseDto> loadCalendarData(String userNumber, CalendarWindow window) {
+        return calendarCache.getOrLoad(userNumber, window.from(), window.to(),
+                () -> calendarService.getCalendarData(userNumber, window.from(), window.to()));
+    }
+
+    // 조회 기간 결정: 둘 다 없으면 이번 달, 하나만 주어지면 그 날짜가 속한 달
+    private CalendarWindow resolveWindow(LocalDate from, LocalDate to) {
+        YearMonth month = (from == null && to == null)
+                ? YearMonth.now()
+                : YearMonth.from(from != null ? from : to);
+        return new CalendarWindow(
+                from != null ? from : month.atDay(1),
+                to != null ? to : month.atEndOfMonth()
+        );
+    }
+
+    private record CalendarWindow(LocalDate from, LocalDate to) {
+    }
 
     @PostMapping("/calendar/addEvent")
     public ResponseEntity<String> addEvent(@RequestBody EventDataRequestDto eventDataRequestDto,
@@ -14,16 +14,24 @@ import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.medication.MedicationRepository;
 import com.project.safetyFence.medication.MedicationLogRepository;
 import com.project.safetyFence.medication.domain.Medication;
-import com.project.safetyFence.medication.domain.MedicationLog;
+import com.project.safetyFence.medication.dto.MedicationDailyCheckCountDto;
+import com.project.safetyFence.geofence.GeofenceRepository;
+import com.project.safetyFence.log.LogRepository;
 import com.project.safetyFence.medication.dto.MedicationItemDto;
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -36,11 +44,36 @@ public class CalendarService {
     private final UserEventRepository userEventRepository;
     private final MedicationRepository medicationRepository;
     private final MedicationLogRepository medicationLogRepository;
+    private final LogRepository logRepository;
+    private final GeofenceRepository geofenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    private static final int MAX_RANGE_DAYS = 366;
 
+    /**
+     * 이번 달 캘린더 데이터 조회 (기본 월간 보기)
+     */
     @Transactional(readOnly = true)
     public List<OneDayResponseDto> getCalendarData(String userNumber) {
-        User user = userRepository.findByNumberWithCalendarData(userNumber);
+        YearMonth thisMonth = YearMonth.now();
+        return getCalendarData(userNumber, thisMonth.atDay(1), thisMonth.atEndOfMonth());
+    }
+
+    /**
+     * 기간 내 캘린더 데이터 조회 (from, to 포함)
+     * 로그/일시적 지오펜스/일정/약/약 복용 횟수를 기간 조건으로 각각 한 번씩만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<OneDayResponseDto> getCalendarData(String userNumber, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("캘린더 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = to.plusDays(1).atStartOfDay();
 
         // 날짜별로 OneDayResponseDto를 저장하는 Map (날짜 순서대로 정렬)
         Map<String, OneDayResponseDto> dateMap = new TreeMap<>();
@@ -49,7 +82,7 @@ public class CalendarService {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
         // 1. Log 데이터 처리
-        for (Log log : user.getLogs()) {
+        for (Log log : logRepository.findByUserNumberAndArriveTimeRange(userNumber, rangeStart, rangeEnd)) {
             String date = log.getArriveTime().toLocalDate().format(dateFormatter);
             String arriveTime = log.getArriveTime().format(timeFormatter);
 
@@ -67,27 +100,26 @@ public class CalendarService {
         }
 
         // 2. Geofence 데이터 처리 (일시적 geofence만 - startTime이 있는 것)
-        for (Geofence geofence : user.getGeofences()) {
-            if (geofence.getType() == 1 && geofence.getStartTime() != null) {
-                String date = geofence.getStartTime().toLocalDate().format(dateFormatter);
-
-                // 해당 날짜의 DTO가 없으면 생성
-                OneDayResponseDto dayDto = dateMap.computeIfAbsent(date, OneDayResponseDto::new);
-
-                // Geofence 아이템 추가
-                GeofenceItemDto geofenceItem = new GeofenceItemDto(
-                    geofence.getId(),
-                    geofence.getName(),
-                    geofence.getAddress(),
-                    geofence.getStartTime(),
-                    geofence.getEndTime()
-                );
-                dayDto.addGeofence(geofenceItem);
-            }
+        for (Geofence geofence : geofenceRepository
+                .findTemporaryByUserNumberAndStartTimeRange(userNumber, rangeStart, rangeEnd)) {
+            String date = geofence.getStartTime().toLocalDate().format(dateFormatter);
+
+            // 해당 날짜의 DTO가 없으면 생성
+            OneDayResponseDto dayDto = dateMap.computeIfAbsent(date, OneDayResponseDto::new);
+
+            // Geofence 아이템 추가
+            GeofenceItemDto geofenceItem = new GeofenceItemDto(
+                geofence.getId(),
+                geofence.getName(),
+                geofence.getAddress(),
+                geofence.getStartTime(),
+                geofence.getEndTime()
+            );
+            dayDto.addGeofence(geofenceItem);
         }
 
         // 3. UserEvent 데이터 처리
-        for (UserEvent event : user.getUserEvents()) {
+        for (UserEvent event : userEventRepository.findByUserNumberAndEventDateBetween(userNumber, from, to)) {
             String date = event.getEventDate().format(dateFormatter);
             String eventStartTime = event.getStartTime() != null ?
                 event.getStartTime().format(timeFormatter) : null;
@@ -104,22 +136,31 @@ public class CalendarService {
             dayDto.addUserEvent(eventItem);
         }
 
-        // 4. Medication 데이터 처리
+        if (dateMap.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 4. Medication 데이터 처리 - 기간 내 (약, 날짜)별 복용 횟수를 한 번에 집계
         List<Medication> medications = medicationRepository.findByUserNumber(userNumber);
+        Map<Long, Map<LocalDate, Long>> checkCounts = new HashMap<>();
+        if (!medications.isEmpty()) {
+            for (MedicationDailyCheckCountDto daily : medicationLogRepository
+                    .countDailyChecksByUserNumberBetween(userNumber, rangeStart, rangeEnd)) {
+                checkCounts.computeIfAbsent(daily.getMedicationId(), k -> new HashMap<>())
+                        .put(daily.getDate(), daily.getCheckCount());
+            }
+        }
 
         // 각 날짜에 대해 모든 약의 복용 여부 확인
         for (Map.Entry<String, OneDayResponseDto> entry : dateMap.entrySet()) {
             LocalDate date = LocalDate.parse(entry.getKey(), dateFormatter);
             OneDayResponseDto dayDto = entry.getValue();
 
-            // 각 약에 대해 해당 날짜에 복용했는지 확인
             for (Medication medication : medications) {
-                List<MedicationLog> logs = medicationLogRepository
-                    .findByMedicationIdAndDate(medication.getId(), date);
-                boolean checked = !logs.isEmpty();
-                int checkCount = logs.size();  // 해당 날짜에 몇 번 먹었는지
+                int checkCount = checkCounts.getOrDefault(medication.getId(), Map.of())
+                        .getOrDefault(date, 0L).intValue();  // 해당 날짜에 몇 번 먹었는지
 
-                MedicationItemDto medicationItem = new MedicationItemDto(medication, checked, checkCount);
+                MedicationItemDto medicationItem = new MedicationItemDto(medication, checkCount > 0, checkCount);
                 dayDto.addMedication(medicationItem);
             }
         }
@@ -144,6 +185,7 @@ public class CalendarService {
 
         user.addUserEvent(userEvent);
         userRepository.save(user);
+        eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
     }
 
     @Transactional
@@ -156,5 +198,6 @@ public class CalendarService {
                 .orElseThrow(() -> new IllegalArgumentException("Event not found"));
 
         user.removeEvent(userEventToDelete);
+        eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
     }
 }
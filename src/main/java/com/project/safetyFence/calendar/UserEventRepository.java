@@ -1,11 +1,29 @@
 package com.project.safetyFence.calendar;
 
 import com.project.safetyFence.calendar.domain.UserEvent;
+import com.project.safetyFence.user.dto.UserCountDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserEventRepository extends JpaRepository<UserEvent, Long> {
 
     Optional<UserEvent> findById(Long aLong);
+
+    // 기간 내 일정 (from, to 포함) - 캘린더 조회용
+    @Query("SELECT e FROM UserEvent e WHERE e.user.number = :userNumber " +
+           "AND e.eventDate BETWEEN :from AND :to ORDER BY e.eventDate, e.startTime, e.id")
+    List<UserEvent> findByUserNumberAndEventDateBetween(@Param("userNumber") String userNumber,
+                                                        @Param("from") LocalDate from,
+                                                        @Param("to") LocalDate to);
+
+    // 사용자별 일정 수 (관리자 목록용)
+    @Query("SELECT new com.project.safetyFence.user.dto.UserCountDto(e.user.number, COUNT(e)) " +
+           "FROM UserEvent e WHERE e.user.number IN :userNumbers GROUP BY e.user.number")
+    List<UserCountDto> countByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
 }
@@ -0,0 +1,113 @@
+package com.project.safetyFence.calendar.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.safetyFence.calendar.dto.OneDayResponseDto;
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
+import com.project.safetyFence.common.datasource.PrimaryReads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 캘린더 조회 캐시 (사용자, 조회 기간) → 날짜별 응답 목록
+ *
+ * 사용자마다 세대(generation) 번호를 두고, 캘린더 데이터가 바뀌면(CalendarChangedEvent) 세대를 올려
+ * 해당 사용자의 모든 기간 캐시를 한 번에 무효화한다. 조회 시작 시점의 세대로만 캐시에 저장하므로
+ * 조회 도중 커밋된 변경이 있으면 오래된 결과는 저장되지 않는다.
+ * ETag도 세대로 만들기 때문에 변경 여부 확인에 직렬화나 DB 조회가 필요 없다.
+ * 캐시를 채우는 조회는 primary에서 실행해 복제 지연으로 이전 데이터가 새 세대로 저장되지 않게 한다.
+ */
+@Slf4j
+@Component
+public class CalendarCache {
+
+    private final Cache<CalendarCacheKey, CachedCalendar> cache;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    // 재시작 전후 ETag가 겹치지 않도록 인스턴스 구분값을 섞는다
+    private final long instanceEpoch = System.currentTimeMillis();
+
+    public CalendarCache(
+            @Value("${calendar.cache.max-size:10000}") long maxSize,
+            @Value("${calendar.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+
+        log.info("CalendarCache 초기화 완료: maxSize={}, TTL={}분", maxSize, ttlMinutes);
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 loader로 조회해서 저장
+     */
+    public List<OneDayResponseDto> getOrLoad(String userNumber, LocalDate from, LocalDate to,
+                                             Supplier<List<OneDayResponseDto>> loader) {
+        CalendarCacheKey key = new CalendarCacheKey(userNumber, from, to);
+        long generation = currentGeneration(userNumber);
+
+        CachedCalendar cached = cache.getIfPresent(key);
+        if (cached != null && cached.generation() == generation) {
+            return cached.days();
+        }
+
+        List<OneDayResponseDto> days = PrimaryReads.call(loader);
+
+        // 조회 도중 무효화되었으면 저장하지 않는다
+        if (currentGeneration(userNumber) == generation) {
+            cache.put(key, new CachedCalendar(generation, days));
+        }
+        return days;
+    }
+
+    /**
+     * 현재 세대 기준 ETag
+     */
+    public String currentEtag(String userNumber, LocalDate from, LocalDate to) {
+        long generation = currentGeneration(userNumber);
+        int hash = Objects.hash(userNumber, from, to);
+        return "\"" + Long.toHexString(instanceEpoch) + "-" + generation + "-" + Integer.toHexString(hash) + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        invalidate(event.userNumber());
+    }
+
+    public void invalidate(String userNumber) {
+        if (userNumber == null) {
+            return;
+        }
+        generations.put(userNumber, generationSequence.incrementAndGet());
+        log.debug("캘린더 캐시 무효화: userNumber={}", userNumber);
+    }
+
+    private long currentGeneration(String userNumber) {
+        return generations.getOrDefault(userNumber, 0L);
+    }
+
+    // 캐시 통계 조회 (모니터링용)
+    public String getCacheStats() {
+        return cache.stats().toString();
+    }
+
+    private record CalendarCacheKey(String userNumber, LocalDate from, LocalDate to) {
+    }
+
+    private record CachedCalendar(long generation, List<OneDayResponseDto> days) {
+    }
+}
@@ -11,6 +11,7 @@ import java.time.LocalTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_user_event_user_event_date", columnList = "user_id, event_date"))
 public class UserEvent {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
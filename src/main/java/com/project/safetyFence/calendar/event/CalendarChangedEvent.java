@@ -0,0 +1,8 @@
+package com.project.safetyFence.calendar.event;
+
+/**
+ * 사용자의 캘린더에 표시되는 데이터(로그, 일정, 일시적 지오펜스, 약/복용 체크)가 변경됨
+ * 커밋 이후 CalendarCache가 해당 사용자의 캐시를 무효화한다.
+ */
+public record CalendarChangedEvent(String userNumber) {
+}
@@ -0,0 +1,82 @@
+package com.project.safetyFence.common.config;
+
+import com.project.safetyFence.common.datasource.ReadReplicaRoutingDataSource;
+import com.project.safetyFence.common.datasource.ReplicationLagGuard;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 (datasource.replica.enabled=true일 때만)
+ *
+ * spring.datasource.*로 primary 풀을, datasource.replica.*로 읽기 전용 복제본 풀을 만들고
+ * @Transactional(readOnly = true) 트랜잭션을 복제본으로 보낸다. 비활성화 시 Spring Boot 기본 DataSource를 그대로 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 시작은 계속 (지연 감시가 primary로 돌림)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationLagGuard replicationLagGuard(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs,
+            @Value("${datasource.replica.lag-check-interval-ms:5000}") long checkIntervalMs,
+            @Value("${datasource.replica.lag-query-timeout-seconds:2}") int queryTimeoutSeconds) {
+        JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        return new ReplicationLagGuard(replicaJdbcTemplate, meterRegistry, maxLagMs, checkIntervalMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicationLagGuard replicationLagGuard) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicationLagGuard));
+    }
+}
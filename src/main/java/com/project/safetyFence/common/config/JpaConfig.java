@@ -0,0 +1,20 @@
+package com.project.safetyFence.common.config;
+
+import com.project.safetyFence.common.sequence.IdSequenceMigrator;
+import com.project.safetyFence.link.generator.LinkCodeConstraintMigrator;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    /**
+     * Hibernate가 시퀀스 INCREMENT BY를 검증하기 전에 id 시퀀스 전환이 끝나도록,
+     * 스키마 갱신 전에 유저 코드 유니크 제약이 추가되도록 순서 지정
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(IdSequenceMigrator.class, LinkCodeConstraintMigrator.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.safetyFence.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 스케줄러와 야간 정리 작업 실행기
+ *
+ * WebSocket heartbeat/브로커용 TaskScheduler 빈이 있으면 Spring Boot가 기본 스케줄러를 만들지 않아
+ * 모든 @Scheduled 작업이 스레드 하나를 나눠 쓰고, 긴 작업 동안 매분 복약 알림 등이 건너뛰어진다.
+ * 그래서 @Scheduled가 이름으로 찾는 taskScheduler를 여러 스레드로 따로 둔다.
+ * 오래 걸리는 보존 기간 정리와 위치 기록 보관은 스케줄러 스레드를 잡지 않도록 maintenanceExecutor에서 차례로 실행한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String MAINTENANCE_EXECUTOR = "maintenanceExecutor";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(poolSize, 2));
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    @Bean(name = MAINTENANCE_EXECUTOR)
+    public ThreadPoolTaskExecutor maintenanceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("maintenance-");
+        return executor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.safetyFence.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시를 채우는 조회를 primary로 고정하는 범위
+ *
+ * 복제본은 max-lag-ms까지 늦을 수 있어, 변경 직후의 캐시 미스를 복제본에서 채우면 무효화된 이전 값이
+ * 새 세대(ETag)로 다시 저장된다. 이 범위 안에서 얻는 커넥션은 읽기 전용 트랜잭션이어도 primary를 쓴다
+ * (ReadReplicaRoutingDataSource). 이미 커넥션을 얻은 트랜잭션은 그 커넥션을 계속 쓰므로
+ * 트랜잭션 시작 전이나 첫 SQL 전에 감싸야 한다. 복제본 라우팅을 쓰지 않으면 아무 효과가 없다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (isActive()) {
+            return action.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
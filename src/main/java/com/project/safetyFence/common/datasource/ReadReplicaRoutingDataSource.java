@@ -0,0 +1,60 @@
+package com.project.safetyFence.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 읽기 복제본으로 보내는 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL 실행 시 커넥션을 고른다 (DataSourceConfig 참고).
+ * 트랜잭션 밖의 조회, 쓰기 트랜잭션, 캐시를 채우는 조회(PrimaryReads), 복제 지연이 큰 동안(ReplicationLagGuard)은 primary를 쓰고,
+ * 복제본 커넥션을 얻지 못하면 복제본을 사용 중지하고 같은 요청을 primary로 처리한다.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final ReplicationLagGuard lagGuard;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicationLagGuard lagGuard) {
+        this.primary = primary;
+        this.lagGuard = lagGuard;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!PrimaryReads.isActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagGuard.isReplicaUsable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            if (determineCurrentLookupKey() != Target.REPLICA) {
+                throw e;
+            }
+            lagGuard.markUnavailable("커넥션 획득 실패 - " + e.getMessage());
+            return primary.getConnection();
+        }
+    }
+}
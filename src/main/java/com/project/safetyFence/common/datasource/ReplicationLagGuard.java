@@ -0,0 +1,104 @@
+package com.project.safetyFence.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 복제본 복제 지연 감시
+ *
+ * 주기적으로 복제본에서 마지막 재생 트랜잭션 이후 경과 시간을 읽어 max-lag-ms를 넘거나
+ * 조회에 실패하거나 primary로부터 WAL을 받고 있지 않으면 복제본을 사용 중지하고,
+ * 다음 확인에서 지연이 돌아오면 다시 사용한다.
+ * 확인 자체가 멈추면(스케줄러 지연 등) 지연을 보장할 수 없으므로, 마지막 정상 확인이
+ * 확인 주기의 2배보다 오래되면 사용 불가로 본다.
+ * 첫 확인 전과 사용 중지 동안 읽기 전용 트랜잭션은 primary로 간다 (ReadReplicaRoutingDataSource).
+ */
+@Slf4j
+public class ReplicationLagGuard {
+
+    // WAL 수신이 끊기면 수신/재생 위치가 같아 보여도 지연을 알 수 없으므로 NULL (사용 중지).
+    // 수신 중이고 수신한 WAL을 모두 재생했으면 변경이 없어 재생 시각이 오래된 것이므로 지연 0
+    private static final String LAG_QUERY =
+            "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) " +
+            "END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+    private final long staleAfterNanos;
+
+    private volatile boolean usable;
+    private volatile long lastLagMs = -1;
+    private volatile long lastCheckNanos;
+
+    public ReplicationLagGuard(JdbcTemplate replicaJdbcTemplate, MeterRegistry meterRegistry,
+                               long maxLagMs, long checkIntervalMs) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMs = Math.max(maxLagMs, 0);
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(checkIntervalMs, 1) * 2);
+
+        Gauge.builder("datasource.replica.lag", this, guard -> guard.lastLagMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, guard -> guard.isReplicaUsable() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        Long measured;
+        try {
+            measured = replicaJdbcTemplate.queryForObject(LAG_QUERY, Long.class);
+        } catch (DataAccessException e) {
+            markUnavailable("지연 조회 실패 - " + e.getMessage());
+            return;
+        }
+        if (measured == null) {
+            lastLagMs = -1;
+            markUnavailable("WAL 수신 중단 - 복제 지연을 알 수 없음");
+            return;
+        }
+
+        long lagMs = measured;
+        lastLagMs = lagMs;
+        if (lagMs > maxLagMs) {
+            markUnavailable("복제 지연 " + lagMs + "ms > " + maxLagMs + "ms");
+            return;
+        }
+        lastCheckNanos = System.nanoTime();
+        if (!usable) {
+            usable = true;
+            log.info("✅ 읽기 복제본 사용 재개: 복제 지연 {}ms", lagMs);
+        }
+    }
+
+    /**
+     * 복제본 사용 중지 (다음 check에서 정상이면 재개)
+     */
+    public void markUnavailable(String reason) {
+        if (usable) {
+            log.warn("⚠️ 읽기 복제본 사용 중지, primary로 전환: {}", reason);
+        }
+        usable = false;
+    }
+
+    /**
+     * 마지막 확인에서 사용 가능했고, 그 확인이 확인 주기의 2배 이내에 있었는지
+     */
+    public boolean isReplicaUsable() {
+        return usable && System.nanoTime() - lastCheckNanos <= staleAfterNanos;
+    }
+
+    public long getLastLagMs() {
+        return lastLagMs;
+    }
+}
@@ -19,7 +19,11 @@ public enum ErrorResult {
     LINK_NOT_FOUND(HttpStatus.BAD_REQUEST, "링크 삭제 중 문제가 발생했습니다."),
     UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
     PRIMARY_SUPPORTER_NOT_FOUND(HttpStatus.NOT_FOUND, "대표 보호자가 설정되지 않았습니다."),
-    GEOFENCE_ADDRESS_CONVERSION_FAILED(HttpStatus.BAD_REQUEST, "주소를 좌표로 변환하는데 실패했습니다.");
+    GEOFENCE_ADDRESS_CONVERSION_FAILED(HttpStatus.BAD_REQUEST, "주소를 좌표로 변환하는데 실패했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_SORT_PROPERTY(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다."),
+    LINK_CODE_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "발급 가능한 유저 코드가 없습니다."),
+    RETENTION_ALREADY_RUNNING(HttpStatus.CONFLICT, "보존 기간 정리가 이미 실행 중입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
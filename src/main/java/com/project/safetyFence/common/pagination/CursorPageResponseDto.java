@@ -0,0 +1,38 @@
+package com.project.safetyFence.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회한다 (마지막 페이지면 null).
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorPageResponseDto(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1건 조회한 결과로 페이지 응답 생성
+     * @param rows 최대 size + 1건
+     * @param cursorOf 항목의 커서 추출
+     * @param mapper 응답 DTO 변환
+     */
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size,
+                                                     Function<E, TimeIdCursor> cursorOf,
+                                                     Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.safetyFence.common.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 스트림의 항목을 JSON 배열로 한 건씩 기록
+ * 전체 목록을 메모리에 올리지 않으므로 이력 길이와 무관하게 힙 사용량이 일정하다.
+ */
+public final class JsonArrayStreamWriter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private JsonArrayStreamWriter() {
+    }
+
+    /**
+     * @return 기록한 항목 수
+     */
+    public static <T> long write(ObjectMapper objectMapper, OutputStream outputStream, Stream<T> items) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 컨테이너가 닫는다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            long count = 0;
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
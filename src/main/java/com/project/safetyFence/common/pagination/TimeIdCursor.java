@@ -0,0 +1,41 @@
+package com.project.safetyFence.common.pagination;
+
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.common.exception.ErrorResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) 키셋 커서
+ * 시각 내림차순 + id 내림차순으로 정렬된 목록에서 마지막으로 받은 항목을 가리킨다.
+ * 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record TimeIdCursor(LocalDateTime time, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어있으면 null (첫 페이지)
+     */
+    public static TimeIdCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TimeIdCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorResult.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.project.safetyFence.common.retention;
+
+import com.project.safetyFence.admin.stats.SystemStatistics;
+import com.project.safetyFence.common.config.SchedulingConfig;
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.common.exception.ErrorResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보존 기간이 지난 위치/로그/복약 기록 정리
+ *
+ * 엔티티를 읽지 않고 "id IN (SELECT id ... LIMIT n)" 형태의 DELETE를 청크 단위로 반복한다.
+ * 청크마다 자동 커밋되어 잠금이 짧게 유지되고, 청크 사이에는 직전 청크 소요 시간에 비례해
+ * 쉬어서(duty-cycle) 정리 작업이 DB 시간을 일정 비율 이상 쓰지 않도록 한다.
+ * 위치 기록 보관본(user_location_archive)은 원본과 같은 보존 일수로 archive_date 기준 정리한다.
+ * 보존 일수가 0 이하인 테이블은 정리하지 않는다.
+ * 예약 실행은 스케줄러 스레드를 잡지 않도록 maintenanceExecutor에서 실행한다 (SchedulingConfig 참고).
+ */
+@Slf4j
+@Component
+public class RetentionEngine {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SystemStatistics systemStatistics;
+    private final MeterRegistry meterRegistry;
+    private final Executor maintenanceExecutor;
+
+    private final Map<RetentionTarget, Integer> retentionDays = new EnumMap<>(RetentionTarget.class);
+    private final int chunkSize;
+    private final double dutyCycle;
+    private final long minPauseMs;
+    private final long maxRunMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<RetentionTarget, RetentionRunReport> lastReports = new ConcurrentHashMap<>();
+
+    public RetentionEngine(
+            JdbcTemplate jdbcTemplate,
+            SystemStatistics systemStatistics,
+            MeterRegistry meterRegistry,
+            @Qualifier(SchedulingConfig.MAINTENANCE_EXECUTOR) Executor maintenanceExecutor,
+            @Value("${retention.user-location.days:90}") int userLocationDays,
+            @Value("${retention.log.days:365}") int logDays,
+            @Value("${retention.medication-log.days:730}") int medicationLogDays,
+            @Value("${retention.chunk-size:5000}") int chunkSize,
+            @Value("${retention.duty-cycle:0.25}") double dutyCycle,
+            @Value("${retention.min-pause-ms:50}") long minPauseMs,
+            @Value("${retention.max-run-minutes:30}") long maxRunMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.systemStatistics = systemStatistics;
+        this.meterRegistry = meterRegistry;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.retentionDays.put(RetentionTarget.USER_LOCATION, userLocationDays);
+        this.retentionDays.put(RetentionTarget.USER_LOCATION_ARCHIVE, userLocationDays);
+        this.retentionDays.put(RetentionTarget.LOG, logDays);
+        this.retentionDays.put(RetentionTarget.MEDICATION_LOG, medicationLogDays);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.dutyCycle = Math.min(Math.max(dutyCycle, 0.01), 1.0);
+        this.minPauseMs = Math.max(minPauseMs, 0);
+        this.maxRunMs = TimeUnit.MINUTES.toMillis(Math.max(maxRunMinutes, 1));
+    }
+
+    /**
+     * 매일 새벽 정리
+     */
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        log.info("🧹 보존 기간 정리 스케줄러 시작");
+        maintenanceExecutor.execute(() -> {
+            try {
+                runAll();
+            } catch (CustomException e) {
+                log.warn("⚠️ 보존 기간 정리가 이미 실행 중이어서 예약 실행을 건너뜁니다.");
+            } catch (RuntimeException e) {
+                log.error("❌ 보존 기간 정리 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 설정된 모든 테이블 정리
+     * @return 테이블별 결과
+     * @throws CustomException 다른 정리가 실행 중이면 RETENTION_ALREADY_RUNNING (409)
+     */
+    public List<RetentionRunReport> runAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorResult.RETENTION_ALREADY_RUNNING);
+        }
+        try {
+            long deadline = System.currentTimeMillis() + maxRunMs;
+            List<RetentionRunReport> reports = new ArrayList<>();
+            for (RetentionTarget target : RetentionTarget.values()) {
+                int days = retentionDays.get(target);
+                if (days <= 0) {
+                    continue;
+                }
+                reports.add(purge(target, LocalDateTime.now().minusDays(days), deadline));
+            }
+            return reports;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 지정한 시각 이전 행 정리 (관리자 수동 정리용)
+     * @throws CustomException 다른 정리가 실행 중이면 RETENTION_ALREADY_RUNNING (409)
+     */
+    public RetentionRunReport purgeBefore(RetentionTarget target, LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorResult.RETENTION_ALREADY_RUNNING);
+        }
+        try {
+            return purge(target, cutoff, System.currentTimeMillis() + maxRunMs);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RetentionRunReport purge(RetentionTarget target, LocalDateTime cutoff, long deadline) {
+        String sql = "DELETE FROM " + target.getTable() + " WHERE id IN (" +
+                "SELECT id FROM " + target.getTable() + " WHERE " + target.getTimeColumn() + " < ? LIMIT ?)";
+        Object cutoffParam = target.isDateColumn()
+                ? Date.valueOf(cutoff.toLocalDate())
+                : Timestamp.valueOf(cutoff);
+
+        log.info("🧹 {} 정리 시작: cutoff={}, chunkSize={}", target.getTable(), cutoff, chunkSize);
+
+        long startNanos = System.nanoTime();
+        long deleted = 0;
+        int chunks = 0;
+        boolean completed = false;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            int removed = jdbcTemplate.update(sql, cutoffParam, chunkSize);
+            long chunkMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart);
+
+            if (removed > 0) {
+                chunks++;
+                deleted += removed;
+                onChunkDeleted(target, removed);
+            }
+            if (removed < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (chunks % 20 == 0) {
+                log.info("⏳ {} 정리 진행: {}건 삭제", target.getTable(), deleted);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("⚠️ {} 정리 실행 시간 한도 도달, 다음 실행에서 이어서 정리: {}건 삭제", target.getTable(), deleted);
+                break;
+            }
+            if (!throttle(chunkMs)) {
+                break;
+            }
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        RetentionRunReport report = new RetentionRunReport(target, cutoff, deleted, chunks, durationMs, completed);
+        lastReports.put(target, report);
+
+        meterRegistry.timer("retention.run.duration", "table", target.getTable())
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        log.info("✅ {} 정리 완료: {}건 삭제, {}청크, {}ms", target.getTable(), deleted, chunks, durationMs);
+        return report;
+    }
+
+    private void onChunkDeleted(RetentionTarget target, int removed) {
+        meterRegistry.counter("retention.rows.deleted", "table", target.getTable()).increment(removed);
+        if (target.getCountedEntity() != null) {
+            systemStatistics.onBulkDeleted(target.getCountedEntity(), removed);
+        }
+    }
+
+    /**
+     * 직전 청크 소요 시간 기준으로 쉰다 (dutyCycle 0.25면 삭제 1 : 대기 3)
+     * @return 인터럽트되면 false
+     */
+    private boolean throttle(long chunkMs) {
+        long pauseMs = Math.max(minPauseMs, (long) (chunkMs * (1 - dutyCycle) / dutyCycle));
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 테이블별 마지막 정리 결과 (모니터링용)
+    public Map<RetentionTarget, RetentionRunReport> getLastReports() {
+        return Map.copyOf(lastReports);
+    }
+}
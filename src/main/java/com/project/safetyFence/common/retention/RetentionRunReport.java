@@ -0,0 +1,17 @@
+package com.project.safetyFence.common.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 하나의 보존 기간 정리 결과
+ *
+ * @param target     대상 테이블
+ * @param cutoff     이 시각 이전 행을 삭제
+ * @param deleted    삭제한 행 수
+ * @param chunks     실행한 DELETE 청크 수
+ * @param durationMs 소요 시간 (ms, 스로틀 대기 포함)
+ * @param completed  cutoff 이전 행을 모두 지웠는지 (실행 시간 한도로 중단되면 false)
+ */
+public record RetentionRunReport(RetentionTarget target, LocalDateTime cutoff, long deleted, int chunks,
+                                 long durationMs, boolean completed) {
+}
@@ -0,0 +1,46 @@
+package com.project.safetyFence.common.retention;
+
+import com.project.safetyFence.log.domain.Log;
+
+/**
+ * 보존 기간 정리 대상 테이블
+ * 테이블/컬럼명은 코드에 고정된 값만 SQL에 사용한다.
+ */
+public enum RetentionTarget {
+
+    USER_LOCATION("user_location", "saved_time", false, null),
+    // 위치 기록 보관본 (user-location 보존 일수를 함께 사용)
+    USER_LOCATION_ARCHIVE("user_location_archive", "archive_date", true, null),
+    LOG("log", "arrive_time", false, Log.class),
+    MEDICATION_LOG("medication_log", "checked_date_time", false, null);
+
+    private final String table;
+    private final String timeColumn;
+    // 날짜(date) 컬럼이면 cutoff 날짜 이전의 하루 전체가 지난 행만 정리
+    private final boolean dateColumn;
+    // SystemStatistics에 삭제 건수를 반영할 엔티티 (집계하지 않는 테이블은 null)
+    private final Class<?> countedEntity;
+
+    RetentionTarget(String table, String timeColumn, boolean dateColumn, Class<?> countedEntity) {
+        this.table = table;
+        this.timeColumn = timeColumn;
+        this.dateColumn = dateColumn;
+        this.countedEntity = countedEntity;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getTimeColumn() {
+        return timeColumn;
+    }
+
+    public boolean isDateColumn() {
+        return dateColumn;
+    }
+
+    public Class<?> getCountedEntity() {
+        return countedEntity;
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.safetyFence.common.sequence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY -> 시퀀스 전환 (EntityManagerFactory 생성 전에 실행, JpaConfig 참고)
+ *
+ * Hibernate는 시작 시 매핑의 allocationSize와 DB 시퀀스의 INCREMENT BY가 다르면 실패하므로
+ * 기존 테이블이 있으면 먼저 다음을 맞춘다. 테이블이 없으면(새 DB) Hibernate가 시퀀스까지 만든다.
+ * - id 컬럼의 identity/기본값 제거 (id는 엔티티가 채움)
+ * - 시퀀스 생성 또는 INCREMENT BY 조정
+ * - 다음 할당 구간이 기존 최대 id보다 크도록 시퀀스 값 이동
+ * 각 단계는 카탈로그(pg_attribute, pg_sequence)와 시퀀스 상태를 먼저 확인해 다를 때만 실행하므로,
+ * 전환이 끝난 뒤의 재시작에서는 ACCESS EXCLUSIVE 잠금을 잡는 DDL을 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdSequenceMigrator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceMigrator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (Map.Entry<String, String> entry : IdSequences.TABLES.entrySet()) {
+            String table = entry.getKey();
+            String sequence = entry.getValue();
+            if (!exists(table)) {
+                continue;
+            }
+
+            boolean changed = false;
+            Map<String, Object> idColumn = jdbcTemplate.queryForMap(
+                    "SELECT attidentity <> '' AS identity, atthasdef AS has_default FROM pg_attribute " +
+                    "WHERE attrelid = to_regclass(?) AND attname = 'id'", table);
+            if (Boolean.TRUE.equals(idColumn.get("identity"))) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+                changed = true;
+            }
+            if (Boolean.TRUE.equals(idColumn.get("has_default"))) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP DEFAULT");
+                changed = true;
+            }
+
+            // identity를 지웠으면 같은 이름의 내부 시퀀스도 함께 지워졌으므로 제거 후에 확인
+            Long increment = sequenceIncrement(sequence);
+            if (increment == null) {
+                jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+                changed = true;
+            } else if (increment != IdSequences.ALLOCATION_SIZE) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+                changed = true;
+            }
+
+            if (needsAlignment(table, sequence)) {
+                long next = alignAfterMaxId(jdbcTemplate, table, sequence);
+                log.info("🔢 id 시퀀스 정렬: {} -> {} (다음 값 {})", table, sequence, next);
+            } else if (changed) {
+                log.info("🔢 id 시퀀스 전환: {} -> {}", table, sequence);
+            }
+        }
+    }
+
+    /**
+     * pooled 방식은 nextval 값을 구간의 끝으로 쓰므로 (값 - ALLOCATION_SIZE, 값] 구간이 기존 id와 겹치지 않게
+     * 다음 nextval이 max(id) + ALLOCATION_SIZE 이상이 되도록 옮긴다 (시퀀스를 되돌리지는 않음).
+     * @return 다음 nextval 값
+     */
+    public static long alignAfterMaxId(JdbcTemplate jdbcTemplate, String table, String sequence) {
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT setval('" + sequence + "', GREATEST(" +
+                "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), " +
+                "(SELECT last_value FROM " + sequence + ")) + " + IdSequences.ALLOCATION_SIZE + ", false)",
+                Long.class);
+        return next != null ? next : 0L;
+    }
+
+    private Long sequenceIncrement(String sequence) {
+        List<Long> increments = jdbcTemplate.queryForList(
+                "SELECT seqincrement FROM pg_sequence WHERE seqrelid = to_regclass(?)", Long.class, sequence);
+        return increments.isEmpty() ? null : increments.get(0);
+    }
+
+    /**
+     * 다음 nextval이 만들 구간 (값 - ALLOCATION_SIZE, 값]이 기존 최대 id와 겹치는지 확인
+     */
+    private boolean needsAlignment(String table, String sequence) {
+        Boolean needed = jdbcTemplate.queryForObject(
+                "SELECT (CASE WHEN is_called THEN last_value + " + IdSequences.ALLOCATION_SIZE + " ELSE last_value END) < " +
+                "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + IdSequences.ALLOCATION_SIZE +
+                " FROM " + sequence,
+                Boolean.class);
+        return Boolean.TRUE.equals(needed);
+    }
+
+    private boolean exists(String table) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.safetyFence.common.sequence;
+
+import java.util.Map;
+
+/**
+ * 대량 INSERT 엔티티의 id 시퀀스
+ *
+ * IDENTITY는 INSERT를 실행해야 id를 알 수 있어 Hibernate가 JDBC 배치를 쓰지 못하므로,
+ * 위치/도착 기록/복약 기록/기기 토큰은 pooled 시퀀스로 id를 미리 받아 배치로 INSERT한다.
+ * 시퀀스 한 번 호출(nextval)로 ALLOCATION_SIZE개의 id를 쓰며, DB 시퀀스의 INCREMENT BY도 같은 값이어야 한다.
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String USER_LOCATION = "user_location_id_seq";
+    public static final String LOG = "log_id_seq";
+    public static final String MEDICATION_LOG = "medication_log_id_seq";
+    public static final String DEVICE_TOKEN = "device_tokens_id_seq";
+
+    /**
+     * 테이블 -> 시퀀스
+     */
+    public static final Map<String, String> TABLES = Map.of(
+            "user_location", USER_LOCATION,
+            "log", LOG,
+            "medication_log", MEDICATION_LOG,
+            "device_tokens", DEVICE_TOKEN
+    );
+
+    private IdSequences() {
+    }
+}
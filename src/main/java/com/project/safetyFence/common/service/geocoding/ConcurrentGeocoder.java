@@ -0,0 +1,83 @@
+package com.project.safetyFence.common.service.geocoding;
+
+import com.project.safetyFence.common.service.geocoding.dto.Coordinate;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 주소를 동시에 좌표로 변환 (전체 대기 시간 제한)
+ * 외부 API 호출은 전용 스레드 풀에서 실행되므로 호출 스레드는 DB 커넥션 없이 결과만 기다린다.
+ */
+@Slf4j
+@Component
+public class ConcurrentGeocoder {
+
+    private final GeocodingService geocodingService;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    public ConcurrentGeocoder(
+            GeocodingService geocodingService,
+            @Value("${geocoding.concurrency:8}") int concurrency,
+            @Value("${geocoding.timeout-ms:5000}") long timeoutMs) {
+        this.geocodingService = geocodingService;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(concurrency, 1), r -> {
+            Thread thread = new Thread(r, "geocoding-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 주소 목록을 동시에 변환해 같은 순서로 반환
+     * 하나라도 실패하거나 시간 안에 끝나지 않으면 예외 (나머지 요청은 취소)
+     */
+    public List<Coordinate> convertAll(List<String> addresses) {
+        List<CompletableFuture<Coordinate>> futures = addresses.stream()
+                .map(address -> CompletableFuture.supplyAsync(
+                        () -> geocodingService.convertAddressToCoordinate(address), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.warn("⏱️ 지오코딩 시간 초과: {}ms, addresses={}", timeoutMs, addresses);
+            throw new IllegalStateException("주소 변환 시간이 초과되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("주소 변환에 실패했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("주소 변환이 중단되었습니다", e);
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Kakao Maps API를 사용하여 주소를 좌표로 변환하는 구현체
@@ -28,9 +29,14 @@ public class KakaoGeocodingServiceImpl implements GeocodingService {
     private final String kakaoApiKey;
 
     public KakaoGeocodingServiceImpl(RestTemplateBuilder restTemplateBuilder,
-                                     @Value("${kakao.rest.api-key}") String kakaoApiKey) {
+                                     @Value("${kakao.rest.api-key}") String kakaoApiKey,
+                                     @Value("${kakao.rest.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                     @Value("${kakao.rest.read-timeout-ms:3000}") long readTimeoutMs) {
         this.kakaoApiKey = kakaoApiKey;
-        this.restTemplate = restTemplateBuilder.build();
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
 
     @Override
@@ -0,0 +1,25 @@
+package com.project.safetyFence.dashboard;
+
+import com.project.safetyFence.dashboard.dto.DashboardResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 보호자 홈 화면 (모든 피보호자의 마지막 위치, 배터리, 오늘 복약, 마지막 도착 기록)
+     * GET /dashboard
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponseDto> getDashboard(HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        return ResponseEntity.ok(dashboardService.getDashboard(userNumber));
+    }
+}
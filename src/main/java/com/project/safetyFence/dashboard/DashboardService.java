@@ -0,0 +1,102 @@
+package com.project.safetyFence.dashboard;
+
+import com.project.safetyFence.dashboard.dto.DashboardResponseDto;
+import com.project.safetyFence.dashboard.dto.WardDashboardDto;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.location.LocationCacheService;
+import com.project.safetyFence.location.dto.BatteryUpdateDto;
+import com.project.safetyFence.location.dto.LocationUpdateDto;
+import com.project.safetyFence.log.LogRepository;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.log.dto.LogResponseDto;
+import com.project.safetyFence.medication.MedicationService;
+import com.project.safetyFence.medication.dto.MedicationCompletionDto;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.dto.UserSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 보호자 홈 화면 조립
+ *
+ * 피보호자 목록은 링크 그래프, 위치/배터리는 LocationCacheService에서 메모리로 읽고
+ * DB는 이름 1회, 위치 캐시 미스 1회, 오늘 복약 집계 1회, 마지막 도착 기록 1회로
+ * 피보호자 수와 무관하게 최대 4번만 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    // 서버 JVM 시간대와 무관하게 사용자 기준(한국) 날짜로 오늘 복약을 집계
+    private static final ZoneId DASHBOARD_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final LinkGraph linkGraph;
+    private final LocationCacheService locationCacheService;
+    private final UserRepository userRepository;
+    private final LogRepository logRepository;
+    private final MedicationService medicationService;
+
+    @Transactional(readOnly = true)
+    public DashboardResponseDto getDashboard(String supporterNumber) {
+        LocalDate today = LocalDate.now(DASHBOARD_ZONE);
+        List<LinkEdge> edges = linkGraph.getWards(supporterNumber);
+        if (edges.isEmpty()) {
+            return new DashboardResponseDto(today, List.of());
+        }
+
+        List<String> wardNumbers = edges.stream().map(LinkEdge::wardNumber).toList();
+
+        // 위치 캐시 미스는 primary에서 채우므로 첫 SQL이 되도록 먼저 조회
+        // (미스가 있으면 이 트랜잭션의 나머지 조회도 같은 primary 커넥션을 쓴다)
+        Map<String, LocationUpdateDto> locations = locationCacheService.getLatestLocations(wardNumbers);
+        Map<String, String> wardNames = userRepository.findSummariesByNumberIn(wardNumbers).stream()
+                .collect(Collectors.toMap(UserSummaryDto::getNumber, UserSummaryDto::getName));
+        Map<String, MedicationCompletionDto> medications = medicationService.getMedicationCompletion(wardNumbers, today);
+        Map<String, LogResponseDto> lastArrivals = loadLastArrivals(wardNumbers);
+
+        List<WardDashboardDto> wards = edges.stream()
+                .map(edge -> {
+                    String wardNumber = edge.wardNumber();
+                    BatteryUpdateDto battery = locationCacheService.getLatestBattery(wardNumber);
+                    MedicationCompletionDto medication = medications.get(wardNumber);
+
+                    return WardDashboardDto.builder()
+                            .linkId(edge.linkId())
+                            .wardNumber(wardNumber)
+                            .wardName(wardNames.get(wardNumber))
+                            .relation(edge.relation())
+                            .primary(edge.primary())
+                            .lastLocation(locations.get(wardNumber))
+                            .batteryLevel(battery != null ? battery.getBatteryLevel() : null)
+                            .batteryTimestamp(battery != null ? battery.getTimestamp() : null)
+                            .totalMedications(medication != null ? medication.getTotalMedications() : 0)
+                            .checkedMedications(medication != null ? medication.getCheckedMedications() : 0)
+                            .lastArrival(lastArrivals.get(wardNumber))
+                            .build();
+                })
+                .toList();
+
+        log.debug("대시보드 조회: supporter={}, wards={}", supporterNumber, wards.size());
+        return new DashboardResponseDto(today, wards);
+    }
+
+    private Map<String, LogResponseDto> loadLastArrivals(List<String> wardNumbers) {
+        // 같은 시각 기록이 여럿이면 나중에 저장된 기록
+        return logRepository.findLatestByUserNumbers(wardNumbers).stream()
+                .collect(Collectors.groupingBy(entry -> entry.getUser().getNumber(),
+                        Collectors.collectingAndThen(
+                                Collectors.maxBy(Comparator.comparing(Log::getId)),
+                                latest -> new LogResponseDto(latest.orElseThrow()))));
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.safetyFence.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class DashboardResponseDto {
+    private LocalDate date;
+    private List<WardDashboardDto> wards;
+}
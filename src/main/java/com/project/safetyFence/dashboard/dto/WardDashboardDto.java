@@ -0,0 +1,30 @@
+package com.project.safetyFence.dashboard.dto;
+
+import com.project.safetyFence.location.dto.LocationUpdateDto;
+import com.project.safetyFence.log.dto.LogResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 보호자 홈 화면의 피보호자 한 명 요약
+ * 위치/배터리/도착 기록이 없으면 해당 필드는 null
+ */
+@Getter
+@Builder
+public class WardDashboardDto {
+    private Long linkId;
+    private String wardNumber;
+    private String wardName;
+    private String relation;
+    private boolean primary;
+
+    private LocationUpdateDto lastLocation;
+
+    private Integer batteryLevel;
+    private Long batteryTimestamp;
+
+    private int totalMedications;
+    private int checkedMedications;
+
+    private LogResponseDto lastArrival;
+}
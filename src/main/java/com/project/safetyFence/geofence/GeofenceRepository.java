@@ -2,12 +2,14 @@ package com.project.safetyFence.geofence;
 
 import com.project.safetyFence.geofence.domain.Geofence;
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.user.dto.UserCountDto;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface GeofenceRepository extends JpaRepository<Geofence, Long> {
@@ -16,6 +18,15 @@ public interface GeofenceRepository extends JpaRepository<Geofence, Long> {
 
     List<Geofence> findByTypeAndEndTimeBefore(int type, LocalDateTime endTime);
 
+    long countByType(int type);
+
+    // 기간 내 시작하는 일시적 지오펜스 [start, end) - 캘린더 조회용
+    @Query("SELECT g FROM Geofence g WHERE g.user.number = :userNumber AND g.type = 1 " +
+           "AND g.startTime >= :start AND g.startTime < :end ORDER BY g.startTime, g.id")
+    List<Geofence> findTemporaryByUserNumberAndStartTimeRange(@Param("userNumber") String userNumber,
+                                                              @Param("start") LocalDateTime start,
+                                                              @Param("end") LocalDateTime end);
+
     /**
      * 특정 위치로부터 지정된 거리 내의 지오펜스 조회 (PostGIS ST_DWithin 사용)
      * @param userLocation 사용자 위치 (Point)
@@ -43,4 +54,9 @@ public interface GeofenceRepository extends JpaRepository<Geofence, Long> {
      */
     @Query(value = "SELECT ST_Distance(:point1::geography, :point2::geography)", nativeQuery = true)
     Double calculateDistance(@Param("point1") Point point1, @Param("point2") Point point2);
+
+    // 사용자별 지오펜스 수 (관리자 목록용)
+    @Query("SELECT new com.project.safetyFence.user.dto.UserCountDto(g.user.number, COUNT(g)) " +
+           "FROM Geofence g WHERE g.user.number IN :userNumbers GROUP BY g.user.number")
+    List<UserCountDto> countByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
 }
@@ -1,5 +1,6 @@
 package com.project.safetyFence.geofence;
 
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
 import com.project.safetyFence.common.exception.CustomException;
 import com.project.safetyFence.common.exception.ErrorResult;
 import com.project.safetyFence.geofence.domain.Geofence;
@@ -8,15 +9,19 @@ import com.project.safetyFence.geofence.service.InitialGeofenceCreator;
 import com.project.safetyFence.user.domain.User;
 import com.project.safetyFence.user.domain.UserAddress;
 import com.project.safetyFence.geofence.dto.GeofenceRequestDto;
+import com.project.safetyFence.geofence.dto.InitialGeofenceCoordinates;
 import com.project.safetyFence.geofence.GeofenceRepository;
 import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.common.service.geocoding.ConcurrentGeocoder;
 import com.project.safetyFence.common.service.geocoding.GeocodingService;
 import com.project.safetyFence.common.service.geocoding.dto.Coordinate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -26,18 +31,48 @@ public class GeofenceService implements InitialGeofenceCreator {
 
     private final GeofenceRepository geofenceRepository;
     private final GeocodingService geocodingService;
+    private final ConcurrentGeocoder concurrentGeocoder;
     private final UserRepository userRepository;
     private final List<GeofenceEntryHandler> entryHandlers; // 핸들러 리스트 주입
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Geofence createHomeGeofence(UserAddress userAddress) {
-        String address = userAddress.getHomeStreetAddress();
-        Coordinate coordinate = convertAddressOrThrow(address);
+        return createHomeGeofence(userAddress, convertAddressOrThrow(userAddress.getHomeStreetAddress()));
+    }
 
+    @Override
+    public Geofence createCenterGeofence(UserAddress userAddress) {
+        return createCenterGeofence(userAddress, convertAddressOrThrow(userAddress.getCenterStreetAddress()));
+    }
+
+    @Override
+    public InitialGeofenceCoordinates geocodeInitialAddresses(String homeStreetAddress, String centerStreetAddress) {
+        boolean hasCenter = centerStreetAddress != null && !centerStreetAddress.isEmpty();
+
+        List<String> addresses = new ArrayList<>();
+        addresses.add(homeStreetAddress);
+        if (hasCenter) {
+            addresses.add(centerStreetAddress);
+        }
+
+        List<Coordinate> coordinates;
+        try {
+            coordinates = concurrentGeocoder.convertAll(addresses);
+        } catch (RuntimeException e) {
+            log.warn("지오코딩 실패 - addresses={}", addresses, e);
+            throw new CustomException(ErrorResult.GEOFENCE_ADDRESS_CONVERSION_FAILED);
+        }
+
+        return new InitialGeofenceCoordinates(coordinates.get(0), hasCenter ? coordinates.get(1) : null);
+    }
+
+    @Override
+    public Geofence createHomeGeofence(UserAddress userAddress, Coordinate coordinate) {
         Geofence geofence = new Geofence(
                 userAddress.getUser(),
                 "집",
-                address,
+                userAddress.getHomeStreetAddress(),
                 coordinate.getLatitude(),
                 coordinate.getLongitude(),
                 0,
@@ -47,14 +82,11 @@ public class GeofenceService implements InitialGeofenceCreator {
     }
 
     @Override
-    public Geofence createCenterGeofence(UserAddress userAddress) {
-        String address = userAddress.getCenterStreetAddress();
-        Coordinate coordinate = convertAddressOrThrow(address);
-
+    public Geofence createCenterGeofence(UserAddress userAddress, Coordinate coordinate) {
         Geofence geofence = new Geofence(
                 userAddress.getUser(),
                 "센터",
-                address,
+                userAddress.getCenterStreetAddress(),
                 coordinate.getLatitude(),
                 coordinate.getLongitude(),
                 0,
@@ -144,6 +176,11 @@ public class GeofenceService implements InitialGeofenceCreator {
 
         user.addGeofence(geofence);
         geofenceRepository.save(geofence);
+
+        // 일시적 지오펜스만 캘린더에 표시된다
+        if (geofence.getType() == 1) {
+            eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
+        }
     }
 
     @Transactional
@@ -157,6 +194,10 @@ public class GeofenceService implements InitialGeofenceCreator {
 
         user.removeGeofence(geofenceToDelete);
         // orphanRemoval = true로 트랜잭션 종료 시 자동 삭제
+
+        if (geofenceToDelete.getType() == 1) {
+            eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
+        }
     }
 
     private Coordinate convertAddressOrThrow(String address) {
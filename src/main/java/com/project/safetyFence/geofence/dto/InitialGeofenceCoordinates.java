@@ -0,0 +1,9 @@
+package com.project.safetyFence.geofence.dto;
+
+import com.project.safetyFence.common.service.geocoding.dto.Coordinate;
+
+/**
+ * 회원가입 시 미리 변환해 둔 집/센터 좌표 (센터 주소가 없으면 center는 null)
+ */
+public record InitialGeofenceCoordinates(Coordinate home, Coordinate center) {
+}
@@ -1,10 +1,12 @@
 package com.project.safetyFence.geofence.handler;
 
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
 import com.project.safetyFence.geofence.domain.Geofence;
 import com.project.safetyFence.log.domain.Log;
 import com.project.safetyFence.notification.NotificationService;
 import com.project.safetyFence.user.domain.User;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 
@@ -12,9 +14,12 @@ import java.time.LocalDateTime;
 public abstract class BaseGeofenceEntryHandler implements GeofenceEntryHandler {
 
     protected final NotificationService notificationService;
+    protected final ApplicationEventPublisher eventPublisher;
 
-    protected BaseGeofenceEntryHandler(NotificationService notificationService) {
+    protected BaseGeofenceEntryHandler(NotificationService notificationService,
+                                       ApplicationEventPublisher eventPublisher) {
         this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -27,6 +32,9 @@ public abstract class BaseGeofenceEntryHandler implements GeofenceEntryHandler {
 
         // 3. 타입별 처리 (하위 클래스 구현)
         handleEntry(user, geofence);
+
+        // 4. 진입 로그가 추가되었으므로 캘린더 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(new CalendarChangedEvent(user.getNumber()));
     }
 
     private void saveEntryLog(User user, Geofence geofence) {
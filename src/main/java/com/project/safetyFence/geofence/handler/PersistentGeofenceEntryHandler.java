@@ -4,6 +4,7 @@ import com.project.safetyFence.geofence.domain.Geofence;
 import com.project.safetyFence.notification.NotificationService;
 import com.project.safetyFence.user.domain.User;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,8 +17,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class PersistentGeofenceEntryHandler extends BaseGeofenceEntryHandler {
 
-    public PersistentGeofenceEntryHandler(NotificationService notificationService) {
-        super(notificationService);
+    public PersistentGeofenceEntryHandler(NotificationService notificationService,
+                                         ApplicationEventPublisher eventPublisher) {
+        super(notificationService, eventPublisher);
     }
 
     @Override
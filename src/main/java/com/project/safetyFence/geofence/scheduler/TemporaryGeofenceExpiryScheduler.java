@@ -1,12 +1,15 @@
 package com.project.safetyFence.geofence.scheduler;
 
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
 import com.project.safetyFence.geofence.GeofenceRepository;
 import com.project.safetyFence.geofence.domain.Geofence;
 import com.project.safetyFence.log.domain.Log;
 import com.project.safetyFence.notification.NotificationService;
+import com.project.safetyFence.notification.domain.NotificationType;
 import com.project.safetyFence.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +29,7 @@ public class TemporaryGeofenceExpiryScheduler {
 
     private final GeofenceRepository geofenceRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(fixedDelayString = "${geofence.temporary.expiration-check-interval:60000}")
     @Transactional
@@ -53,6 +57,9 @@ public class TemporaryGeofenceExpiryScheduler {
         // 3. 지오펜스 삭제
         user.removeGeofence(geofence); // orphanRemoval = true
 
+        // 4. 만료 로그 추가/지오펜스 삭제를 캘린더에 반영 (커밋 이후)
+        eventPublisher.publishEvent(new CalendarChangedEvent(user.getNumber()));
+
         log.info("일시 지오펜스 만료: userNumber={}, geofenceId={}, name={}",
                 user.getNumber(), geofence.getId(), geofence.getName());
     }
@@ -75,6 +82,6 @@ public class TemporaryGeofenceExpiryScheduler {
         String title = "⏰ " + user.getName() + "님 일정 알림";
         String body = geofence.getName() + "에 시간 내 도착하지 않았습니다.";
 
-        notificationService.sendNotificationToSupporters(user, title, body);
+        notificationService.sendNotificationToSupporters(user, title, body, NotificationType.GEOFENCE_EXPIRED);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.project.safetyFence.geofence.service;
 
+import com.project.safetyFence.common.service.geocoding.dto.Coordinate;
 import com.project.safetyFence.geofence.domain.Geofence;
+import com.project.safetyFence.geofence.dto.InitialGeofenceCoordinates;
 import com.project.safetyFence.user.domain.UserAddress;
 
 public interface InitialGeofenceCreator {
@@ -8,4 +10,11 @@ public interface InitialGeofenceCreator {
     Geofence createHomeGeofence(UserAddress userAddress);
     Geofence createCenterGeofence(UserAddress userAddress);
 
+    // 트랜잭션 밖에서 집/센터 주소를 동시에 좌표로 변환
+    InitialGeofenceCoordinates geocodeInitialAddresses(String homeStreetAddress, String centerStreetAddress);
+
+    // 변환된 좌표로 생성 (외부 호출 없음)
+    Geofence createHomeGeofence(UserAddress userAddress, Coordinate coordinate);
+    Geofence createCenterGeofence(UserAddress userAddress, Coordinate coordinate);
+
 }
@@ -1,8 +1,16 @@
 package com.project.safetyFence.link;
 
+import com.project.safetyFence.admin.dto.AdminLinkResponseDto;
 import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.user.dto.UserCountDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LinkRepository extends JpaRepository<Link, Long> {
@@ -12,4 +20,42 @@ public interface LinkRepository extends JpaRepository<Link, Long> {
      * 피보호자 번호(user_number)에 매핑된 보호자 링크들을 조회한다.
      */
     List<Link> findByUserNumber(String userNumber);
+
+    // 링크 그래프 적재용 (엔티티/사용자 로딩 없이 간선만 조회)
+    @Query("SELECT new com.project.safetyFence.link.graph.LinkEdge(l.id, l.user.number, l.userNumber, l.relation, l.isPrimary) " +
+           "FROM Link l")
+    List<LinkEdge> findAllEdges();
+
+    @Query("SELECT new com.project.safetyFence.link.graph.LinkEdge(l.id, l.user.number, l.userNumber, l.relation, l.isPrimary) " +
+           "FROM Link l WHERE l.userNumber = :wardNumber ORDER BY l.id")
+    List<LinkEdge> findEdgesByWardNumber(@Param("wardNumber") String wardNumber);
+
+    @Query("SELECT new com.project.safetyFence.link.graph.LinkEdge(l.id, l.user.number, l.userNumber, l.relation, l.isPrimary) " +
+           "FROM Link l WHERE l.user.number = :supporterNumber ORDER BY l.id")
+    List<LinkEdge> findEdgesBySupporterNumber(@Param("supporterNumber") String supporterNumber);
+
+    // 사용자별 보유 링크 수 (Link.user 기준, 관리자 목록용)
+    @Query("SELECT new com.project.safetyFence.user.dto.UserCountDto(l.user.number, COUNT(l)) " +
+           "FROM Link l WHERE l.user.number IN :userNumbers GROUP BY l.user.number")
+    List<UserCountDto> countByOwnerNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    // 사용자 번호가 userNumber로 매핑된 링크 수 (관리자 목록용)
+    @Query("SELECT new com.project.safetyFence.user.dto.UserCountDto(l.userNumber, COUNT(l)) " +
+           "FROM Link l WHERE l.userNumber IN :userNumbers GROUP BY l.userNumber")
+    List<UserCountDto> countByLinkedNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    /**
+     * 관리자 링크 목록 (페이지)
+     * 양쪽 사용자 이름을 한 번의 조인으로 가져온다. userNumber에 해당하는 사용자가 없으면 이름은 '알 수 없음'.
+     * keyword는 LIKE 패턴 (전체 조회 시 "%")
+     */
+    @Query(value = "SELECT new com.project.safetyFence.admin.dto.AdminLinkResponseDto(" +
+                   "l.id, w.number, w.name, l.userNumber, COALESCE(g.name, '알 수 없음'), l.relation, l.isPrimary) " +
+                   "FROM Link l JOIN l.user w LEFT JOIN User g ON g.number = l.userNumber " +
+                   "WHERE w.number LIKE :keyword OR w.name LIKE :keyword " +
+                   "OR l.userNumber LIKE :keyword OR g.name LIKE :keyword",
+           countQuery = "SELECT COUNT(l) FROM Link l JOIN l.user w LEFT JOIN User g ON g.number = l.userNumber " +
+                        "WHERE w.number LIKE :keyword OR w.name LIKE :keyword " +
+                        "OR l.userNumber LIKE :keyword OR g.name LIKE :keyword")
+    Page<AdminLinkResponseDto> findAdminLinkPage(@Param("keyword") String keyword, Pageable pageable);
 }
@@ -8,6 +8,7 @@ import com.project.safetyFence.link.dto.SupporterResponseDto;
 import com.project.safetyFence.common.exception.CustomException;
 import com.project.safetyFence.common.exception.ErrorResult;
 import com.project.safetyFence.link.LinkRepository;
+import com.project.safetyFence.link.graph.LinkGraph;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.location.LocationCacheService;
 import com.project.safetyFence.location.dto.BatteryUpdateDto;
@@ -24,6 +25,7 @@ public class LinkService {
     private final LinkRepository linkRepository;
     private final UserRepository userRepository;
     private final LocationCacheService cacheService;
+    private final LinkGraph linkGraph;
 
     @Transactional
     public List<LinkResponseDto> getUserLink(String userNumber) {
@@ -67,7 +69,7 @@ public class LinkService {
 
         // 1. targetUser null 체크
         User targetUser = userRepository.findByLinkCode(linkCode);
-        if (targetUser == null) {
+        if (targetUser == null || targetUser.isDisabled()) {
             throw new CustomException(ErrorResult.LINK_CODE_NOT_EXIST);
         }
 
@@ -105,7 +107,7 @@ public class LinkService {
     }
 
     public boolean hasLink(String subscriberNumber, String targetUserNumber) {
-        return linkRepository.existsByUser_NumberAndUserNumber(subscriberNumber, targetUserNumber);
+        return linkGraph.hasLink(subscriberNumber, targetUserNumber);
     }
 
     /**
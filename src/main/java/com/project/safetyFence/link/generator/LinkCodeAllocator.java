@@ -0,0 +1,148 @@
+package com.project.safetyFence.link.generator;
+
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.common.exception.ErrorResult;
+import com.project.safetyFence.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.SecureRandom;
+import java.util.BitSet;
+
+/**
+ * 6자리 유저 코드(linkCode) 할당기
+ *
+ * 사용 중인 코드를 1,000,000비트 비트맵(약 122KB)으로 들고 있어 빈 코드를 DB 조회 없이 고른다.
+ * 임의의 위치에서 다음 빈 비트를 찾으므로 사용률이 낮으면 첫 시도에 끝나고,
+ * 비트 설정이 락 안에서 이뤄져 동시 가입도 같은 코드를 받지 않는다.
+ * 할당한 트랜잭션이 롤백되면 코드를 반납하고, 다른 경로의 사용자 추가/삭제는 LinkCodeEntityListener가 반영한다.
+ */
+@Slf4j
+@Component
+public class LinkCodeAllocator {
+
+    static final int CODE_SPACE = 1_000_000;
+    private static final int CODE_LENGTH = 6;
+
+    private final UserRepository userRepository;
+    private final SecureRandom random = new SecureRandom();
+    private final Counter allocations;
+
+    // 아래 필드는 this 락으로 보호
+    private final BitSet used = new BitSet(CODE_SPACE);
+    private int usedCount = 0;
+    private boolean loaded = false;
+
+    public LinkCodeAllocator(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.allocations = Counter.builder("safetyfence.linkcode.allocations").register(meterRegistry);
+        Gauge.builder("safetyfence.linkcode.used", this, LinkCodeAllocator::getUsedCount)
+                .register(meterRegistry);
+        Gauge.builder("safetyfence.linkcode.utilization", this, LinkCodeAllocator::getUtilization)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        // 적재 전에 커밋된 코드가 이미 표시되어 있을 수 있으므로 비우지 않고 합친다
+        userRepository.findAllLinkCodes().forEach(this::markUsedLocked);
+        loaded = true;
+        log.info("🔢 유저 코드 비트맵 적재 완료: 사용 {}개 / {}개 ({}%)",
+                usedCount, CODE_SPACE, String.format("%.2f", getUtilization() * 100));
+    }
+
+    /**
+     * 사용되지 않은 코드를 골라 사용 중으로 표시한 뒤 반환
+     * 현재 트랜잭션이 롤백되면 코드는 자동 반납된다.
+     */
+    public synchronized String allocate() {
+        if (!loaded) {
+            load();
+        }
+        if (usedCount >= CODE_SPACE) {
+            throw new CustomException(ErrorResult.LINK_CODE_EXHAUSTED);
+        }
+
+        int code = used.nextClearBit(random.nextInt(CODE_SPACE));
+        if (code >= CODE_SPACE) {
+            code = used.nextClearBit(0);
+        }
+        used.set(code);
+        usedCount++;
+        allocations.increment();
+
+        String linkCode = format(code);
+        releaseOnRollback(linkCode);
+        return linkCode;
+    }
+
+    public synchronized void markUsed(String linkCode) {
+        markUsedLocked(linkCode);
+    }
+
+    public synchronized void release(String linkCode) {
+        int code = parse(linkCode);
+        if (code >= 0 && used.get(code)) {
+            used.clear(code);
+            usedCount--;
+        }
+    }
+
+    public synchronized int getUsedCount() {
+        return usedCount;
+    }
+
+    public double getUtilization() {
+        return (double) getUsedCount() / CODE_SPACE;
+    }
+
+    private void markUsedLocked(String linkCode) {
+        int code = parse(linkCode);
+        if (code >= 0 && !used.get(code)) {
+            used.set(code);
+            usedCount++;
+        }
+    }
+
+    private void releaseOnRollback(String linkCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(linkCode);
+                }
+            }
+        });
+    }
+
+    private static String format(int code) {
+        return String.format("%0" + CODE_LENGTH + "d", code);
+    }
+
+    // 6자리 숫자가 아닌 코드(테스트/수동 입력 등)는 비트맵 대상이 아님
+    private static int parse(String linkCode) {
+        if (linkCode == null || linkCode.length() != CODE_LENGTH) {
+            return -1;
+        }
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            char c = linkCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return Integer.parseInt(linkCode);
+    }
+}
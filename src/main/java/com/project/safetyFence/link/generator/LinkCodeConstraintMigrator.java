@@ -0,0 +1,56 @@
+package com.project.safetyFence.link.generator;
+
+import com.project.safetyFence.user.domain.User;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * users.link_code 유니크 제약 추가 (EntityManagerFactory 생성 전에 실행, JpaConfig 참고)
+ *
+ * 비트맵 할당기는 인스턴스마다 따로 있어 여러 인스턴스가 같은 코드를 고를 수 있으므로
+ * 최종 중복 방지는 DB 제약이 맡는다. 이미 제약이 있거나 테이블이 없으면(새 DB) 아무것도 하지 않고,
+ * 기존 데이터에 중복 코드가 있으면 제약을 추가할 수 없으므로 경고만 남기고 건너뛴다.
+ */
+@Slf4j
+@Component
+public class LinkCodeConstraintMigrator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LinkCodeConstraintMigrator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!exists("users") || constraintExists()) {
+            return;
+        }
+
+        Integer duplicated = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT link_code FROM users GROUP BY link_code HAVING COUNT(*) > 1) d",
+                Integer.class);
+        if (duplicated != null && duplicated > 0) {
+            log.error("❌ 중복된 유저 코드 {}개가 있어 유니크 제약을 추가하지 못했습니다. 중복 코드를 정리한 뒤 재시작하세요.",
+                    duplicated);
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT " + User.LINK_CODE_CONSTRAINT + " UNIQUE (link_code)");
+        log.info("🔢 유저 코드 유니크 제약 추가: {}", User.LINK_CODE_CONSTRAINT);
+    }
+
+    private boolean constraintExists() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ? AND conrelid = 'users'::regclass)",
+                Boolean.class, User.LINK_CODE_CONSTRAINT);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean exists(String table) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+        return Boolean.TRUE.equals(exists);
+    }
+}
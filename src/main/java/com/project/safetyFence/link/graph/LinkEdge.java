@@ -0,0 +1,24 @@
+package com.project.safetyFence.link.graph;
+
+import com.project.safetyFence.link.domain.Link;
+
+/**
+ * 링크 그래프의 간선 (보호자 -> 피보호자)
+ * supporterNumber = Link.user(소유자), wardNumber = Link.userNumber
+ */
+public record LinkEdge(Long linkId, String supporterNumber, String wardNumber, String relation, boolean primary) {
+
+    // JPQL 생성자 프로젝션용 (isPrimary 컬럼은 Boolean)
+    public LinkEdge(Long linkId, String supporterNumber, String wardNumber, String relation, Boolean primary) {
+        this(linkId, supporterNumber, wardNumber, relation, Boolean.TRUE.equals(primary));
+    }
+
+    public static LinkEdge from(Link link) {
+        return new LinkEdge(link.getId(), link.getUser().getNumber(), link.getUserNumber(),
+                link.getRelation(), link.getIsPrimary());
+    }
+
+    public LinkEdge withState(String relation, boolean primary) {
+        return new LinkEdge(linkId, supporterNumber, wardNumber, relation, primary);
+    }
+}
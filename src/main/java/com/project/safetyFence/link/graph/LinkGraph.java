@@ -0,0 +1,333 @@
+package com.project.safetyFence.link.graph;
+
+import com.project.safetyFence.link.LinkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 보호자-피보호자 링크 인메모리 그래프
+ *
+ * 피보호자 -> 보호자, 보호자 -> 피보호자 양방향 인접 맵을 유지해
+ * 권한 확인과 알림 팬아웃 대상 조회를 DB 조회 없이 맵 조회로 처리한다.
+ * 시작 시 전체 링크를 적재하고, 이후 변경(링크 추가/삭제, 대표 보호자 설정, 관리자 삭제, 사용자 삭제 cascade)은
+ * LinkGraphEntityListener가 Hibernate 이벤트로 반영한다. 적재 전에는 DB를 직접 조회한다.
+ * 트랜잭션 안의 변경은 커밋 후에 공유 그래프에 반영되므로 다른 스레드는 커밋되지 않은 링크를 보지 않고,
+ * 변경한 트랜잭션 자신은 트랜잭션 로컬 변경분(PendingLinkChanges)을 덧씌운 결과를 본다.
+ * 엔티티 이벤트 없이 JDBC로 지우는 탈퇴 작업은 removeUser로 직접 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LinkGraph {
+
+    private static final Comparator<LinkEdge> BY_LINK_ID = Comparator.comparing(LinkEdge::linkId);
+
+    private final LinkRepository linkRepository;
+
+    private final Map<Long, LinkEdge> edgesById = new ConcurrentHashMap<>();
+    // 피보호자 번호 -> (보호자 번호 -> 링크)
+    private final Map<String, Map<String, LinkEdge>> supportersByWard = new ConcurrentHashMap<>();
+    // 보호자 번호 -> (피보호자 번호 -> 링크)
+    private final Map<String, Map<String, LinkEdge>> wardsBySupporter = new ConcurrentHashMap<>();
+
+    // 현재 트랜잭션의 커밋 전 변경분을 찾는 트랜잭션 리소스 키
+    private final Object pendingKey = new Object();
+
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<LinkEdge> edges = linkRepository.findAllEdges();
+
+        edgesById.clear();
+        supportersByWard.clear();
+        wardsBySupporter.clear();
+        edges.forEach(this::index);
+        loaded = true;
+
+        log.info("🔗 링크 그래프 적재 완료: 링크 {}건, 피보호자 {}명, 보호자 {}명",
+                edgesById.size(), supportersByWard.size(), wardsBySupporter.size());
+    }
+
+    /**
+     * 보호자가 피보호자를 링크로 등록했는지 확인 (단방향)
+     */
+    public boolean hasLink(String supporterNumber, String wardNumber) {
+        if (supporterNumber == null || wardNumber == null) {
+            return false;
+        }
+        if (!loaded) {
+            return linkRepository.existsByUser_NumberAndUserNumber(supporterNumber, wardNumber);
+        }
+        Map<String, LinkEdge> supporters = supportersOf(wardNumber);
+        return supporters != null && supporters.containsKey(supporterNumber);
+    }
+
+    /**
+     * 피보호자를 등록한 보호자 링크 목록 (링크 ID 순)
+     */
+    public List<LinkEdge> getSupporters(String wardNumber) {
+        if (!loaded) {
+            return linkRepository.findEdgesByWardNumber(wardNumber);
+        }
+        return sorted(supportersOf(wardNumber));
+    }
+
+    /**
+     * 보호자가 등록한 피보호자 링크 목록 (링크 ID 순)
+     */
+    public List<LinkEdge> getWards(String supporterNumber) {
+        if (!loaded) {
+            return linkRepository.findEdgesBySupporterNumber(supporterNumber);
+        }
+        return sorted(wardsOf(supporterNumber));
+    }
+
+    /**
+     * 피보호자의 대표 보호자 링크
+     */
+    public Optional<LinkEdge> getPrimarySupporter(String wardNumber) {
+        return getSupporters(wardNumber).stream()
+                .filter(LinkEdge::primary)
+                .findFirst();
+    }
+
+    /**
+     * 사용자가 보호자 또는 피보호자인 링크를 모두 제거 (벌크 삭제 후 호출)
+     * @return 제거한 링크 수
+     */
+    public synchronized int removeUser(String userNumber) {
+        List<LinkEdge> edges = new ArrayList<>();
+        Map<String, LinkEdge> supporters = supportersByWard.get(userNumber);
+        if (supporters != null) {
+            edges.addAll(supporters.values());
+        }
+        Map<String, LinkEdge> wards = wardsBySupporter.get(userNumber);
+        if (wards != null) {
+            edges.addAll(wards.values());
+        }
+        edges.forEach(this::unindex);
+        return edges.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return edgesById.size();
+    }
+
+    // ========== 변경 반영 (LinkGraphEntityListener 전용) ==========
+
+    /**
+     * 현재 트랜잭션에서 보이는 링크 (커밋 전 변경분 포함)
+     */
+    LinkEdge get(Long linkId) {
+        PendingLinkChanges pending = currentPending();
+        if (pending != null && pending.touches(linkId)) {
+            return pending.get(linkId);
+        }
+        return edgesById.get(linkId);
+    }
+
+    /**
+     * 링크 추가/수정 - 트랜잭션 안이면 커밋 후 반영
+     */
+    void stagePut(LinkEdge edge) {
+        PendingLinkChanges pending = pendingForWrite();
+        if (pending == null) {
+            put(edge);
+            return;
+        }
+        pending.put(edge);
+    }
+
+    /**
+     * 링크 삭제 - 트랜잭션 안이면 커밋 후 반영
+     */
+    void stageRemove(Long linkId) {
+        PendingLinkChanges pending = pendingForWrite();
+        if (pending == null) {
+            remove(linkId);
+            return;
+        }
+        pending.remove(linkId);
+    }
+
+    synchronized void put(LinkEdge edge) {
+        LinkEdge previous = edgesById.get(edge.linkId());
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(edge);
+    }
+
+    synchronized void remove(Long linkId) {
+        LinkEdge previous = edgesById.get(linkId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private Map<String, LinkEdge> supportersOf(String wardNumber) {
+        return withPending(supportersByWard.get(wardNumber),
+                edge -> edge.wardNumber().equals(wardNumber), LinkEdge::supporterNumber);
+    }
+
+    private Map<String, LinkEdge> wardsOf(String supporterNumber) {
+        return withPending(wardsBySupporter.get(supporterNumber),
+                edge -> edge.supporterNumber().equals(supporterNumber), LinkEdge::wardNumber);
+    }
+
+    // 커밋된 인접 맵에 현재 트랜잭션의 변경분을 덧씌운다 (변경분이 없으면 그대로 반환)
+    private Map<String, LinkEdge> withPending(Map<String, LinkEdge> committed, Predicate<LinkEdge> belongs,
+                                              Function<LinkEdge, String> neighborOf) {
+        PendingLinkChanges pending = currentPending();
+        if (pending == null || pending.isEmpty()) {
+            return committed;
+        }
+        Map<String, LinkEdge> merged = new HashMap<>();
+        if (committed != null) {
+            committed.forEach((neighbor, edge) -> {
+                if (!pending.touches(edge.linkId())) {
+                    merged.put(neighbor, edge);
+                }
+            });
+        }
+        pending.edges().stream()
+                .filter(belongs)
+                .forEach(edge -> merged.put(neighborOf.apply(edge), edge));
+        return merged;
+    }
+
+    private PendingLinkChanges currentPending() {
+        return (PendingLinkChanges) TransactionSynchronizationManager.getResource(pendingKey);
+    }
+
+    private PendingLinkChanges pendingForWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingLinkChanges pending = currentPending();
+        if (pending == null) {
+            pending = new PendingLinkChanges();
+            TransactionSynchronizationManager.bindResource(pendingKey, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void index(LinkEdge edge) {
+        edgesById.put(edge.linkId(), edge);
+        supportersByWard.computeIfAbsent(edge.wardNumber(), key -> new ConcurrentHashMap<>())
+                .put(edge.supporterNumber(), edge);
+        wardsBySupporter.computeIfAbsent(edge.supporterNumber(), key -> new ConcurrentHashMap<>())
+                .put(edge.wardNumber(), edge);
+    }
+
+    private void unindex(LinkEdge edge) {
+        edgesById.remove(edge.linkId());
+        detach(supportersByWard, edge.wardNumber(), edge.supporterNumber(), edge);
+        detach(wardsBySupporter, edge.supporterNumber(), edge.wardNumber(), edge);
+    }
+
+    private static void detach(Map<String, Map<String, LinkEdge>> adjacency, String key, String neighbor, LinkEdge edge) {
+        Map<String, LinkEdge> neighbors = adjacency.get(key);
+        if (neighbors == null) {
+            return;
+        }
+        // 같은 쌍을 다른 링크가 덮어쓴 경우에는 그 항목을 유지
+        neighbors.remove(neighbor, edge);
+        if (neighbors.isEmpty()) {
+            adjacency.remove(key);
+        }
+    }
+
+    /**
+     * 트랜잭션 단위 커밋 전 변경분 (링크 ID -> 변경 후 간선, 삭제면 null)
+     * 커밋되면 공유 그래프에 반영하고, 롤백되면 버린다.
+     */
+    private class PendingLinkChanges implements TransactionSynchronization {
+
+        private final Map<Long, LinkEdge> changes = new LinkedHashMap<>();
+
+        void put(LinkEdge edge) {
+            changes.put(edge.linkId(), edge);
+        }
+
+        void remove(Long linkId) {
+            changes.put(linkId, null);
+        }
+
+        boolean touches(Long linkId) {
+            return changes.containsKey(linkId);
+        }
+
+        LinkEdge get(Long linkId) {
+            return changes.get(linkId);
+        }
+
+        boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        List<LinkEdge> edges() {
+            return changes.values().stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(pendingKey);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(pendingKey, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            changes.forEach((linkId, edge) -> {
+                if (edge != null) {
+                    LinkGraph.this.put(edge);
+                } else {
+                    LinkGraph.this.remove(linkId);
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+        }
+    }
+
+    private static List<LinkEdge> sorted(Map<String, LinkEdge> neighbors) {
+        if (neighbors == null) {
+            return List.of();
+        }
+        return neighbors.values().stream()
+                .sorted(BY_LINK_ID)
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.safetyFence.link.graph;
+
+import com.project.safetyFence.link.domain.Link;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Link 추가/수정/삭제를 LinkGraph에 반영하는 Hibernate 리스너
+ *
+ * SQL 실행 시점에는 트랜잭션 로컬 변경분에만 기록하고 커밋 후에 공유 그래프에 반영하므로
+ * 다른 스레드의 권한 확인은 커밋되지 않은 링크를 보지 않는다. 같은 트랜잭션의 이후 권한 확인은
+ * 변경분을 덧씌워 보고, 롤백되면 변경분을 버린다 (LinkGraph 참고).
+ * 서비스 메서드뿐 아니라 cascade/orphanRemoval로 지워지는 링크도 모두 이 경로를 지난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkGraphEntityListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final LinkGraph linkGraph;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!(event.getEntity() instanceof Link link)) {
+            return;
+        }
+        linkGraph.stagePut(LinkEdge.from(link));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Link link)) {
+            return;
+        }
+        LinkEdge previous = linkGraph.get(link.getId());
+        LinkEdge edge = previous != null
+                ? previous.withState(link.getRelation(), Boolean.TRUE.equals(link.getIsPrimary()))
+                : LinkEdge.from(link);
+        linkGraph.stagePut(edge);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!(event.getEntity() instanceof Link)) {
+            return;
+        }
+        Long linkId = (Long) event.getId();
+        if (linkGraph.get(linkId) == null) {
+            return;
+        }
+        linkGraph.stageRemove(linkId);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
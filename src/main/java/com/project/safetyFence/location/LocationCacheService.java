@@ -2,15 +2,17 @@ package com.project.safetyFence.location;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.common.datasource.PrimaryReads;
 import com.project.safetyFence.location.dto.BatteryUpdateDto;
+import com.project.safetyFence.location.dto.LatestLocationRow;
 import com.project.safetyFence.location.dto.LocationUpdateDto;
-import com.project.safetyFence.user.UserRepository;
-import com.project.safetyFence.user.domain.User;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -19,11 +21,9 @@ public class LocationCacheService {
 
     private final Cache<String, LocationUpdateDto> locationCache;
     private final Cache<String, BatteryUpdateDto> batteryCache;
-    private final UserRepository userRepository;
     private final UserLocationRepository userLocationRepository;
 
-    public LocationCacheService(UserRepository userRepository, UserLocationRepository userLocationRepository) {
-        this.userRepository = userRepository;
+    public LocationCacheService(UserLocationRepository userLocationRepository) {
         this.userLocationRepository = userLocationRepository;
         this.locationCache = Caffeine.newBuilder()
                 .maximumSize(10_000)
@@ -88,48 +88,84 @@ public class LocationCacheService {
      * @return 위치 정보 (없으면 null)
      */
     public LocationUpdateDto getLatestLocationWithFallback(String userNumber) {
-        // 1. 캐시 먼저 조회
-        LocationUpdateDto cached = getLatestLocation(userNumber);
-        if (cached != null) {
-            log.debug("캐시 히트: userNumber={}", userNumber);
-            return cached;
+        return getLatestLocations(List.of(userNumber)).get(userNumber);
+    }
+
+    /**
+     * 여러 사용자의 최신 위치 일괄 조회
+     * 캐시 히트는 그대로 쓰고, 미스는 primary에서 쿼리 한 번으로 조회해 캐시에 한꺼번에 채운다.
+     * (재시작 직후 보호자 한 명이 피보호자 N명을 열어도 쿼리는 1번)
+     *
+     * @param userNumbers 사용자 번호 목록
+     * @return 사용자 번호 -> 위치 (캐시/DB 모두 위치가 없는 사용자는 제외)
+     */
+    public Map<String, LocationUpdateDto> getLatestLocations(Collection<String> userNumbers) {
+        Map<String, LocationUpdateDto> locations = new HashMap<>(locationCache.getAllPresent(userNumbers));
+
+        List<String> misses = userNumbers.stream()
+                .filter(userNumber -> !locations.containsKey(userNumber))
+                .distinct()
+                .toList();
+        if (misses.isEmpty()) {
+            log.debug("위치 캐시 일괄 조회 - 전체 히트: {}명", locations.size());
+            return locations;
         }
 
-        // 2. 캐시 미스 → DB 조회
-        log.debug("캐시 미스, DB 조회 시도: userNumber={}", userNumber);
+        log.debug("위치 캐시 미스, DB 일괄 조회 시도: {}명", misses.size());
 
         try {
-            User user = userRepository.findByNumber(userNumber);
-            if (user == null) {
-                log.warn("사용자를 찾을 수 없음: userNumber={}", userNumber);
-                return null;
+            Map<String, LocationUpdateDto> loaded = new HashMap<>();
+            List<LatestLocationRow> rows = PrimaryReads.call(() -> userLocationRepository.findLatestByUserNumbers(misses));
+            for (LatestLocationRow row : rows) {
+                loaded.put(row.getUserNumber(), toLocationDto(row));
+                restoreBattery(row);
             }
 
-            UserLocation dbLocation = userLocationRepository.findLatestByUser(user).orElse(null);
-            if (dbLocation == null) {
-                log.warn("위치 데이터 없음 (캐시/DB 모두): userNumber={}", userNumber);
-                return null;
+            // DB 데이터를 캐시에 저장 (캐시 워밍)
+            locationCache.putAll(loaded);
+            locations.putAll(loaded);
+
+            if (loaded.size() < misses.size()) {
+                log.debug("위치 데이터 없음 (캐시/DB 모두): {}명", misses.size() - loaded.size());
             }
+            log.info("DB 일괄 조회 성공 및 캐시 갱신: 요청 {}명, 캐시 히트 {}명, DB {}명",
+                    userNumbers.size(), userNumbers.size() - misses.size(), loaded.size());
+        } catch (Exception e) {
+            log.error("DB 일괄 조회 중 오류 발생: users={}, error={}", misses, e.getMessage(), e);
+        }
 
-            // 3. DB 데이터를 DTO로 변환
-            LocationUpdateDto dto = new LocationUpdateDto(
-                userNumber,
-                dbLocation.getLatitude(),
-                dbLocation.getLongitude(),
-                dbLocation.getSavedTime().toInstant(ZoneOffset.UTC).toEpochMilli()
-            );
+        return locations;
+    }
 
-            // 4. DB 데이터를 캐시에 저장 (캐시 워밍)
-            updateLocation(userNumber, dto);
-            log.info("DB 조회 성공 및 캐시 갱신: userNumber={}, lat={}, lng={}",
-                userNumber, dto.getLatitude(), dto.getLongitude());
+    /**
+     * 시작 시 캐시 워밍 - DB에서 읽은 최근 위치/배터리로 캐시 채우기
+     * 워밍 도중 단말이 보고한 더 최신 값이 이미 있으면 덮어쓰지 않는다.
+     *
+     * @return 위치 캐시에 새로 채웠으면 true
+     */
+    public boolean warmUp(LatestLocationRow row) {
+        restoreBattery(row);
+        return locationCache.asMap().putIfAbsent(row.getUserNumber(), toLocationDto(row)) == null;
+    }
 
-            return dto;
+    private LocationUpdateDto toLocationDto(LatestLocationRow row) {
+        LocationUpdateDto dto = new LocationUpdateDto(
+                row.getUserNumber(),
+                row.getLatitude(),
+                row.getLongitude(),
+                row.getEpochMillis()
+        );
+        dto.setBatteryLevel(row.getBatteryLevel());
+        return dto;
+    }
 
-        } catch (Exception e) {
-            log.error("DB 조회 중 오류 발생: userNumber={}, error={}", userNumber, e.getMessage(), e);
-            return null;
+    // 위치와 함께 저장된 배터리 잔량으로 배터리 캐시 복원 (단말 보고값이 있으면 유지)
+    private void restoreBattery(LatestLocationRow row) {
+        if (row.getBatteryLevel() == null) {
+            return;
         }
+        batteryCache.asMap().putIfAbsent(row.getUserNumber(),
+                new BatteryUpdateDto(row.getUserNumber(), row.getBatteryLevel(), row.getEpochMillis()));
     }
 
     // ========== 배터리 캐시 메서드 ==========
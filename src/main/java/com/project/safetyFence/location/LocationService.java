@@ -1,6 +1,8 @@
 package com.project.safetyFence.location;
 
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.location.archive.LocationArchiveService;
+import com.project.safetyFence.location.archive.TrailPoint;
 import com.project.safetyFence.location.domain.UserLocation;
 import com.project.safetyFence.location.dto.DailyDistanceResponseDto;
 import com.project.safetyFence.location.dto.LocationUpdateDto;
@@ -16,8 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +30,7 @@ public class LocationService {
     private final UserRepository userRepository;
     private final UserLocationRepository userLocationRepository;
     private final LocationSaveStrategy locationSaveStrategy; // 전략 패턴 적용
+    private final LocationArchiveService locationArchiveService;
 
     @Async
     @Transactional
@@ -60,7 +61,8 @@ public class LocationService {
         UserLocation userLocation = new UserLocation(
                 user,
                 BigDecimal.valueOf(locationDto.getLatitude()),
-                BigDecimal.valueOf(locationDto.getLongitude())
+                BigDecimal.valueOf(locationDto.getLongitude()),
+                locationDto.getBatteryLevel()
         );
 
         user.addUserLocation(userLocation);
@@ -111,19 +113,13 @@ public class LocationService {
      */
     @Transactional(readOnly = true)
     public DailyDistanceResponseDto calculateDailyDistance(String userNumber, LocalDate date) {
-        User user = userRepository.findByNumber(userNumber);
-        if (user == null) {
+        if (!userRepository.existsByNumber(userNumber)) {
             log.warn("일일 이동거리 조회 실패: 사용자 없음 userNumber={}", userNumber);
             return new DailyDistanceResponseDto(userNumber, date, 0.0, 0);
         }
 
-        // 해당 날짜의 시작과 끝
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        // 위치 이력 조회 (시간순 정렬)
-        List<UserLocation> locations = userLocationRepository
-                .findByUserAndTimeRangeOrderByTimeAsc(user, startOfDay, endOfDay);
+        // 위치 이력 조회 (시간순 정렬, 압축 보관된 날짜는 보관본을 풀어서 사용)
+        List<TrailPoint> locations = locationArchiveService.loadDailyTrail(userNumber, date);
 
         if (locations.isEmpty()) {
             log.debug("일일 이동거리: 위치 기록 없음 userNumber={}, date={}", userNumber, date);
@@ -135,16 +131,16 @@ public class LocationService {
         int validSegments = 0;
 
         for (int i = 1; i < locations.size(); i++) {
-            UserLocation prev = locations.get(i - 1);
-            UserLocation curr = locations.get(i);
+            TrailPoint prev = locations.get(i - 1);
+            TrailPoint curr = locations.get(i);
 
             double distance = calculateDistance(
-                    prev.getLatitude(), prev.getLongitude(),
-                    curr.getLatitude(), curr.getLongitude()
+                    prev.latitude(), prev.longitude(),
+                    curr.latitude(), curr.longitude()
             );
 
             // 시간 차이 계산 (초)
-            long timeDiffSeconds = Duration.between(prev.getSavedTime(), curr.getSavedTime()).getSeconds();
+            long timeDiffSeconds = Duration.between(prev.time(), curr.time()).getSeconds();
 
             if (timeDiffSeconds > 0) {
                 double speedMps = distance / timeDiffSeconds;  // m/s
@@ -1,5 +1,6 @@
 package com.project.safetyFence.location;
 
+import com.project.safetyFence.admin.stats.SystemStatistics;
 import com.project.safetyFence.location.dto.BatteryUpdateDto;
 import com.project.safetyFence.location.dto.LocationUpdateDto;
 import com.project.safetyFence.location.LocationCacheService;
@@ -25,6 +26,7 @@ public class LocationWebSocketController {
     private final LocationCacheService cacheService;
     private final LocationService locationService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final SystemStatistics systemStatistics;
 
     /**
      * WebSocket 위치 업데이트
@@ -93,6 +95,8 @@ public class LocationWebSocketController {
         log.debug("위치 업데이트 처리: userNumber={}, lat={}, lng={}, battery={}",
                 userNumber, location.getLatitude(), location.getLongitude(), location.getBatteryLevel());
 
+        systemStatistics.recordLocationUpdate();
+
         // 1. 캐시에 최신 위치 저장
         cacheService.updateLocation(userNumber, location);
 
@@ -0,0 +1,16 @@
+package com.project.safetyFence.location;
+
+import com.project.safetyFence.location.domain.UserLocationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface UserLocationArchiveRepository extends JpaRepository<UserLocationArchive, Long> {
+
+    @Query("SELECT a FROM UserLocationArchive a WHERE a.user.number = :userNumber AND a.archiveDate = :archiveDate")
+    Optional<UserLocationArchive> findByUserNumberAndArchiveDate(@Param("userNumber") String userNumber,
+                                                                 @Param("archiveDate") LocalDate archiveDate);
+}
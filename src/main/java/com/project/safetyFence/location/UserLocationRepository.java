@@ -2,24 +2,81 @@ package com.project.safetyFence.location;
 
 import com.project.safetyFence.user.domain.User;
 import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.dto.LatestLocationRow;
 import org.locationtech.jts.geom.Point;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
 
+    // 최근 위치를 찾을 때 먼저 살펴볼 기간 (이 기간의 파티션만 조회)
+    int LATEST_LOOKBACK_DAYS = 7;
+
     /**
      * 특정 사용자의 가장 최근 위치 조회
+     * 최근 LATEST_LOOKBACK_DAYS일 파티션에서 먼저 찾고, 없을 때만 전체 기간을 조회한다.
      * @param user 사용자
      * @return 최근 위치 (Optional)
      */
+    default Optional<UserLocation> findLatestByUser(User user) {
+        Optional<UserLocation> recent = findLatestByUserSince(user, LocalDateTime.now().minusDays(LATEST_LOOKBACK_DAYS));
+        return recent.isPresent() ? recent : findLatestByUserAllTime(user);
+    }
+
+    @Query("SELECT ul FROM UserLocation ul WHERE ul.user = :user AND ul.savedTime >= :since " +
+           "ORDER BY ul.savedTime DESC LIMIT 1")
+    Optional<UserLocation> findLatestByUserSince(@Param("user") User user, @Param("since") LocalDateTime since);
+
     @Query("SELECT ul FROM UserLocation ul WHERE ul.user = :user ORDER BY ul.savedTime DESC LIMIT 1")
-    Optional<UserLocation> findLatestByUser(@Param("user") User user);
+    Optional<UserLocation> findLatestByUserAllTime(@Param("user") User user);
+
+    /**
+     * 여러 사용자의 가장 최근 위치 - 사용자당 1행
+     * 사용자마다 LATERAL로 "ORDER BY saved_time DESC LIMIT 1"을 실행해 (user_id, saved_time) 인덱스를
+     * 최신 파티션부터 역방향으로 읽고, 행을 찾으면 이전 파티션은 열지 않는다.
+     * @param userNumbers 사용자 번호 목록
+     * @return 위치가 있는 사용자의 최근 위치
+     */
+    @Query(value = "SELECT u.number AS \"userNumber\", " +
+                   "ST_Y(ul.location) AS latitude, ST_X(ul.location) AS longitude, " +
+                   "CAST(FLOOR(EXTRACT(EPOCH FROM ul.saved_time) * 1000) AS BIGINT) AS \"epochMillis\", " +
+                   "ul.battery_level AS \"batteryLevel\" " +
+                   "FROM users u CROSS JOIN LATERAL (" +
+                   "SELECT l.location, l.saved_time, l.battery_level FROM user_location l " +
+                   "WHERE l.user_id = u.number ORDER BY l.saved_time DESC LIMIT 1" +
+                   ") ul WHERE u.number IN (:userNumbers)", nativeQuery = true)
+    List<LatestLocationRow> findLatestByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    /**
+     * 기준 시각 이후 위치를 저장한 사용자별 최근 위치 (최근 저장 순, 시작 시 캐시 워밍용)
+     * 결과를 한 번에 메모리에 올리지 않도록 fetch size 단위로 스트리밍한다 (트랜잭션 안에서 소비해야 함).
+     * @param since 활동 기준 시각
+     * @param limit 최대 사용자 수
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT DISTINCT ON (ul.user_id) ul.user_id AS \"userNumber\", " +
+                   "ST_Y(ul.location) AS latitude, ST_X(ul.location) AS longitude, " +
+                   "CAST(FLOOR(EXTRACT(EPOCH FROM ul.saved_time) * 1000) AS BIGINT) AS \"epochMillis\", " +
+                   "ul.battery_level AS \"batteryLevel\" " +
+                   "FROM user_location ul WHERE ul.saved_time >= :since " +
+                   "ORDER BY ul.user_id DESC, ul.saved_time DESC" +
+                   ") latest ORDER BY \"epochMillis\" DESC LIMIT :limit", nativeQuery = true)
+    Stream<LatestLocationRow> streamLatestSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
 
     /**
      * 특정 지점으로부터 지정된 거리 내의 위치 기록 조회 (PostGIS ST_DWithin 사용)
@@ -59,4 +116,26 @@ public interface UserLocationRepository extends JpaRepository<UserLocation, Long
      */
     @Query("SELECT ul FROM UserLocation ul WHERE ul.user = :user AND ul.savedTime BETWEEN :startTime AND :endTime ORDER BY ul.savedTime ASC")
     List<UserLocation> findByUserAndTimeRangeOrderByTimeAsc(@Param("user") User user, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    // 기간 내 위치 기록이 있는 사용자 번호 - 보관 작업용
+    @Query("SELECT DISTINCT ul.user.number FROM UserLocation ul WHERE ul.savedTime >= :start AND ul.savedTime < :end")
+    List<String> findUserNumbersWithLocationsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기준 시각 이전의 가장 오래된 위치 기록 시각 - 보관 작업용
+    @Query("SELECT MIN(ul.savedTime) FROM UserLocation ul WHERE ul.savedTime < :before")
+    Optional<LocalDateTime> findOldestSavedTimeBefore(@Param("before") LocalDateTime before);
+
+    // 사용자 기간 내 위치 기록 [start, end) 시간순
+    @Query("SELECT ul FROM UserLocation ul WHERE ul.user.number = :userNumber " +
+           "AND ul.savedTime >= :start AND ul.savedTime < :end ORDER BY ul.savedTime ASC")
+    List<UserLocation> findByUserNumberAndSavedTimeRange(@Param("userNumber") String userNumber,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end);
+
+    @Modifying
+    @Query("DELETE FROM UserLocation ul WHERE ul.user.number = :userNumber " +
+           "AND ul.savedTime >= :start AND ul.savedTime < :end")
+    int deleteByUserNumberAndSavedTimeRange(@Param("userNumber") String userNumber,
+                                            @Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end);
 }
@@ -0,0 +1,171 @@
+package com.project.safetyFence.location.archive;
+
+import com.project.safetyFence.common.config.SchedulingConfig;
+import com.project.safetyFence.location.UserLocationArchiveRepository;
+import com.project.safetyFence.location.UserLocationRepository;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.domain.UserLocationArchive;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 오래된 위치 기록 압축 보관
+ *
+ * after-days일보다 오래된 user_location 행을 사용자-날짜 단위로 UserLocationArchive 한 행에 묶고
+ * 원본 행을 삭제한다. 사용자-날짜 하나가 한 트랜잭션이며, 이미 보관본이 있으면 (늦게 들어온 행 등) 합친다.
+ * 보관된 날짜의 조회는 loadDailyTrail이 원본/보관본을 구분 없이 돌려준다.
+ */
+@Slf4j
+@Service
+public class LocationArchiveService {
+
+    private static final ZoneId ARCHIVE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final UserLocationRepository userLocationRepository;
+    private final UserLocationArchiveRepository archiveRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor maintenanceExecutor;
+
+    private final int afterDays;
+    private final int maxUserDaysPerRun;
+
+    public LocationArchiveService(
+            UserLocationRepository userLocationRepository,
+            UserLocationArchiveRepository archiveRepository,
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier(SchedulingConfig.MAINTENANCE_EXECUTOR) Executor maintenanceExecutor,
+            @Value("${location.archive.after-days:30}") int afterDays,
+            @Value("${location.archive.max-user-days-per-run:5000}") int maxUserDaysPerRun) {
+        this.userLocationRepository = userLocationRepository;
+        this.archiveRepository = archiveRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.afterDays = afterDays;
+        this.maxUserDaysPerRun = Math.max(maxUserDaysPerRun, 1);
+    }
+
+    @Scheduled(cron = "${location.archive.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        if (afterDays <= 0) {
+            return;
+        }
+        log.info("🗜️ 위치 기록 보관 스케줄러 시작");
+        LocalDate cutoff = LocalDate.now(ARCHIVE_ZONE).minusDays(afterDays);
+        // 스케줄러 스레드를 잡지 않도록 정리 작업 실행기에서 실행
+        maintenanceExecutor.execute(() -> {
+            try {
+                archiveBefore(cutoff);
+            } catch (RuntimeException e) {
+                log.error("❌ 위치 기록 보관 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * cutoff 이전 날짜의 위치 기록 보관
+     * @return 보관한 사용자-날짜 수
+     */
+    public int archiveBefore(LocalDate cutoff) {
+        Optional<LocalDateTime> oldest = userLocationRepository.findOldestSavedTimeBefore(cutoff.atStartOfDay());
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+
+        int archivedDays = 0;
+        long archivedPoints = 0;
+        for (LocalDate day = oldest.get().toLocalDate(); day.isBefore(cutoff); day = day.plusDays(1)) {
+            List<String> userNumbers = userLocationRepository.findUserNumbersWithLocationsBetween(
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+            for (String userNumber : userNumbers) {
+                if (archivedDays >= maxUserDaysPerRun) {
+                    log.info("⏸️ 위치 기록 보관 한도 도달, 다음 실행에서 이어서 처리: {}건", archivedDays);
+                    return archivedDays;
+                }
+                LocalDate archiveDay = day;
+                Integer points = transactionTemplate.execute(status -> archiveUserDay(userNumber, archiveDay));
+                archivedPoints += points != null ? points : 0;
+                archivedDays++;
+            }
+        }
+
+        log.info("✅ 위치 기록 보관 완료: 사용자-날짜 {}건, 지점 {}개", archivedDays, archivedPoints);
+        return archivedDays;
+    }
+
+    /**
+     * 사용자 하루치 위치 기록을 보관본으로 옮긴다 (호출 측 트랜잭션 안에서 실행)
+     * @return 보관한 원본 지점 수
+     */
+    public int archiveUserDay(String userNumber, LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        List<TrailPoint> rawPoints = userLocationRepository.findByUserNumberAndSavedTimeRange(userNumber, start, end)
+                .stream()
+                .map(LocationArchiveService::toTrailPoint)
+                .toList();
+        if (rawPoints.isEmpty()) {
+            return 0;
+        }
+
+        Optional<UserLocationArchive> existing = archiveRepository.findByUserNumberAndArchiveDate(userNumber, day);
+        if (existing.isPresent()) {
+            existing.get().replacePoints(merge(existing.get().getPoints(), rawPoints));
+        } else {
+            User user = userRepository.getReferenceById(userNumber);
+            archiveRepository.save(new UserLocationArchive(user, day, rawPoints));
+        }
+
+        userLocationRepository.deleteByUserNumberAndSavedTimeRange(userNumber, start, end);
+        return rawPoints.size();
+    }
+
+    /**
+     * 하루치 이동 경로 (원본 행 + 보관본, 시간순)
+     */
+    public List<TrailPoint> loadDailyTrail(String userNumber, LocalDate day) {
+        List<TrailPoint> rawPoints = userLocationRepository
+                .findByUserNumberAndSavedTimeRange(userNumber, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                .stream()
+                .map(LocationArchiveService::toTrailPoint)
+                .toList();
+
+        return archiveRepository.findByUserNumberAndArchiveDate(userNumber, day)
+                .map(archive -> merge(archive.getPoints(), rawPoints))
+                .orElse(rawPoints);
+    }
+
+    private static List<TrailPoint> merge(List<TrailPoint> archived, List<TrailPoint> raw) {
+        if (raw.isEmpty()) {
+            return archived;
+        }
+        List<TrailPoint> merged = new ArrayList<>(archived.size() + raw.size());
+        merged.addAll(archived);
+        merged.addAll(raw);
+        merged.sort(Comparator.comparing(TrailPoint::time));
+        return merged;
+    }
+
+    private static TrailPoint toTrailPoint(UserLocation location) {
+        return new TrailPoint(location.getSavedTime(), location.getLatitude(), location.getLongitude());
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.safetyFence.location.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루치 이동 경로 압축 코덱
+ *
+ * 형식: [버전 1바이트][지점 수][첫 지점: 자정 기준 초, 위도, 경도][이후 지점: 이전 대비 초/위도/경도 차이]
+ * 위도/경도는 1e-6도(약 0.1m) 고정소수점 정수, 모든 값은 zigzag + varint로 저장한다.
+ * 1분 간격 도보 이동이면 지점당 5바이트 안팎이다. 시각은 초 단위로 보관한다.
+ */
+public final class LocationTrailCodec {
+
+    private static final byte VERSION = 1;
+    private static final double SCALE = 1_000_000d;
+
+    private LocationTrailCodec() {
+    }
+
+    /**
+     * @param day    경로 날짜 (시각은 이 날 자정 기준으로 저장)
+     * @param points 시간순 정렬된 지점
+     */
+    public static byte[] encode(LocalDate day, List<TrailPoint> points) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(points.size() * 6 + 8);
+        out.write(VERSION);
+        writeVarLong(out, points.size());
+
+        long dayStart = toEpochSecond(day.atStartOfDay());
+        long prevSecond = dayStart;
+        long prevLat = 0;
+        long prevLng = 0;
+        for (TrailPoint point : points) {
+            long second = toEpochSecond(point.time());
+            long lat = Math.round(point.latitude() * SCALE);
+            long lng = Math.round(point.longitude() * SCALE);
+
+            writeVarLong(out, zigzag(second - prevSecond));
+            writeVarLong(out, zigzag(lat - prevLat));
+            writeVarLong(out, zigzag(lng - prevLng));
+
+            prevSecond = second;
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return out.toByteArray();
+    }
+
+    public static List<TrailPoint> decode(LocalDate day, byte[] data) {
+        int[] position = {0};
+        byte version = data[position[0]++];
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 위치 보관 형식입니다: version=" + version);
+        }
+
+        int count = (int) readVarLong(data, position);
+        List<TrailPoint> points = new ArrayList<>(count);
+
+        long second = toEpochSecond(day.atStartOfDay());
+        long lat = 0;
+        long lng = 0;
+        for (int i = 0; i < count; i++) {
+            second += unzigzag(readVarLong(data, position));
+            lat += unzigzag(readVarLong(data, position));
+            lng += unzigzag(readVarLong(data, position));
+            points.add(new TrailPoint(LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC),
+                    lat / SCALE, lng / SCALE));
+        }
+        return points;
+    }
+
+    // LocalDateTime을 그대로 초 단위 정수로 (시간대 변환 없이 차이 계산용)
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] position) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.safetyFence.location.archive;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이동 경로의 한 지점 (원본 위치 행/압축 보관본 공통 표현)
+ */
+public record TrailPoint(LocalDateTime time, double latitude, double longitude) {
+}
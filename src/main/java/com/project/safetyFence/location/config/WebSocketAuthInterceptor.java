@@ -24,6 +24,7 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
     private final LinkService linkService;
     private final UserService userService;
     private static final Pattern LOCATION_TOPIC_PATTERN = Pattern.compile("^/topic/location/([^/]+)$");
+    private static final Pattern ALERT_QUEUE_PATTERN = Pattern.compile("^/queue/alerts/([^/]+)$");
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -76,6 +77,7 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
             if (destination != null) {
                 Matcher matcher = LOCATION_TOPIC_PATTERN.matcher(destination);
+                Matcher alertMatcher = ALERT_QUEUE_PATTERN.matcher(destination);
                 if (matcher.matches()) {
                     String targetUserNumber = matcher.group(1);
                     Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
@@ -100,6 +102,20 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
                     log.info("구독 승인: subscriber={}, target={}, destination={}",
                             subscriberNumber, targetUserNumber, destination);
+                } else if (alertMatcher.matches()) {
+                    // 알림 큐는 본인만 구독 가능
+                    String targetUserNumber = alertMatcher.group(1);
+                    Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+                    String subscriberNumber = sessionAttributes != null
+                            ? (String) sessionAttributes.get("userNumber")
+                            : null;
+
+                    if (subscriberNumber == null || !subscriberNumber.equals(targetUserNumber)) {
+                        log.warn("알림 큐 구독 차단: subscriber={}, target={}", subscriberNumber, targetUserNumber);
+                        return null; // 메시지 차단
+                    }
+
+                    log.info("알림 큐 구독 승인: subscriber={}", subscriberNumber);
                 } else {
                     log.debug("[WS-AUTH] SUBSCRIBE but destination not matched: {}", destination);
                 }
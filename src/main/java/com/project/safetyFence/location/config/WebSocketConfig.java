@@ -32,8 +32,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 destination prefix
-        // 예: /topic/location/123
-        config.enableSimpleBroker("/topic")
+        // 예: /topic/location/123, /queue/alerts/123 (본인 알림)
+        config.enableSimpleBroker("/topic", "/queue")
                 .setHeartbeatValue(new long[]{10000, 10000})  // 10초마다 heartbeat (연결 유지)
                 .setTaskScheduler(heartbeatScheduler());  // Heartbeat용 TaskScheduler
 
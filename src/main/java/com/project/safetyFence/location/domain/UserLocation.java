@@ -1,4 +1,5 @@
 package com.project.safetyFence.location.domain;
+import com.project.safetyFence.common.sequence.IdSequences;
 import com.project.safetyFence.user.domain.User;
 
 import jakarta.persistence.*;
@@ -14,10 +15,15 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_user_location_user_saved_time", columnList = "user_id, saved_time"),
+        @Index(name = "idx_user_location_saved_time", columnList = "saved_time")  // 보존 기간 정리용
+})
 public class UserLocation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_location_id_gen")
+    @SequenceGenerator(name = "user_location_id_gen", sequenceName = IdSequences.USER_LOCATION, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -31,6 +37,9 @@ public class UserLocation {
     @Column(nullable = false, columnDefinition = "geometry(Point,4326)")
     private Point location;
 
+    // 저장 시점 배터리 잔량 (0-100, 보고되지 않았으면 null) - 재시작 후 배터리 캐시 복원용
+    private Integer batteryLevel;
+
     private static final GeometryFactory geometryFactory = new GeometryFactory();
 
     // User 객체를 받는 생성자 (권장)
@@ -40,6 +49,11 @@ public class UserLocation {
         this.location = createPoint(latitude.doubleValue(), longitude.doubleValue());
     }
 
+    public UserLocation(User user, BigDecimal latitude, BigDecimal longitude, Integer batteryLevel) {
+        this(user, latitude, longitude);
+        this.batteryLevel = batteryLevel;
+    }
+
     // Point 생성 헬퍼 메서드
     private Point createPoint(double latitude, double longitude) {
         Point point = geometryFactory.createPoint(new Coordinate(longitude, latitude));
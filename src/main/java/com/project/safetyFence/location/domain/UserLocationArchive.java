@@ -0,0 +1,63 @@
+package com.project.safetyFence.location.domain;
+
+import com.project.safetyFence.location.archive.LocationTrailCodec;
+import com.project.safetyFence.location.archive.TrailPoint;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 하루치 위치 기록 압축 보관본
+ * 보관 기간이 지난 user_location 행을 LocationTrailCodec으로 묶어 한 행에 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_location_archive_user_date",
+        columnNames = {"user_id", "archive_date"}),
+        indexes = @Index(name = "idx_user_location_archive_date", columnList = "archive_date"))
+public class UserLocationArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // N:1 양방향 관계의 주인 (FK 관리)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate archiveDate;
+
+    @Column(nullable = false)
+    private int pointCount;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] data;
+
+    public UserLocationArchive(User user, LocalDate archiveDate, List<TrailPoint> points) {
+        this.user = user;
+        this.archiveDate = archiveDate;
+        replacePoints(points);
+    }
+
+    public List<TrailPoint> getPoints() {
+        return LocationTrailCodec.decode(archiveDate, data);
+    }
+
+    // 시간순 정렬된 전체 지점으로 교체
+    public void replacePoints(List<TrailPoint> points) {
+        this.pointCount = points.size();
+        this.data = LocationTrailCodec.encode(archiveDate, points);
+    }
+
+    // 연관관계 편의 메서드
+    public void registerUser(User user) {
+        this.user = user;
+    }
+}
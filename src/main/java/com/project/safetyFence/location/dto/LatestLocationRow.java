@@ -0,0 +1,14 @@
+package com.project.safetyFence.location.dto;
+
+/**
+ * 사용자별 최근 위치 (네이티브 쿼리 프로젝션)
+ * epochMillis는 saved_time을 UTC로 간주한 값으로, 기존 위치 DTO의 timestamp와 같은 기준이다.
+ * batteryLevel은 해당 위치 저장 시점에 보고된 배터리 잔량 (없으면 null)
+ */
+public interface LatestLocationRow {
+    String getUserNumber();
+    Double getLatitude();
+    Double getLongitude();
+    Long getEpochMillis();
+    Integer getBatteryLevel();
+}
@@ -2,6 +2,7 @@ package com.project.safetyFence.location.listener;
 
 import com.project.safetyFence.location.dto.LocationUpdateDto;
 import com.project.safetyFence.location.LocationCacheService;
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -18,7 +19,7 @@ import java.util.regex.Pattern;
 
 /**
  * WebSocket 이벤트 리스너
- * 연결/해제 시 로그 기록 및 리소스 정리
+ * 연결/해제 시 로그 기록, 활성 세션 등록/해제 및 리소스 정리
  */
 @Slf4j
 @Component
@@ -27,6 +28,7 @@ public class WebSocketEventListener {
 
     private final LocationCacheService cacheService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ActiveSessionRegistry activeSessionRegistry;
 
     private static final Pattern LOCATION_TOPIC_PATTERN = Pattern.compile("^/topic/location/([^/]+)$");
 
@@ -42,6 +44,8 @@ public class WebSocketEventListener {
 
         if (sessionAttributes != null) {
             String userNumber = (String) sessionAttributes.get("userNumber");
+            // 알림 라우팅용 활성 세션 등록
+            activeSessionRegistry.register(userNumber, sessionId);
             log.info("WebSocket 연결됨: sessionId={}, userNumber={}", sessionId, userNumber);
         } else {
             log.info("WebSocket 연결됨: sessionId={}", sessionId);
@@ -103,6 +107,8 @@ public class WebSocketEventListener {
             String userNumber = (String) sessionAttributes.get("userNumber");
 
             if (userNumber != null) {
+                activeSessionRegistry.unregister(userNumber, sessionId);
+
                 // 캐시에서 위치 정보 삭제
                 cacheService.removeLocation(userNumber);
                 log.info("WebSocket 연결 해제: sessionId={}, userNumber={}, 캐시 삭제 완료",
@@ -0,0 +1,247 @@
+package com.project.safetyFence.location.partition;
+
+import com.project.safetyFence.common.sequence.IdSequenceMigrator;
+import com.project.safetyFence.common.sequence.IdSequences;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * user_location 월별 파티션 관리 (PostgreSQL 선언적 파티셔닝, saved_time 기준 RANGE)
+ *
+ * - Hibernate가 만든 일반 테이블이면 파티션 테이블로 전환한다 (기존 행은 월별 파티션으로 이동).
+ *   테이블 전체를 한 트랜잭션으로 옮기므로 트래픽을 받는 시작 시점이 아니라 새벽 정비 작업에서 한 번 실행하고,
+ *   여러 인스턴스가 동시에 실행하지 않도록 advisory lock을 잡는다.
+ *   DB를 매번 새로 만드는 dev/test는 convert-on-startup으로 시작 시 전환한다.
+ * - 매일 앞으로 months-ahead개월치 파티션을 미리 만들고,
+ *   보존 기간(retention.user-location.days)이 통째로 지난 월 파티션은 분리 후 삭제한다.
+ *   걸쳐 있는 월의 나머지 행은 RetentionEngine이 청크 단위로 지운다.
+ * - 범위 밖 시각의 행은 기본(default) 파티션에 들어간다.
+ *
+ * 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, saved_time)이고,
+ * id는 엔티티의 pooled 시퀀스 생성기(IdSequences.USER_LOCATION)가 채우므로 컬럼 기본값을 두지 않는다.
+ */
+@Slf4j
+@Component
+public class UserLocationPartitionManager {
+
+    private static final String TABLE = "user_location";
+    private static final String LEGACY_TABLE = "user_location_legacy";
+    private static final String SEQUENCE = IdSequences.USER_LOCATION;
+    private static final String DEFAULT_PARTITION = "user_location_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^user_location_p(\\d{6})$");
+    // 파티션 전환 advisory lock 키 (인스턴스 간 공통)
+    private static final long CONVERSION_LOCK_KEY = 7_301_202_401L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean convertOnStartup;
+    private final int monthsAhead;
+    private final int retentionDays;
+
+    public UserLocationPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${location.partition.enabled:true}") boolean enabled,
+            @Value("${location.partition.convert-on-startup:false}") boolean convertOnStartup,
+            @Value("${location.partition.months-ahead:3}") int monthsAhead,
+            @Value("${retention.user-location.days:90}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.convertOnStartup = convertOnStartup;
+        this.monthsAhead = Math.max(monthsAhead, 1);
+        this.retentionDays = retentionDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (convertOnStartup) {
+                convertIfNeeded();
+            }
+            maintain();
+        } catch (DataAccessException e) {
+            log.error("❌ user_location 파티션 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새벽 정비: 아직 일반 테이블이면 전환 + 파티션 관리
+     */
+    @Scheduled(cron = "${location.partition.cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            convertIfNeeded();
+            maintain();
+        } catch (DataAccessException e) {
+            log.error("❌ user_location 파티션 정비 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미래 파티션 생성 + 만료 파티션 삭제 (파티션 테이블일 때만)
+     */
+    public void maintain() {
+        if (!enabled || !isPartitioned()) {
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            ensurePartition(current.plusMonths(i));
+        }
+
+        if (retentionDays > 0) {
+            dropExpiredPartitions(LocalDate.now().minusDays(retentionDays));
+        }
+    }
+
+    /**
+     * 일반 테이블이면 파티션 테이블로 전환 (한 트랜잭션, 여러 인스턴스 중 잠금을 얻은 하나만 실행)
+     * @return 이번 호출에서 전환했으면 true
+     */
+    public boolean convertIfNeeded() {
+        if (isPartitioned()) {
+            return false;
+        }
+        Boolean converted = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CONVERSION_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("⏳ 다른 인스턴스가 user_location 파티션 전환 중 - 건너뜀");
+                return false;
+            }
+            // 확인과 잠금 사이에 다른 인스턴스가 전환을 끝냈을 수 있다
+            if (isPartitioned()) {
+                return false;
+            }
+            return convertToPartitioned();
+        });
+        return Boolean.TRUE.equals(converted);
+    }
+
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = ? AND c.relnamespace = to_regnamespace(current_schema()))",
+                Boolean.class, TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 일반 테이블 -> 파티션 테이블 전환 (convertIfNeeded의 트랜잭션/잠금 안에서 실행)
+     */
+    private boolean convertToPartitioned() {
+        if (!exists(TABLE)) {
+            return false;
+        }
+        log.info("🗂️ user_location 파티션 테이블 전환 시작");
+
+        // 기존 FK 정의 보존 (Hibernate가 붙인 이름 그대로 다시 생성)
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+                "WHERE conrelid = to_regclass(?) AND contype = 'f'", TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY_TABLE + ") PARTITION BY RANGE (saved_time)");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+
+        // 기존 데이터 기간 + 미래 파티션을 먼저 만들어 default 파티션이 비어있게 한다
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(saved_time) FROM " + LEGACY_TABLE, Timestamp.class);
+        YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+        for (YearMonth month = from; !month.isAfter(YearMonth.now().plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            ensurePartition(month);
+        }
+
+        int moved = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + LEGACY_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE + " INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+        IdSequenceMigrator.alignAfterMaxId(jdbcTemplate, TABLE, SEQUENCE);
+        jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE + " OWNED BY " + TABLE + ".id");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PRIMARY KEY (id, saved_time)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_location_saved_time ON " + TABLE + " (saved_time)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_location_user_saved_time ON " + TABLE + " (user_id, saved_time)");
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + foreignKey.get("conname") +
+                    " " + foreignKey.get("definition"));
+        }
+
+        log.info("✅ user_location 파티션 테이블 전환 완료: {}건 이동", moved);
+        return true;
+    }
+
+    private void ensurePartition(YearMonth month) {
+        String name = partitionName(month);
+        if (exists(name)) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF " + TABLE +
+                    " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.info("🗂️ user_location 파티션 생성: {}", name);
+        } catch (DataAccessException e) {
+            // default 파티션에 해당 월 행이 이미 있으면 생성할 수 없다
+            log.error("❌ user_location 파티션 생성 실패: {}, error={}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 월 전체가 cutoff 이전인 파티션 분리 후 삭제
+     */
+    private void dropExpiredPartitions(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?", String.class, TABLE);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX_FORMAT);
+            if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("🧹 만료된 user_location 파티션 삭제: {}", partition);
+        }
+    }
+
+    private boolean exists(String relation) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, relation));
+    }
+
+    private String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX_FORMAT);
+    }
+}
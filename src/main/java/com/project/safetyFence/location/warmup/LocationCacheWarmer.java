@@ -0,0 +1,112 @@
+package com.project.safetyFence.location.warmup;
+
+import com.project.safetyFence.common.datasource.PrimaryReads;
+import com.project.safetyFence.location.LocationCacheService;
+import com.project.safetyFence.location.UserLocationRepository;
+import com.project.safetyFence.location.dto.LatestLocationRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 위치/배터리 캐시 워밍
+ *
+ * 재시작 직후에는 캐시가 비어 있어 첫 조회마다 DB 미스가 몰리므로, 최근 active-minutes분 안에
+ * 위치를 보낸 사용자의 마지막 위치와 배터리를 스트리밍 쿼리 한 번으로 읽어 캐시를 채운다.
+ * ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC이 되기 전에 실행되므로 워밍이 끝난 뒤 트래픽을 받는다.
+ * budget-ms를 넘기면 남은 행은 건너뛰고 시작을 계속한다 (미스는 getLatestLocations가 채움).
+ */
+@Slf4j
+@Component
+public class LocationCacheWarmer implements ApplicationRunner {
+
+    private final UserLocationRepository userLocationRepository;
+    private final LocationCacheService locationCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int activeMinutes;
+    private final long budgetMs;
+    private final int maxUsers;
+
+    public LocationCacheWarmer(
+            UserLocationRepository userLocationRepository,
+            LocationCacheService locationCacheService,
+            TransactionTemplate transactionTemplate,
+            @Value("${location.warmup.enabled:true}") boolean enabled,
+            @Value("${location.warmup.active-minutes:30}") int activeMinutes,
+            @Value("${location.warmup.budget-ms:10000}") long budgetMs,
+            @Value("${location.warmup.max-users:10000}") int maxUsers) {
+        this.userLocationRepository = userLocationRepository;
+        this.locationCacheService = locationCacheService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.activeMinutes = Math.max(activeMinutes, 1);
+        this.budgetMs = Math.max(budgetMs, 1);
+        this.maxUsers = Math.max(maxUsers, 1);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            // 워밍 실패로 서버 시작을 막지 않음
+            log.warn("⚠️ 위치 캐시 워밍 실패, 빈 캐시로 시작: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 활동 사용자의 마지막 위치/배터리로 캐시 채우기
+     * @return 새로 채운 위치 캐시 항목 수
+     */
+    public int warmUp() {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        LocalDateTime since = LocalDateTime.now().minusMinutes(activeMinutes);
+
+        int[] counts = new int[2];
+        boolean[] truncated = new boolean[1];
+
+        // PostgreSQL은 자동 커밋이 꺼져 있어야 fetch size 단위로 스트리밍하므로 읽기 전용 트랜잭션 안에서 소비
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        readOnly.setReadOnly(true);
+        readOnly.setTimeout((int) Math.max(TimeUnit.MILLISECONDS.toSeconds(budgetMs), 1));
+        // 캐시를 채우는 조회이므로 복제본이 아닌 primary에서 읽는다
+        PrimaryReads.run(() -> readOnly.executeWithoutResult(status -> {
+            try (Stream<LatestLocationRow> rows = userLocationRepository.streamLatestSince(since, maxUsers)) {
+                Iterator<LatestLocationRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    if (System.nanoTime() > deadline) {
+                        truncated[0] = true;
+                        return;
+                    }
+                    counts[0]++;
+                    if (locationCacheService.warmUp(iterator.next())) {
+                        counts[1]++;
+                    }
+                }
+            }
+        }));
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (truncated[0]) {
+            log.warn("⏱️ 위치 캐시 워밍 시간 초과 ({}ms) - {}명 읽음, {}명 채움", budgetMs, counts[0], counts[1]);
+        } else {
+            log.info("🔥 위치 캐시 워밍 완료: 최근 {}분 활동 {}명 중 {}명 채움, {}ms",
+                    activeMinutes, counts[0], counts[1], elapsedMs);
+        }
+        return counts[1];
+    }
+}
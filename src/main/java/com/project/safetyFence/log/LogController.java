@@ -4,9 +4,13 @@ import com.project.safetyFence.log.dto.LogResponseDto;
 import com.project.safetyFence.log.LogService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,6 +27,26 @@ public class LogController {
         return ResponseEntity.ok(logs);
     }
 
+    // 커서 기반 페이지 조회 (최신순)
+    @GetMapping("/logs/page")
+    public ResponseEntity<CursorPageResponseDto<LogResponseDto>> getLogPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        return ResponseEntity.ok(logService.getLogPage(userNumber, cursor, size));
+    }
+
+    // 전체 이력 스트리밍 (JSON 배열을 한 건씩 기록)
+    @GetMapping("/logs/stream")
+    public ResponseEntity<StreamingResponseBody> streamLogs(HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        StreamingResponseBody body = outputStream -> logService.streamLogs(userNumber, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
 
 
 }
@@ -2,11 +2,55 @@ package com.project.safetyFence.log;
 
 import com.project.safetyFence.log.domain.Log;
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.log.dto.LogResponseDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LogRepository extends JpaRepository<Log, Long> {
 
     List<Log> findByUser(User user);
+
+    // 기간 내 도착 기록 [start, end) - 캘린더 조회용
+    @Query("SELECT l FROM Log l WHERE l.user.number = :userNumber " +
+           "AND l.arriveTime >= :start AND l.arriveTime < :end ORDER BY l.arriveTime, l.id")
+    List<Log> findByUserNumberAndArriveTimeRange(@Param("userNumber") String userNumber,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    // 여러 사용자의 마지막 도착 기록 (대시보드용, 동시각 기록이 있으면 여러 건)
+    @Query("SELECT l FROM Log l WHERE l.user.number IN :userNumbers " +
+           "AND l.arriveTime = (SELECT MAX(l2.arriveTime) FROM Log l2 WHERE l2.user = l.user)")
+    List<Log> findLatestByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    // 키셋 페이지 - 첫 페이지 (최신순)
+    @Query("SELECT l FROM Log l WHERE l.user.number = :userNumber ORDER BY l.arriveTime DESC, l.id DESC")
+    List<Log> findFirstPageByUserNumber(@Param("userNumber") String userNumber, Pageable pageable);
+
+    // 키셋 페이지 - 커서 (arriveTime, id) 이후
+    @Query("SELECT l FROM Log l WHERE l.user.number = :userNumber " +
+           "AND (l.arriveTime < :cursorTime OR (l.arriveTime = :cursorTime AND l.id < :cursorId)) " +
+           "ORDER BY l.arriveTime DESC, l.id DESC")
+    List<Log> findPageByUserNumberBefore(@Param("userNumber") String userNumber,
+                                         @Param("cursorTime") LocalDateTime cursorTime,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    // 전체 이력 스트리밍 (DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음, 트랜잭션 안에서 소비해야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.safetyFence.log.dto.LogResponseDto(l.id, l.location, l.locationAddress, l.arriveTime) " +
+           "FROM Log l WHERE l.user.number = :userNumber ORDER BY l.arriveTime DESC, l.id DESC")
+    Stream<LogResponseDto> streamByUserNumber(@Param("userNumber") String userNumber);
 }
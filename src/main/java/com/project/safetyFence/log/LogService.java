@@ -6,11 +6,19 @@ import com.project.safetyFence.mypage.dto.NumberRequestDto;
 import com.project.safetyFence.log.dto.LogResponseDto;
 import com.project.safetyFence.log.LogRepository;
 import com.project.safetyFence.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
+import com.project.safetyFence.common.pagination.JsonArrayStreamWriter;
+import com.project.safetyFence.common.pagination.TimeIdCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +26,9 @@ public class LogService {
 
     private final LogRepository logRepository;
     private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 200;
 
     public List<LogResponseDto> getLogsByUserNumber(String number) {
         List<LogResponseDto> responseDtos = new ArrayList<>();
@@ -38,4 +49,33 @@ public class LogService {
 
         return responseDtos;
     }
+
+    /**
+     * 도착 기록 커서 페이지 조회 (최신순)
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<LogResponseDto> getLogPage(String userNumber, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Log> rows = (after == null)
+                ? logRepository.findFirstPageByUserNumber(userNumber, limit)
+                : logRepository.findPageByUserNumberBefore(userNumber, after.time(), after.id(), limit);
+
+        return CursorPageResponseDto.of(rows, pageSize,
+                log -> new TimeIdCursor(log.getArriveTime(), log.getId()), LogResponseDto::new);
+    }
+
+    /**
+     * 도착 기록 전체를 JSON 배열로 스트리밍 (최신순)
+     * @return 기록한 항목 수
+     */
+    @Transactional(readOnly = true)
+    public long streamLogs(String userNumber, OutputStream outputStream) {
+        try (Stream<LogResponseDto> logs = logRepository.streamByUserNumber(userNumber)) {
+            return JsonArrayStreamWriter.write(objectMapper, outputStream, logs);
+        }
+    }
 }
@@ -1,4 +1,5 @@
 package com.project.safetyFence.log.domain;
+import com.project.safetyFence.common.sequence.IdSequences;
 import com.project.safetyFence.user.domain.User;
 
 import jakarta.persistence.*;
@@ -10,9 +11,15 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_log_user_arrive_time", columnList = "user_id, arrive_time"),
+        @Index(name = "idx_log_arrive_time", columnList = "arrive_time")  // 보존 기간 정리용
+})
 public class Log {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_id_gen")
+    @SequenceGenerator(name = "log_id_gen", sequenceName = IdSequences.LOG, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -1,8 +1,11 @@
 package com.project.safetyFence.log.dto;
 
+import com.project.safetyFence.log.domain.Log;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class LogResponseDto {
@@ -17,4 +20,12 @@ public class LogResponseDto {
         this.locationAddress = locationAddress;
         this.arriveTime = arriveTime;
     }
+
+    public LogResponseDto(Long id, String location, String locationAddress, LocalDateTime arriveTime) {
+        this(id, location, locationAddress, arriveTime.toString());
+    }
+
+    public LogResponseDto(Log log) {
+        this(log.getId(), log.getLocation(), log.getLocationAddress(), log.getArriveTime());
+    }
 }
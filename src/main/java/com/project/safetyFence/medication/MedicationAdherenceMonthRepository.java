@@ -0,0 +1,37 @@
+package com.project.safetyFence.medication;
+
+import com.project.safetyFence.medication.domain.MedicationAdherenceMonth;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MedicationAdherenceMonthRepository extends JpaRepository<MedicationAdherenceMonth, Long> {
+
+    // 체크/해제 시 동시 갱신으로 횟수가 유실되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT am FROM MedicationAdherenceMonth am " +
+           "WHERE am.medication.id = :medicationId AND am.monthKey = :monthKey")
+    Optional<MedicationAdherenceMonth> findForUpdate(@Param("medicationId") Long medicationId,
+                                                     @Param("monthKey") int monthKey);
+
+    // 해당 월 행이 없을 때만 빈 집계 생성 (동시 생성 시 한쪽은 무시되어 유니크 제약 오류가 나지 않음)
+    // dose_counts는 31일치 0바이트
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO medication_adherence_month (medication_id, month_key, taken_days, dose_counts) " +
+                   "VALUES (:medicationId, :monthKey, 0, decode(repeat('00', 31), 'hex')) " +
+                   "ON CONFLICT (medication_id, month_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("medicationId") Long medicationId, @Param("monthKey") int monthKey);
+
+    @Query("SELECT am FROM MedicationAdherenceMonth am " +
+           "WHERE am.medication.id = :medicationId AND am.monthKey BETWEEN :fromMonthKey AND :toMonthKey " +
+           "ORDER BY am.monthKey")
+    List<MedicationAdherenceMonth> findByMedicationIdAndMonthKeyBetween(@Param("medicationId") Long medicationId,
+                                                                        @Param("fromMonthKey") int fromMonthKey,
+                                                                        @Param("toMonthKey") int toMonthKey);
+}
@@ -1,12 +1,15 @@
 package com.project.safetyFence.medication;
 
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
 import com.project.safetyFence.medication.dto.*;
 import com.project.safetyFence.mypage.dto.NumberRequestDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -47,6 +50,19 @@ public class MedicationController {
         return ResponseEntity.ok(response);
     }
 
+    // 약 알림 시각 변경
+    @PutMapping("/api/medications/{medicationId}/reminder-times")
+    public ResponseEntity<MedicationReminderTimesResponseDto> updateReminderTimes(
+            @PathVariable Long medicationId,
+            @RequestBody MedicationReminderTimesRequestDto requestDto,
+            HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        MedicationReminderTimesResponseDto response = medicationService.updateReminderTimes(
+                userNumber, medicationId, requestDto.getReminderTimes()
+        );
+        return ResponseEntity.ok(response);
+    }
+
     // 약 복용 체크
     @PostMapping("/api/medications/{medicationId}/check")
     public ResponseEntity<MedicationCheckResponseDto> checkMedication(
@@ -81,6 +97,48 @@ public class MedicationController {
         return ResponseEntity.ok(response);
     }
 
+    // 복용 통계 조회 (기본 최근 90일) -> 사용자 및 보호자
+    @GetMapping("/api/medications/{medicationId}/adherence")
+    public ResponseEntity<MedicationAdherenceResponseDto> getMedicationAdherence(
+            @PathVariable Long medicationId,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        MedicationAdherenceResponseDto response = medicationService.getMedicationAdherence(
+                userNumber, medicationId, days, endDate
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    // 복용 이력 커서 페이지 조회 (최신순)
+    @GetMapping("/api/medications/{medicationId}/history/page")
+    public ResponseEntity<CursorPageResponseDto<MedicationHistoryItemDto>> getMedicationHistoryPage(
+            @PathVariable Long medicationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        CursorPageResponseDto<MedicationHistoryItemDto> response = medicationService.getMedicationHistoryPage(
+                userNumber, medicationId, cursor, size
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    // 복용 이력 전체 스트리밍 (JSON 배열을 한 건씩 기록)
+    @GetMapping("/api/medications/{medicationId}/history/stream")
+    public ResponseEntity<StreamingResponseBody> streamMedicationHistory(
+            @PathVariable Long medicationId,
+            HttpServletRequest request) {
+        String userNumber = (String) request.getAttribute("userNumber");
+        medicationService.validateHistoryAccess(userNumber, medicationId);
+
+        StreamingResponseBody body = outputStream -> medicationService.streamMedicationHistory(medicationId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     // 피보호자들의 약 복용 상태 조회 (보호자용)
     @GetMapping("/api/medications/wards-today")
     public ResponseEntity<List<WardMedicationStatusDto>> getWardsTodayMedicationStatus(
@@ -1,39 +1,109 @@
 package com.project.safetyFence.medication;
 
 import com.project.safetyFence.medication.domain.MedicationLog;
+import com.project.safetyFence.medication.dto.MedicationCheckCountDto;
+import com.project.safetyFence.medication.dto.MedicationDailyCheckCountDto;
+import com.project.safetyFence.medication.dto.MedicationHistoryItemDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MedicationLogRepository extends JpaRepository<MedicationLog, Long> {
 
     // 특정 날짜의 로그 조회 (여러 개 가능)
-    @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
-            "AND FUNCTION('DATE', ml.checkedDateTime) = :date ORDER BY ml.checkedDateTime DESC")
-    List<MedicationLog> findByMedicationIdAndDate(
-            @Param("medicationId") Long medicationId,
-            @Param("date") LocalDate date
-    );
+    default List<MedicationLog> findByMedicationIdAndDate(Long medicationId, LocalDate date) {
+        return findByMedicationIdAndCheckedDateTimeRange(
+                medicationId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
     // 특정 약의 모든 로그 조회
     @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId ORDER BY ml.checkedDateTime DESC")
     List<MedicationLog> findByMedicationId(@Param("medicationId") Long medicationId);
 
-    // 날짜 범위로 로그 조회
+    // 날짜 범위로 로그 조회 (endDate 포함)
+    default List<MedicationLog> findByMedicationIdAndDateBetween(Long medicationId, LocalDate startDate,
+                                                                 LocalDate endDate) {
+        return findByMedicationIdAndCheckedDateTimeRange(
+                medicationId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    // 시각 범위로 로그 조회 [start, end) - checkedDateTime에 함수를 씌우지 않아 인덱스 사용 가능
     @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
-            "AND FUNCTION('DATE', ml.checkedDateTime) BETWEEN :startDate AND :endDate ORDER BY ml.checkedDateTime DESC")
-    List<MedicationLog> findByMedicationIdAndDateBetween(
+            "AND ml.checkedDateTime >= :start AND ml.checkedDateTime < :end ORDER BY ml.checkedDateTime DESC")
+    List<MedicationLog> findByMedicationIdAndCheckedDateTimeRange(
             @Param("medicationId") Long medicationId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
     // 가장 최근 로그 조회 (uncheckMedication에서 사용)
     @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId ORDER BY ml.checkedDateTime DESC LIMIT 1")
     Optional<MedicationLog> findTopByMedicationIdOrderByCheckedDateTimeDesc(@Param("medicationId") Long medicationId);
-}
\ No newline at end of file
+
+    // 약별 기간 내 체크 횟수 (checkedDateTime 범위 조건이라 인덱스 사용 가능)
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationCheckCountDto(ml.medication.id, COUNT(ml)) " +
+            "FROM MedicationLog ml WHERE ml.medication.id IN :medicationIds " +
+            "AND ml.checkedDateTime >= :start AND ml.checkedDateTime < :end " +
+            "GROUP BY ml.medication.id")
+    List<MedicationCheckCountDto> countChecksByMedicationIdsBetween(
+            @Param("medicationIds") Collection<Long> medicationIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 약 하나의 일별 체크 횟수 (백필용, 한 번만 실행)
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationDailyCheckCountDto(" +
+            "ml.medication.id, CAST(ml.checkedDateTime AS LocalDate), COUNT(ml)) " +
+            "FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
+            "GROUP BY ml.medication.id, CAST(ml.checkedDateTime AS LocalDate)")
+    List<MedicationDailyCheckCountDto> countDailyChecksByMedicationId(@Param("medicationId") Long medicationId);
+
+    // 사용자의 모든 약에 대한 기간 내 일별 체크 횟수 (캘린더 조회용)
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationDailyCheckCountDto(" +
+            "ml.medication.id, CAST(ml.checkedDateTime AS LocalDate), COUNT(ml)) " +
+            "FROM MedicationLog ml WHERE ml.medication.user.number = :userNumber " +
+            "AND ml.checkedDateTime >= :start AND ml.checkedDateTime < :end " +
+            "GROUP BY ml.medication.id, CAST(ml.checkedDateTime AS LocalDate)")
+    List<MedicationDailyCheckCountDto> countDailyChecksByUserNumberBetween(
+            @Param("userNumber") String userNumber,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 복용 이력 키셋 페이지 - 첫 페이지 (최신순)
+    @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
+            "ORDER BY ml.checkedDateTime DESC, ml.id DESC")
+    List<MedicationLog> findFirstPageByMedicationId(@Param("medicationId") Long medicationId, Pageable pageable);
+
+    // 복용 이력 키셋 페이지 - 커서 (checkedDateTime, id) 이후
+    @Query("SELECT ml FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
+            "AND (ml.checkedDateTime < :cursorTime OR (ml.checkedDateTime = :cursorTime AND ml.id < :cursorId)) " +
+            "ORDER BY ml.checkedDateTime DESC, ml.id DESC")
+    List<MedicationLog> findPageByMedicationIdBefore(
+            @Param("medicationId") Long medicationId,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 복용 이력 전체 스트리밍 (DTO 프로젝션, 트랜잭션 안에서 소비해야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationHistoryItemDto(ml.id, ml.checkedDateTime) " +
+            "FROM MedicationLog ml WHERE ml.medication.id = :medicationId " +
+            "ORDER BY ml.checkedDateTime DESC, ml.id DESC")
+    Stream<MedicationHistoryItemDto> streamHistoryByMedicationId(@Param("medicationId") Long medicationId);
+}
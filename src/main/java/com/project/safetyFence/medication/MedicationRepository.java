@@ -1,10 +1,17 @@
 package com.project.safetyFence.medication;
 
 import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.dto.MedicationCheckSummaryDto;
+import com.project.safetyFence.medication.dto.MedicationReminderTimeRowDto;
+import com.project.safetyFence.medication.dto.ReminderTargetDto;
+import com.project.safetyFence.user.dto.UserCountDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface MedicationRepository extends JpaRepository<Medication, Long> {
@@ -12,9 +19,65 @@ public interface MedicationRepository extends JpaRepository<Medication, Long> {
     @Query("SELECT m FROM Medication m WHERE m.user.number = :userNumber ORDER BY m.id DESC")
     List<Medication> findByUserNumber(@Param("userNumber") String userNumber);
 
+    @Query("SELECT m.id FROM Medication m WHERE m.user.number = :userNumber")
+    List<Long> findIdsByUserNumber(@Param("userNumber") String userNumber);
+
+    /**
+     * 기본 알림(아침/점심/저녁) 대상 사용자 수 (중복 제거)
+     * 알림 시각을 따로 지정한 약만 있는 사용자는 제외한다.
+     */
+    @Query("SELECT COUNT(DISTINCT m.user.number) FROM Medication m WHERE m.reminderTimes IS EMPTY")
+    long countUsersWithMedications();
+
+    /**
+     * 기본 알림 대상 키셋 페이지 조회
+     * afterUserNumber보다 큰 사용자 번호를 번호 순으로 pageable 크기만큼 조회한다.
+     */
+    @Query("SELECT DISTINCT new com.project.safetyFence.medication.dto.ReminderTargetDto(u.number, u.name) " +
+           "FROM Medication m JOIN m.user u " +
+           "WHERE u.number > :afterUserNumber AND m.reminderTimes IS EMPTY " +
+           "ORDER BY u.number")
+    List<ReminderTargetDto> findReminderTargetsAfter(@Param("afterUserNumber") String afterUserNumber,
+                                                     Pageable pageable);
+
     /**
-     * 약이 등록된 모든 사용자 조회 (중복 제거)
+     * 알림 시각이 지정된 모든 약의 (약, 사용자, 시각) 행 조회 - 알림 인덱스 적재용
+     * 탈퇴 처리 중(비활성) 사용자의 약은 제외한다.
      */
-    @Query("SELECT DISTINCT m.user FROM Medication m")
-    List<com.project.safetyFence.user.domain.User> findAllUsersWithMedications();
-}
\ No newline at end of file
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationReminderTimeRowDto(" +
+           "m.id, m.name, u.number, u.name, t) " +
+           "FROM Medication m JOIN m.user u JOIN m.reminderTimes t WHERE u.disabled = false")
+    List<MedicationReminderTimeRowDto> findAllReminderTimeRows();
+
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationReminderTimeRowDto(" +
+           "m.id, m.name, u.number, u.name, t) " +
+           "FROM Medication m JOIN m.user u JOIN m.reminderTimes t WHERE m.id IN :medicationIds")
+    List<MedicationReminderTimeRowDto> findReminderTimeRowsByMedicationIds(
+            @Param("medicationIds") Collection<Long> medicationIds);
+
+    /**
+     * 여러 사용자의 약 목록과 기간 내 복용 체크 횟수를 한 번에 조회
+     * checkedDateTime 범위 조건을 JOIN에 걸어 체크가 없는 약도 0건으로 포함된다.
+     */
+    @Query("SELECT new com.project.safetyFence.medication.dto.MedicationCheckSummaryDto(" +
+           "m.id, m.name, m.dosage, m.purpose, m.frequency, u.number, COUNT(ml.id)) " +
+           "FROM Medication m JOIN m.user u " +
+           "LEFT JOIN m.logs ml ON ml.checkedDateTime >= :start AND ml.checkedDateTime < :end " +
+           "WHERE u.number IN :userNumbers " +
+           "GROUP BY m.id, m.name, m.dosage, m.purpose, m.frequency, u.number " +
+           "ORDER BY m.id DESC")
+    List<MedicationCheckSummaryDto> findCheckSummaries(@Param("userNumbers") Collection<String> userNumbers,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // 사용자별 약 수 (관리자 목록용)
+    @Query("SELECT new com.project.safetyFence.user.dto.UserCountDto(m.user.number, COUNT(m)) " +
+           "FROM Medication m WHERE m.user.number IN :userNumbers GROUP BY m.user.number")
+    List<UserCountDto> countByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    // 복용 집계 백필이 끝나지 않은 약 중 로그가 있는 약
+    // (집계 행 존재 여부로 고르면 배포 후 첫 체크로 이번 달 행이 생긴 약의 이전 로그가 빠진다)
+    @Query("SELECT m.id FROM Medication m WHERE m.adherenceBackfilled = false " +
+           "AND EXISTS (SELECT 1 FROM MedicationLog ml WHERE ml.medication = m)")
+    List<Long> findIdsPendingAdherenceBackfill();
+}
@@ -1,22 +1,43 @@
 package com.project.safetyFence.medication;
 
-import com.project.safetyFence.link.LinkRepository;
-import com.project.safetyFence.link.domain.Link;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
+import com.project.safetyFence.common.pagination.JsonArrayStreamWriter;
+import com.project.safetyFence.common.pagination.TimeIdCursor;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
 import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.domain.MedicationAdherenceMonth;
 import com.project.safetyFence.medication.domain.MedicationLog;
 import com.project.safetyFence.medication.dto.*;
+import com.project.safetyFence.medication.event.MedicationScheduleChangedEvent;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.user.dto.UserSummaryDto;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +46,16 @@ public class MedicationService {
 
     private final MedicationRepository medicationRepository;
     private final MedicationLogRepository medicationLogRepository;
+    private final MedicationAdherenceMonthRepository adherenceMonthRepository;
     private final UserRepository userRepository;
-    private final LinkRepository linkRepository;
+    private final LinkGraph linkGraph;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_REMINDER_TIMES = 12;
+    private static final int DEFAULT_ADHERENCE_DAYS = 90;
+    private static final int MAX_ADHERENCE_DAYS = 366;
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
 
     // ========== 권한 검증 헬퍼 메서드 ==========
 
@@ -42,11 +71,7 @@ public class MedicationService {
         }
 
         // 2) 보호자인지 확인
-        List<Link> links = linkRepository.findByUserNumber(medicationOwnerNumber);
-        boolean isGuardian = links.stream()
-                .anyMatch(link -> link.getUser().getNumber().equals(requestUserNumber));
-
-        if (!isGuardian) {
+        if (!linkGraph.hasLink(requestUserNumber, medicationOwnerNumber)) {
             throw new IllegalArgumentException("권한이 없습니다");
         }
     }
@@ -68,21 +93,9 @@ public class MedicationService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
         }
 
-        List<Medication> medications = medicationRepository.findByUserNumber(userNumber);
         LocalDate checkDate = (date != null) ? date : LocalDate.now();
-
-        // 각 약의 해당 날짜 체크 여부를 함께 조회
-        List<MedicationItemDto> medicationItems = medications.stream()
-                .map(medication -> {
-                    // 해당 날짜 체크 여부 확인 (여러 개 있을 수 있음)
-                    List<MedicationLog> logs = medicationLogRepository
-                            .findByMedicationIdAndDate(medication.getId(), checkDate);
-                    boolean checked = !logs.isEmpty();
-                    int checkCount = logs.size();  // 오늘 몇 번 먹었는지
-
-                    return new MedicationItemDto(medication, checked, checkCount);
-                })
-                .collect(Collectors.toList());
+        List<MedicationItemDto> medicationItems = loadMedicationItems(List.of(userNumber), checkDate)
+                .getOrDefault(userNumber, List.of());
 
         return new MedicationListResponseDto(checkDate, medicationItems);
     }
@@ -96,7 +109,7 @@ public class MedicationService {
 
         // 권한 확인: 본인이 아닌 경우 보호자인지 검증
         if (!targetUserNumber.equals(userNumber)) {
-            boolean isGuardian = linkRepository.existsByUser_NumberAndUserNumber(userNumber, targetUserNumber);
+            boolean isGuardian = linkGraph.hasLink(userNumber, targetUserNumber);
             if (!isGuardian) {
                 throw new IllegalArgumentException("권한이 없습니다. 해당 사용자의 보호자만 약을 추가할 수 있습니다.");
             }
@@ -116,8 +129,12 @@ public class MedicationService {
                 requestDto.getFrequency()
         );
 
+        validateReminderTimes(requestDto.getReminderTimes());
+        medication.updateReminderTimes(requestDto.getReminderTimes());
+
         targetUser.addMedication(medication);
         Medication savedMedication = medicationRepository.save(medication);
+        publishScheduleChanged(savedMedication);
 
         return new MedicationCreateResponseDto(savedMedication);
     }
@@ -133,10 +150,51 @@ public class MedicationService {
         User user = medication.getUser();
         user.removeMedication(medication);
         medicationRepository.delete(medication);
+        eventPublisher.publishEvent(MedicationScheduleChangedEvent.removed(medicationId));
+        eventPublisher.publishEvent(new CalendarChangedEvent(user.getNumber()));
 
         return new MedicationDeleteResponseDto(medicationId);
     }
 
+    /**
+     * 약 알림 시각 변경 (본인 + 보호자)
+     * 빈 목록이면 기본 알림(아침/점심/저녁)으로 되돌린다.
+     */
+    @Transactional
+    public MedicationReminderTimesResponseDto updateReminderTimes(String userNumber, Long medicationId,
+                                                                  List<LocalTime> reminderTimes) {
+        Medication medication = medicationRepository.findById(medicationId)
+                .orElseThrow(() -> new IllegalArgumentException("약 정보를 찾을 수 없습니다"));
+
+        // 권한 확인 (본인 + 보호자)
+        validateMedicationAccess(medication, userNumber);
+        validateReminderTimes(reminderTimes);
+
+        medication.updateReminderTimes(reminderTimes);
+        publishScheduleChanged(medication);
+
+        return MedicationReminderTimesResponseDto.builder()
+                .message("알림 시각이 변경되었습니다")
+                .medicationId(medicationId)
+                .reminderTimes(List.copyOf(medication.getReminderTimes()))
+                .build();
+    }
+
+    private void validateReminderTimes(List<LocalTime> reminderTimes) {
+        if (reminderTimes != null && reminderTimes.size() > MAX_REMINDER_TIMES) {
+            throw new IllegalArgumentException("알림 시각은 최대 " + MAX_REMINDER_TIMES + "개까지 등록할 수 있습니다");
+        }
+    }
+
+    // 커밋 이후 알림 인덱스와 캘린더 캐시에 반영된다
+    private void publishScheduleChanged(Medication medication) {
+        User owner = medication.getUser();
+        eventPublisher.publishEvent(new MedicationScheduleChangedEvent(
+                medication.getId(), medication.getName(), owner.getNumber(), owner.getName(),
+                List.copyOf(medication.getReminderTimes())));
+        eventPublisher.publishEvent(new CalendarChangedEvent(owner.getNumber()));
+    }
+
     // ========== 체크 시스템 API ==========
 
     /**
@@ -155,6 +213,8 @@ public class MedicationService {
         MedicationLog newLog = new MedicationLog(medication, now);
         medication.addLog(newLog);
         medicationLogRepository.save(newLog);
+        lockAdherenceMonth(medication, now.toLocalDate()).recordDose(now.getDayOfMonth());
+        eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
 
         return MedicationCheckResponseDto.builder()
                 .message("약 복용이 체크되었습니다")
@@ -183,6 +243,8 @@ public class MedicationService {
         LocalDateTime deletedDateTime = recentLog.getCheckedDateTime();
         medication.removeLog(recentLog);
         medicationLogRepository.delete(recentLog);
+        lockAdherenceMonth(medication, deletedDateTime.toLocalDate()).removeDose(deletedDateTime.getDayOfMonth());
+        eventPublisher.publishEvent(new CalendarChangedEvent(userNumber));
 
         return MedicationUncheckResponseDto.builder()
                 .message("약 복용 체크가 해제되었습니다")
@@ -228,34 +290,197 @@ public class MedicationService {
                 .build();
     }
 
+    /**
+     * 복용 이력 커서 페이지 조회 (본인 + 보호자, 최신순)
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     */
+    public CursorPageResponseDto<MedicationHistoryItemDto> getMedicationHistoryPage(
+            String userNumber, Long medicationId, String cursor, int size) {
+        validateHistoryAccess(userNumber, medicationId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<MedicationLog> rows = (after == null)
+                ? medicationLogRepository.findFirstPageByMedicationId(medicationId, limit)
+                : medicationLogRepository.findPageByMedicationIdBefore(medicationId, after.time(), after.id(), limit);
+
+        return CursorPageResponseDto.of(rows, pageSize,
+                log -> new TimeIdCursor(log.getCheckedDateTime(), log.getId()), MedicationHistoryItemDto::new);
+    }
+
+    /**
+     * 복용 이력 조회 권한 확인 (스트리밍 시작 전에 호출)
+     */
+    public void validateHistoryAccess(String userNumber, Long medicationId) {
+        Medication medication = medicationRepository.findById(medicationId)
+                .orElseThrow(() -> new IllegalArgumentException("약 정보를 찾을 수 없습니다"));
+        validateMedicationAccess(medication, userNumber);
+    }
+
+    /**
+     * 복용 이력 전체를 JSON 배열로 스트리밍 (최신순)
+     * 권한 확인은 validateHistoryAccess로 먼저 수행한다.
+     * @return 기록한 항목 수
+     */
+    public long streamMedicationHistory(Long medicationId, OutputStream outputStream) {
+        try (Stream<MedicationHistoryItemDto> history = medicationLogRepository.streamHistoryByMedicationId(medicationId)) {
+            return JsonArrayStreamWriter.write(objectMapper, outputStream, history);
+        }
+    }
+
+    /**
+     * 복용 통계 조회 (본인 + 보호자)
+     * 원본 로그 대신 월간 복용 집계만 읽는다 (90일 = 최대 4행).
+     */
+    public MedicationAdherenceResponseDto getMedicationAdherence(String userNumber, Long medicationId,
+                                                                 Integer days, LocalDate endDate) {
+        Medication medication = medicationRepository.findById(medicationId)
+                .orElseThrow(() -> new IllegalArgumentException("약 정보를 찾을 수 없습니다"));
+
+        // 조회 권한 확인 (본인 + 보호자)
+        validateMedicationAccess(medication, userNumber);
+
+        int rangeDays = (days != null) ? days : DEFAULT_ADHERENCE_DAYS;
+        if (rangeDays < 1 || rangeDays > MAX_ADHERENCE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_ADHERENCE_DAYS + "일 이하여야 합니다");
+        }
+
+        LocalDate end = (endDate != null) ? endDate : LocalDate.now();
+        LocalDate start = end.minusDays(rangeDays - 1);
+
+        Map<Integer, MedicationAdherenceMonth> monthsByKey = adherenceMonthRepository
+                .findByMedicationIdAndMonthKeyBetween(medicationId,
+                        MedicationAdherenceMonth.toMonthKey(start), MedicationAdherenceMonth.toMonthKey(end))
+                .stream()
+                .collect(Collectors.toMap(MedicationAdherenceMonth::getMonthKey, month -> month));
+
+        List<Integer> dailyDoseCounts = new ArrayList<>(rangeDays);
+        Map<LocalDate, int[]> weekTotals = new LinkedHashMap<>();
+        Map<YearMonth, int[]> monthTotals = new LinkedHashMap<>();
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            MedicationAdherenceMonth month = monthsByKey.get(MedicationAdherenceMonth.toMonthKey(date));
+            int doseCount = (month != null) ? month.getDoseCount(date.getDayOfMonth()) : 0;
+            dailyDoseCounts.add(doseCount);
+
+            accumulate(weekTotals.computeIfAbsent(
+                    date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), k -> new int[3]), doseCount);
+            accumulate(monthTotals.computeIfAbsent(YearMonth.from(date), k -> new int[3]), doseCount);
+        }
+
+        List<AdherencePeriodDto> weeks = new ArrayList<>();
+        weekTotals.forEach((weekStart, totals) -> weeks.add(toPeriod(
+                max(weekStart, start), min(weekStart.plusDays(6), end), totals)));
+
+        List<AdherencePeriodDto> months = new ArrayList<>();
+        monthTotals.forEach((yearMonth, totals) -> months.add(toPeriod(
+                max(yearMonth.atDay(1), start), min(yearMonth.atEndOfMonth(), end), totals)));
+
+        int takenDays = (int) dailyDoseCounts.stream().filter(count -> count > 0).count();
+        int totalDoses = dailyDoseCounts.stream().mapToInt(Integer::intValue).sum();
+
+        return MedicationAdherenceResponseDto.builder()
+                .medicationId(medicationId)
+                .medicationName(medication.getName())
+                .startDate(start)
+                .endDate(end)
+                .totalDays(rangeDays)
+                .takenDays(takenDays)
+                .totalDoses(totalDoses)
+                .adherenceRate(Math.round(takenDays * 1000.0 / rangeDays) / 10.0)
+                .dailyDoseCounts(dailyDoseCounts)
+                .weeks(weeks)
+                .months(months)
+                .build();
+    }
+
+    /**
+     * 원본 로그로 약 하나의 월간 복용 집계를 다시 계산 (집계 도입 이전 로그 백필용)
+     * 월 행을 먼저 잠근 뒤 로그를 다시 센다. 잠그기 전에 센 값으로 덮어쓰면 그 사이 체크된 복용이 유실된다.
+     */
+    @Transactional
+    public void rebuildAdherence(Long medicationId) {
+        Medication medication = medicationRepository.findById(medicationId).orElse(null);
+        if (medication == null) {
+            return;
+        }
+
+        Map<Integer, MedicationAdherenceMonth> months = new TreeMap<>();
+        medicationLogRepository.countDailyChecksByMedicationId(medicationId).stream()
+                .map(MedicationDailyCheckCountDto::getDate)
+                .sorted()
+                .forEach(date -> months.computeIfAbsent(MedicationAdherenceMonth.toMonthKey(date),
+                        monthKey -> lockAdherenceMonth(medication, date)));
+
+        for (MedicationDailyCheckCountDto daily : medicationLogRepository.countDailyChecksByMedicationId(medicationId)) {
+            LocalDate date = daily.getDate();
+            months.computeIfAbsent(MedicationAdherenceMonth.toMonthKey(date),
+                            monthKey -> lockAdherenceMonth(medication, date))
+                    .overwriteDoseCount(date.getDayOfMonth(), daily.getCheckCount());
+        }
+        medication.markAdherenceBackfilled();
+    }
+
+    // 해당 월 집계 행을 잠그고 반환 (없으면 생성)
+    // 행이 없으면 FOR UPDATE가 아무것도 잠그지 못해 동시 체크가 둘 다 INSERT하다 유니크 제약에 걸리므로
+    // INSERT ... ON CONFLICT DO NOTHING으로 행을 먼저 보장한 뒤 잠근다.
+    private MedicationAdherenceMonth lockAdherenceMonth(Medication medication, LocalDate date) {
+        int monthKey = MedicationAdherenceMonth.toMonthKey(date);
+        boolean created = adherenceMonthRepository.insertIfAbsent(medication.getId(), monthKey) > 0;
+        MedicationAdherenceMonth month = adherenceMonthRepository.findForUpdate(medication.getId(), monthKey)
+                .orElseThrow(() -> new IllegalStateException("복용 집계 행을 찾을 수 없습니다: " + medication.getId()));
+        if (created && Hibernate.isInitialized(medication.getAdherenceMonths())) {
+            medication.addAdherenceMonth(month);
+        }
+        return month;
+    }
+
+    // totals: [포함된 날 수, 복용한 날 수, 복용 횟수]
+    private void accumulate(int[] totals, int doseCount) {
+        totals[0]++;
+        if (doseCount > 0) {
+            totals[1]++;
+        }
+        totals[2] += doseCount;
+    }
+
+    private AdherencePeriodDto toPeriod(LocalDate startDate, LocalDate endDate, int[] totals) {
+        return new AdherencePeriodDto(startDate, endDate, totals[0], totals[1], totals[2]);
+    }
+
+    private LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
     /**
      * 피보호자들의 약 복용 상태 조회 (보호자용)
      */
     public List<WardMedicationStatusDto> getWardsTodayMedicationStatus(String supporterNumber, LocalDate date) {
         // 내가 구독한 피보호자들 조회
-        User supporter = userRepository.findByNumberWithLinks(supporterNumber);
-        List<Link> wardLinks = supporter.getLinks();
+        List<String> wardNumbers = linkGraph.getWards(supporterNumber).stream()
+                .map(LinkEdge::wardNumber)
+                .toList();
 
-        List<WardMedicationStatusDto> wardStatuses = new ArrayList<>();
-        LocalDate checkDate = (date != null) ? date : LocalDate.now();  // 날짜 파라미터가 없으면 오늘
+        if (wardNumbers.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        for (Link link : wardLinks) {
-            String wardNumber = link.getUserNumber();
-            User ward = userRepository.findByNumber(wardNumber);
+        LocalDate checkDate = (date != null) ? date : LocalDate.now();  // 날짜 파라미터가 없으면 오늘
 
-            // 피보호자의 약 목록 조회
-            List<Medication> medications = medicationRepository.findByUserNumber(wardNumber);
+        // 피보호자 정보와 약/복용 횟수를 피보호자 수와 무관하게 고정 쿼리 수로 조회
+        Map<String, String> wardNames = userRepository.findSummariesByNumberIn(wardNumbers).stream()
+                .collect(Collectors.toMap(UserSummaryDto::getNumber, UserSummaryDto::getName));
+        Map<String, List<MedicationItemDto>> itemsByWard = loadMedicationItems(wardNumbers, checkDate);
 
-            // 각 약의 해당 날짜 복용 여부 확인
-            List<MedicationItemDto> medicationItems = medications.stream()
-                    .map(medication -> {
-                        List<MedicationLog> logs = medicationLogRepository
-                                .findByMedicationIdAndDate(medication.getId(), checkDate);
-                        boolean checked = !logs.isEmpty();
-                        int checkCount = logs.size();  // 해당 날짜에 몇 번 먹었는지
-                        return new MedicationItemDto(medication, checked, checkCount);
-                    })
-                    .collect(Collectors.toList());
+        List<WardMedicationStatusDto> wardStatuses = new ArrayList<>();
+        for (String wardNumber : wardNumbers) {
+            List<MedicationItemDto> medicationItems = itemsByWard.getOrDefault(wardNumber, List.of());
 
             // 복용한 약 개수 계산
             int checkedCount = (int) medicationItems.stream()
@@ -264,7 +489,7 @@ public class MedicationService {
 
             WardMedicationStatusDto wardStatus = WardMedicationStatusDto.builder()
                     .wardNumber(wardNumber)
-                    .wardName(ward.getName())
+                    .wardName(wardNames.get(wardNumber))
                     .medications(medicationItems)
                     .totalMedications(medicationItems.size())
                     .checkedMedications(checkedCount)
@@ -275,4 +500,51 @@ public class MedicationService {
 
         return wardStatuses;
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 피보호자의 해당 날짜 복용 완료 현황 (대시보드용)
+     * 집계 쿼리 1회로 피보호자 수와 무관하게 조회하며, 약이 없는 피보호자는 결과에 없다.
+     */
+    public Map<String, MedicationCompletionDto> getMedicationCompletion(Collection<String> userNumbers, LocalDate date) {
+        if (userNumbers.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate checkDate = (date != null) ? date : LocalDate.now();
+
+        Map<String, MedicationCompletionDto> completion = new LinkedHashMap<>();
+        for (MedicationCheckSummaryDto summary : medicationRepository.findCheckSummaries(
+                userNumbers, checkDate.atStartOfDay(), checkDate.plusDays(1).atStartOfDay())) {
+            boolean checked = summary.getCheckCount() != null && summary.getCheckCount() > 0;
+            completion.merge(summary.getUserNumber(), new MedicationCompletionDto(1, checked ? 1 : 0),
+                    MedicationCompletionDto::plus);
+        }
+        return completion;
+    }
+
+    /**
+     * 여러 사용자의 약 목록과 해당 날짜 복용 횟수를 사용자별로 묶어 조회
+     * 약/체크 횟수 집계 1회 + 알림 시각 1회로 약 개수와 무관하게 쿼리 수가 고정된다.
+     */
+    private Map<String, List<MedicationItemDto>> loadMedicationItems(Collection<String> userNumbers, LocalDate date) {
+        List<MedicationCheckSummaryDto> summaries = medicationRepository.findCheckSummaries(
+                userNumbers, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        if (summaries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> medicationIds = summaries.stream().map(MedicationCheckSummaryDto::getMedicationId).toList();
+        Map<Long, List<LocalTime>> reminderTimes = medicationRepository.findReminderTimeRowsByMedicationIds(medicationIds)
+                .stream()
+                .collect(Collectors.groupingBy(MedicationReminderTimeRowDto::getMedicationId,
+                        Collectors.mapping(MedicationReminderTimeRowDto::getReminderTime,
+                                Collectors.collectingAndThen(Collectors.toList(),
+                                        times -> times.stream().sorted().toList()))));
+
+        return summaries.stream()
+                .collect(Collectors.groupingBy(MedicationCheckSummaryDto::getUserNumber, LinkedHashMap::new,
+                        Collectors.mapping(summary -> new MedicationItemDto(summary,
+                                        reminderTimes.getOrDefault(summary.getMedicationId(), List.of())),
+                                Collectors.toList())));
+    }
+}
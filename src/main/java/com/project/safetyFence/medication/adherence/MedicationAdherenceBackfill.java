@@ -0,0 +1,61 @@
+package com.project.safetyFence.medication.adherence;
+
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.MedicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 월간 복용 집계 백필
+ * 집계 도입 이전에 만든 약 중 복용 로그가 있고 아직 백필하지 않은 약을 골라 시작 시 한 번 계산한다.
+ * 집계 행 유무가 아니라 약별 백필 완료 표시로 고르므로, 배포 직후 체크로 이번 달 행이 먼저 생겨도 이전 로그가 빠지지 않는다.
+ * 약 단위로 트랜잭션을 나누어 실패해도 나머지 약은 계속 진행한다.
+ */
+@Slf4j
+@Component
+public class MedicationAdherenceBackfill {
+
+    private final MedicationRepository medicationRepository;
+    private final MedicationService medicationService;
+    private final boolean enabled;
+
+    public MedicationAdherenceBackfill(
+            MedicationRepository medicationRepository,
+            MedicationService medicationService,
+            @Value("${medication.adherence.backfill-on-startup:true}") boolean enabled) {
+        this.medicationRepository = medicationRepository;
+        this.medicationService = medicationService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> medicationIds = medicationRepository.findIdsPendingAdherenceBackfill();
+        if (medicationIds.isEmpty()) {
+            return;
+        }
+
+        log.info("📊 복용 집계 백필 시작: medications={}", medicationIds.size());
+
+        int failed = 0;
+        for (Long medicationId : medicationIds) {
+            try {
+                medicationService.rebuildAdherence(medicationId);
+            } catch (Exception e) {
+                failed++;
+                log.error("❌ 복용 집계 백필 실패: medicationId={}, error={}", medicationId, e.getMessage());
+            }
+        }
+
+        log.info("✅ 복용 집계 백필 완료: {}건, 실패 {}건", medicationIds.size() - failed, failed);
+    }
+}
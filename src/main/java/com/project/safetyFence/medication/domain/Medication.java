@@ -4,7 +4,10 @@ import com.project.safetyFence.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,10 +36,27 @@ public class Medication {
     @Column(nullable = false)
     private String frequency;  // 주기 (예: "하루 3회", "아침 저녁")
 
+    // 약별 복용 알림 시각 (비어있으면 아침/점심/저녁 기본 알림 대상)
+    @ElementCollection
+    @CollectionTable(name = "medication_reminder_time", joinColumns = @JoinColumn(name = "medication_id"))
+    @Column(name = "reminder_time", nullable = false)
+    @OrderBy
+    @BatchSize(size = 100)
+    private List<LocalTime> reminderTimes = new ArrayList<>();
+
     // 1:N 양방향 관계 - MedicationLog
     @OneToMany(mappedBy = "medication", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MedicationLog> logs = new ArrayList<>();
 
+    // 월간 복용 집계 백필 완료 여부 (집계 도입 이전의 약은 false로 시작해 백필 후 true, 새 약은 처음부터 true)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean adherenceBackfilled = true;
+
+    // 1:N 양방향 관계 - 월간 복용 집계
+    @OneToMany(mappedBy = "medication", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<MedicationAdherenceMonth> adherenceMonths = new ArrayList<>();
+
     public Medication(User user, String name, String dosage, String purpose, String frequency) {
         this.user = user;
         this.name = name;
@@ -61,6 +81,27 @@ public class Medication {
         logs.remove(log);
     }
 
+    public void addAdherenceMonth(MedicationAdherenceMonth adherenceMonth) {
+        adherenceMonths.add(adherenceMonth);
+    }
+
+    public void markAdherenceBackfilled() {
+        this.adherenceBackfilled = true;
+    }
+
+    // 알림 시각 변경 (분 단위로 자르고 중복 제거 후 정렬)
+    public void updateReminderTimes(List<LocalTime> reminderTimes) {
+        this.reminderTimes.clear();
+        if (reminderTimes == null) {
+            return;
+        }
+        reminderTimes.stream()
+                .map(time -> time.withSecond(0).withNano(0))
+                .distinct()
+                .sorted()
+                .forEach(this.reminderTimes::add);
+    }
+
     // 수정 메서드
     public void update(String name, String dosage, String purpose, String frequency) {
         this.name = name;
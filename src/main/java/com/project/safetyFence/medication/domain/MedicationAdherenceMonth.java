@@ -0,0 +1,103 @@
+package com.project.safetyFence.medication.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 약별 월간 복용 집계 (롤업)
+ *
+ * 한 달을 하루 1비트(takenDays)와 하루 1바이트 복용 횟수(doseCounts)로 표현한다.
+ * 약 하나의 90일 통계는 이 행 3~4개(수백 바이트)로 계산되며, 원본 MedicationLog를 읽지 않는다.
+ * 체크/해제 시 MedicationService가 증분 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_medication_adherence_month",
+        columnNames = {"medication_id", "month_key"}))
+public class MedicationAdherenceMonth {
+
+    private static final int MAX_DAYS = 31;
+    private static final int MAX_DOSE_COUNT = 0xFF;  // 하루 복용 횟수는 1바이트(무부호)로 저장
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "medication_id", nullable = false)
+    private Medication medication;
+
+    @Column(name = "month_key", nullable = false)
+    private int monthKey;  // yyyyMM (예: 202503)
+
+    @Column(nullable = false)
+    private int takenDays;  // 복용한 날 비트셋 (1일 = bit 0)
+
+    @Column(nullable = false, length = MAX_DAYS)
+    private byte[] doseCounts = new byte[MAX_DAYS];  // 일별 복용 횟수
+
+    public MedicationAdherenceMonth(Medication medication, YearMonth month) {
+        this.medication = medication;
+        this.monthKey = toMonthKey(month);
+    }
+
+    public static int toMonthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static int toMonthKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    public YearMonth getMonth() {
+        return YearMonth.of(monthKey / 100, monthKey % 100);
+    }
+
+    // 복용 1회 추가
+    public void recordDose(int dayOfMonth) {
+        int index = dayOfMonth - 1;
+        int count = Math.min(getDoseCount(dayOfMonth) + 1, MAX_DOSE_COUNT);
+        doseCounts[index] = (byte) count;
+        takenDays |= 1 << index;
+    }
+
+    // 복용 1회 취소 (0회가 되면 복용한 날에서 제외)
+    public void removeDose(int dayOfMonth) {
+        int index = dayOfMonth - 1;
+        int count = Math.max(getDoseCount(dayOfMonth) - 1, 0);
+        doseCounts[index] = (byte) count;
+        if (count == 0) {
+            takenDays &= ~(1 << index);
+        }
+    }
+
+    // 로그 기준으로 하루 횟수를 덮어쓴다 (백필용)
+    public void overwriteDoseCount(int dayOfMonth, long count) {
+        int index = dayOfMonth - 1;
+        int bounded = (int) Math.min(Math.max(count, 0), MAX_DOSE_COUNT);
+        doseCounts[index] = (byte) bounded;
+        if (bounded > 0) {
+            takenDays |= 1 << index;
+        } else {
+            takenDays &= ~(1 << index);
+        }
+    }
+
+    public int getDoseCount(int dayOfMonth) {
+        return doseCounts[dayOfMonth - 1] & 0xFF;
+    }
+
+    public boolean isTaken(int dayOfMonth) {
+        return (takenDays & (1 << (dayOfMonth - 1))) != 0;
+    }
+
+    // 이 달에 복용한 날 수
+    public int countTakenDays() {
+        return Integer.bitCount(takenDays);
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.safetyFence.medication.domain;
 
+import com.project.safetyFence.common.sequence.IdSequences;
+
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,10 +11,15 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_medication_log_medication_checked", columnList = "medication_id, checked_date_time"),
+        @Index(name = "idx_medication_log_checked", columnList = "checked_date_time")  // 보존 기간 정리용
+})
 public class MedicationLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medication_log_id_gen")
+    @SequenceGenerator(name = "medication_log_id_gen", sequenceName = IdSequences.MEDICATION_LOG, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,19 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기간(주/월) 단위 복용 요약
+ */
+@Getter
+@AllArgsConstructor
+public class AdherencePeriodDto {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int totalDays;   // 조회 범위에 포함된 날 수
+    private int takenDays;   // 한 번이라도 복용한 날 수
+    private int totalDoses;  // 총 복용 횟수
+}
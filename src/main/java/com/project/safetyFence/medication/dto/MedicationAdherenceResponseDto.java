@@ -0,0 +1,23 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class MedicationAdherenceResponseDto {
+    private Long medicationId;
+    private String medicationName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int totalDays;
+    private int takenDays;
+    private int totalDoses;
+    private double adherenceRate;          // 복용한 날 비율 (%)
+    private List<Integer> dailyDoseCounts; // startDate부터 일별 복용 횟수
+    private List<AdherencePeriodDto> weeks;   // 월요일 시작 주 단위
+    private List<AdherencePeriodDto> months;  // 월 단위
+}
@@ -0,0 +1,14 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 약별 복용 체크 횟수 (기간 집계)
+ */
+@Getter
+@AllArgsConstructor
+public class MedicationCheckCountDto {
+    private Long medicationId;
+    private Long checkCount;
+}
@@ -0,0 +1,19 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 약 정보와 기간 내 복용 체크 횟수 (집계 조회용 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class MedicationCheckSummaryDto {
+    private Long medicationId;
+    private String name;
+    private String dosage;
+    private String purpose;
+    private String frequency;
+    private String userNumber;
+    private Long checkCount;
+}
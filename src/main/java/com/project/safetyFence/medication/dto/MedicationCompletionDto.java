@@ -0,0 +1,19 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하루 복용 완료 현황 (등록된 약 수, 복용 체크한 약 수)
+ */
+@Getter
+@AllArgsConstructor
+public class MedicationCompletionDto {
+    private int totalMedications;
+    private int checkedMedications;
+
+    public MedicationCompletionDto plus(MedicationCompletionDto other) {
+        return new MedicationCompletionDto(totalMedications + other.totalMedications,
+                checkedMedications + other.checkedMedications);
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 약별 일별 복용 체크 횟수 (복용 집계 백필, 캘린더 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class MedicationDailyCheckCountDto {
+    private Long medicationId;
+    private LocalDate date;
+    private Long checkCount;
+}
@@ -14,4 +14,9 @@ public class MedicationHistoryItemDto {
         this.logId = log.getId();
         this.checkedDateTime = log.getCheckedDateTime();
     }
+
+    public MedicationHistoryItemDto(Long logId, LocalDateTime checkedDateTime) {
+        this.logId = logId;
+        this.checkedDateTime = checkedDateTime;
+    }
 }
\ No newline at end of file
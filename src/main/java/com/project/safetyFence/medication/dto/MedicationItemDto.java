@@ -3,6 +3,9 @@ package com.project.safetyFence.medication.dto;
 import com.project.safetyFence.medication.domain.Medication;
 import lombok.Getter;
 
+import java.time.LocalTime;
+import java.util.List;
+
 @Getter
 public class MedicationItemDto {
     private Long id;
@@ -10,6 +13,7 @@ public class MedicationItemDto {
     private String dosage;
     private String purpose;
     private String frequency;
+    private List<LocalTime> reminderTimes;
     private boolean checkedToday;
     private int checkCount;  // 오늘 몇 번 먹었는지
 
@@ -19,7 +23,19 @@ public class MedicationItemDto {
         this.dosage = medication.getDosage();
         this.purpose = medication.getPurpose();
         this.frequency = medication.getFrequency();
+        this.reminderTimes = List.copyOf(medication.getReminderTimes());
         this.checkedToday = checkedToday;
         this.checkCount = checkCount;
     }
+
+    public MedicationItemDto(MedicationCheckSummaryDto summary, List<LocalTime> reminderTimes) {
+        this.id = summary.getMedicationId();
+        this.name = summary.getName();
+        this.dosage = summary.getDosage();
+        this.purpose = summary.getPurpose();
+        this.frequency = summary.getFrequency();
+        this.reminderTimes = reminderTimes;
+        this.checkCount = summary.getCheckCount().intValue();
+        this.checkedToday = this.checkCount > 0;
+    }
 }
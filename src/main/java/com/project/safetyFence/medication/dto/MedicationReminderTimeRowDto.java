@@ -0,0 +1,19 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 알림 인덱스 적재용 프로젝션 (약 1개의 알림 시각 1개당 1행)
+ */
+@Getter
+@AllArgsConstructor
+public class MedicationReminderTimeRowDto {
+    private Long medicationId;
+    private String medicationName;
+    private String userNumber;
+    private String userName;
+    private LocalTime reminderTime;
+}
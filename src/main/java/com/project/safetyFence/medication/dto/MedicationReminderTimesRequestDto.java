@@ -0,0 +1,11 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+public class MedicationReminderTimesRequestDto {
+    private List<LocalTime> reminderTimes;  // 빈 목록이면 기본 알림(아침/점심/저녁)으로 되돌림
+}
@@ -0,0 +1,15 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class MedicationReminderTimesResponseDto {
+    private String message;
+    private Long medicationId;
+    private List<LocalTime> reminderTimes;
+}
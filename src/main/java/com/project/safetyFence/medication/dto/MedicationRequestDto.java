@@ -2,6 +2,9 @@ package com.project.safetyFence.medication.dto;
 
 import lombok.Getter;
 
+import java.time.LocalTime;
+import java.util.List;
+
 @Getter
 public class MedicationRequestDto {
     private String name;
@@ -9,4 +12,5 @@ public class MedicationRequestDto {
     private String purpose;
     private String frequency;
     private String targetUserNumber;  // 약을 추가할 대상 (없으면 본인)
+    private List<LocalTime> reminderTimes;  // 복용 알림 시각 (예: ["08:30", "21:00"], 없으면 기본 알림)
 }
\ No newline at end of file
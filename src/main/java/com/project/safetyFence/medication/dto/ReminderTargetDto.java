@@ -0,0 +1,14 @@
+package com.project.safetyFence.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 약 복용 알림 대상 (엔티티 대신 번호/이름만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderTargetDto {
+    private String userNumber;
+    private String userName;
+}
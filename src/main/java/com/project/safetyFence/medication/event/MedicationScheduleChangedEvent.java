@@ -0,0 +1,17 @@
+package com.project.safetyFence.medication.event;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 약 알림 시각 변경 이벤트 (등록/수정/삭제)
+ * 커밋 이후 MedicationReminderIndex에 반영된다. reminderTimes가 비어있으면 인덱스에서 제거한다.
+ */
+public record MedicationScheduleChangedEvent(Long medicationId, String medicationName,
+                                             String userNumber, String userName,
+                                             List<LocalTime> reminderTimes) {
+
+    public static MedicationScheduleChangedEvent removed(Long medicationId) {
+        return new MedicationScheduleChangedEvent(medicationId, null, null, null, List.of());
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.safetyFence.medication.reminder;
+
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.dto.MedicationReminderTimeRowDto;
+import com.project.safetyFence.medication.event.MedicationScheduleChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 약별 복용 알림 시각 인덱스
+ *
+ * 하루 1440분을 분 단위 버킷으로 나누어 (분 → 약) 맵을 유지한다.
+ * 1분 주기 틱은 해당 분 버킷만 읽으므로 전체 약을 훑지 않는다.
+ * 시작 시 DB에서 한 번 적재하고, 이후에는 커밋된 MedicationScheduleChangedEvent로만 갱신한다.
+ */
+@Slf4j
+@Component
+public class MedicationReminderIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final MedicationRepository medicationRepository;
+
+    // minuteOfDay -> (medicationId -> entry)
+    private final List<Map<Long, ReminderEntry>> buckets = new ArrayList<>(MINUTES_PER_DAY);
+
+    // medicationId -> entry (버킷에서 제거할 때 사용)
+    private final Map<Long, ReminderEntry> byMedication = new ConcurrentHashMap<>();
+
+    public MedicationReminderIndex(MedicationRepository medicationRepository) {
+        this.medicationRepository = medicationRepository;
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 알림 시각 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, List<MedicationReminderTimeRowDto>> rowsByMedication = new LinkedHashMap<>();
+        for (MedicationReminderTimeRowDto row : medicationRepository.findAllReminderTimeRows()) {
+            rowsByMedication.computeIfAbsent(row.getMedicationId(), k -> new ArrayList<>()).add(row);
+        }
+
+        rowsByMedication.forEach((medicationId, rows) -> {
+            MedicationReminderTimeRowDto first = rows.get(0);
+            upsert(medicationId, first.getMedicationName(), first.getUserNumber(), first.getUserName(),
+                    rows.stream().map(MedicationReminderTimeRowDto::getReminderTime).toList());
+        });
+
+        log.info("💊 약 알림 인덱스 적재 완료: medications={}", byMedication.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(MedicationScheduleChangedEvent event) {
+        upsert(event.medicationId(), event.medicationName(), event.userNumber(), event.userName(),
+                event.reminderTimes());
+    }
+
+    /**
+     * 약 하나의 알림 시각을 교체 (빈 목록이면 제거)
+     */
+    public void upsert(Long medicationId, String medicationName, String userNumber, String userName,
+                       List<LocalTime> reminderTimes) {
+        List<Integer> minutes = reminderTimes == null ? List.of() : reminderTimes.stream()
+                .map(time -> time.getHour() * 60 + time.getMinute())
+                .distinct()
+                .sorted()
+                .toList();
+
+        byMedication.compute(medicationId, (id, previous) -> {
+            if (previous != null) {
+                previous.minutes().forEach(minute -> buckets.get(minute).remove(id));
+            }
+            if (minutes.isEmpty()) {
+                return null;
+            }
+            ReminderEntry entry = new ReminderEntry(id, medicationName, userNumber, userName, minutes);
+            minutes.forEach(minute -> buckets.get(minute).put(id, entry));
+            return entry;
+        });
+    }
+
+    public void remove(Long medicationId) {
+        upsert(medicationId, null, null, null, List.of());
+    }
+
+    /**
+     * 해당 분에 울려야 하는 알림 목록
+     */
+    public List<DueReminder> dueAt(int minuteOfDay) {
+        return buckets.get(Math.floorMod(minuteOfDay, MINUTES_PER_DAY)).values().stream()
+                .map(entry -> new DueReminder(entry, entry.doseOrdinal(minuteOfDay)))
+                .toList();
+    }
+
+    public int size() {
+        return byMedication.size();
+    }
+
+    /**
+     * 인덱스 항목
+     *
+     * @param minutes 오름차순 정렬된 하루 중 알림 분 목록
+     */
+    public record ReminderEntry(Long medicationId, String medicationName, String userNumber, String userName,
+                                List<Integer> minutes) {
+
+        // 오늘 몇 번째 복용 알림인지 (1부터)
+        int doseOrdinal(int minuteOfDay) {
+            return minutes.indexOf(minuteOfDay) + 1;
+        }
+    }
+
+    /**
+     * 울려야 하는 알림
+     *
+     * @param doseOrdinal 하루 중 몇 번째 복용인지 (이미 이만큼 체크했으면 억제)
+     */
+    public record DueReminder(ReminderEntry entry, int doseOrdinal) {
+    }
+}
@@ -1,33 +1,89 @@
 package com.project.safetyFence.medication.scheduler;
 
 import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.dto.ReminderTargetDto;
+import com.project.safetyFence.notification.DeviceTokenRepository;
 import com.project.safetyFence.notification.NotificationService;
-import com.project.safetyFence.user.domain.User;
-import lombok.RequiredArgsConstructor;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * 약 복용 알림 스케줄러
- * 하루 3번 (아침 8시, 점심 12시, 저녁 7시) 약이 등록된 사용자에게 알림 전송
+ * 하루 3번 (아침 8시, 점심 12시, 저녁 7시) 알림 시각을 따로 지정하지 않은 약이 있는 사용자에게 알림 전송
+ * (알림 시각이 지정된 약은 MedicationReminderTickScheduler가 처리)
+ *
+ * 사용자 전체를 한 번에 읽지 않고 사용자 번호 키셋 페이지(청크) 단위로 번호/이름/토큰만 조회하며,
+ * 청크 안에서는 제한된 동시성으로 전송한다. pacing-window-ms가 설정되면 청크 사이에 쉬어
+ * 한 회차 전송을 해당 시간에 걸쳐 분산한다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MedicationReminderScheduler {
 
     private final MedicationRepository medicationRepository;
+    private final DeviceTokenRepository deviceTokenRepository;
     private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+
+    private final int chunkSize;
+    private final long pacingWindowMs;
+    private final ExecutorService dispatchExecutor;
+
+    // 현재 회차 진행 상황 (게이지)
+    private final AtomicInteger runTotal = new AtomicInteger();
+    private final AtomicInteger runProcessed = new AtomicInteger();
+
+    // 시간대별 마지막 회차 결과
+    private final Map<String, ReminderRunReport> lastReports = new ConcurrentHashMap<>();
+
+    public MedicationReminderScheduler(
+            MedicationRepository medicationRepository,
+            DeviceTokenRepository deviceTokenRepository,
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${medication.reminder.chunk-size:500}") int chunkSize,
+            @Value("${medication.reminder.concurrency:8}") int concurrency,
+            @Value("${medication.reminder.pacing-window-ms:0}") long pacingWindowMs) {
+        this.medicationRepository = medicationRepository;
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.pacingWindowMs = Math.max(pacingWindowMs, 0);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatchExecutor = Executors.newFixedThreadPool(Math.max(concurrency, 1), r -> {
+            Thread thread = new Thread(r, "medication-reminder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("medication.reminder.run.total", runTotal);
+        meterRegistry.gauge("medication.reminder.run.processed", runProcessed);
+    }
 
     /**
      * 아침 8시 약 복용 알림
      */
     @Scheduled(cron = "0 0 8 * * *", zone = "Asia/Seoul")
-    @Transactional(readOnly = true)
     public void sendMorningReminder() {
         log.info("🌅 아침 약 복용 알림 스케줄러 시작");
         sendMedicationReminders("아침");
@@ -37,7 +93,6 @@ public class MedicationReminderScheduler {
      * 점심 12시 약 복용 알림
      */
     @Scheduled(cron = "0 0 12 * * *", zone = "Asia/Seoul")
-    @Transactional(readOnly = true)
     public void sendNoonReminder() {
         log.info("☀️ 점심 약 복용 알림 스케줄러 시작");
         sendMedicationReminders("점심");
@@ -47,7 +102,6 @@ public class MedicationReminderScheduler {
      * 저녁 7시 약 복용 알림
      */
     @Scheduled(cron = "0 0 19 * * *", zone = "Asia/Seoul")
-    @Transactional(readOnly = true)
     public void sendEveningReminder() {
         log.info("🌙 저녁 약 복용 알림 스케줄러 시작");
         sendMedicationReminders("저녁");
@@ -56,29 +110,126 @@ public class MedicationReminderScheduler {
     /**
      * 약이 등록된 모든 사용자에게 알림 전송
      * @param reminderTime 알림 시간대 (아침/점심/저녁)
+     * @return 회차 결과
      */
-    private void sendMedicationReminders(String reminderTime) {
-        List<User> usersWithMedications = medicationRepository.findAllUsersWithMedications();
+    ReminderRunReport sendMedicationReminders(String reminderTime) {
+        long startNanos = System.nanoTime();
+        long totalUsers = medicationRepository.countUsersWithMedications();
 
-        if (usersWithMedications.isEmpty()) {
+        if (totalUsers == 0) {
             log.info("ℹ️ 약이 등록된 사용자가 없습니다.");
-            return;
+            return record(reminderTime, new ReminderRunReport(reminderTime, 0, 0, 0, 0, 0));
         }
 
-        log.info("📢 {} 약 복용 알림 전송 시작: {}명의 사용자", reminderTime, usersWithMedications.size());
+        log.info("📢 {} 약 복용 알림 전송 시작: {}명의 사용자, chunkSize={}", reminderTime, totalUsers, chunkSize);
+
+        runTotal.set((int) totalUsers);
+        runProcessed.set(0);
 
-        int successCount = 0;
-        for (User user : usersWithMedications) {
-            try {
-                notificationService.sendMedicationReminderNotification(user, reminderTime);
-                successCount++;
-            } catch (Exception e) {
-                log.error("❌ 약 복용 알림 전송 실패: userNumber={}, error={}",
-                        user.getNumber(), e.getMessage());
+        // 전체를 pacing window에 고르게 나누기 위한 청크 간 간격
+        long chunkCount = (totalUsers + chunkSize - 1) / chunkSize;
+        long pacingDelayMs = chunkCount > 1 ? pacingWindowMs / chunkCount : 0;
+
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        String afterUserNumber = "";
+        while (true) {
+            List<ReminderTargetDto> chunk = medicationRepository.findReminderTargetsAfter(
+                    afterUserNumber, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
             }
+
+            dispatchChunk(chunk, reminderTime, sent, skipped, failed);
+            afterUserNumber = chunk.get(chunk.size() - 1).getUserNumber();
+
+            log.info("⏳ {} 약 복용 알림 진행: {}/{}명", reminderTime, runProcessed.get(), totalUsers);
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            pace(pacingDelayMs);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        ReminderRunReport report = new ReminderRunReport(
+                reminderTime, runProcessed.get(), sent.get(), skipped.get(), failed.get(), durationMs);
+
+        meterRegistry.timer("medication.reminder.run.duration", "slot", reminderTime)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+
+        log.info("✅ {} 약 복용 알림 전송 완료: {}/{}명 성공, 생략 {}명, 실패 {}명, {}ms",
+                reminderTime, report.sent(), report.processed(), report.skipped(), report.failed(), durationMs);
+        return record(reminderTime, report);
+    }
+
+    /**
+     * 청크 하나를 제한된 동시성으로 전송하고 모두 끝날 때까지 기다린다.
+     */
+    private void dispatchChunk(List<ReminderTargetDto> chunk, String reminderTime,
+                               AtomicInteger sent, AtomicInteger skipped, AtomicInteger failed) {
+        List<String> userNumbers = chunk.stream().map(ReminderTargetDto::getUserNumber).toList();
+        Map<String, List<String>> tokensByUser = deviceTokenRepository.findTokenTargetsByUserNumbers(userNumbers)
+                .stream()
+                .collect(Collectors.groupingBy(DeviceTokenTargetDto::getUserNumber,
+                        Collectors.mapping(DeviceTokenTargetDto::getToken, Collectors.toList())));
+
+        Counter sentCounter = meterRegistry.counter("medication.reminder.sent", "slot", reminderTime);
+        Counter skippedCounter = meterRegistry.counter("medication.reminder.skipped", "slot", reminderTime);
+        Counter failedCounter = meterRegistry.counter("medication.reminder.failed", "slot", reminderTime);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunk.size());
+        for (ReminderTargetDto target : chunk) {
+            List<String> tokens = tokensByUser.getOrDefault(target.getUserNumber(), List.of());
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    if (notificationService.sendMedicationReminder(
+                            target.getUserNumber(), target.getUserName(), tokens, reminderTime)) {
+                        sent.incrementAndGet();
+                        sentCounter.increment();
+                    } else {
+                        skipped.incrementAndGet();
+                        skippedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    failedCounter.increment();
+                    log.error("❌ 약 복용 알림 전송 실패: userNumber={}, error={}",
+                            target.getUserNumber(), e.getMessage());
+                } finally {
+                    runProcessed.incrementAndGet();
+                }
+            }, dispatchExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void pace(long delayMs) {
+        if (delayMs <= 0) {
+            return;
         }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ReminderRunReport record(String reminderTime, ReminderRunReport report) {
+        lastReports.put(reminderTime, report);
+        return report;
+    }
+
+    // 시간대별 마지막 회차 결과 (모니터링용)
+    public Map<String, ReminderRunReport> getLastReports() {
+        return Map.copyOf(lastReports);
+    }
 
-        log.info("✅ {} 약 복용 알림 전송 완료: {}/{}명 성공",
-                reminderTime, successCount, usersWithMedications.size());
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
     }
 }
@@ -0,0 +1,111 @@
+package com.project.safetyFence.medication.scheduler;
+
+import com.project.safetyFence.medication.MedicationLogRepository;
+import com.project.safetyFence.medication.dto.MedicationCheckCountDto;
+import com.project.safetyFence.medication.reminder.MedicationReminderIndex;
+import com.project.safetyFence.medication.reminder.MedicationReminderIndex.DueReminder;
+import com.project.safetyFence.notification.DeviceTokenRepository;
+import com.project.safetyFence.notification.NotificationService;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 약별 알림 시각 스케줄러
+ * 1분마다 MedicationReminderIndex에서 해당 분 버킷만 꺼내 알림을 보낸다.
+ * 오늘 이미 그 회차만큼 복용 체크한 약은 알림을 보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MedicationReminderTickScheduler {
+
+    private static final ZoneId REMINDER_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MedicationReminderIndex reminderIndex;
+    private final MedicationLogRepository medicationLogRepository;
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final NotificationService notificationService;
+
+    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    public void tick() {
+        // 시각과 날짜를 같은 시점/시간대에서 계산 (UTC 서버에서 00~09시 KST에 날짜가 하루 밀리지 않도록)
+        ZonedDateTime now = ZonedDateTime.now(REMINDER_ZONE);
+        dispatchDue(now.toLocalTime(), now.toLocalDate());
+    }
+
+    /**
+     * 해당 분에 예정된 알림 전송
+     * @param now 알림 기준 시각 (분 단위로 사용)
+     * @param today 복용 체크를 확인할 날짜
+     * @return 알림을 보낸 사용자 수
+     */
+    public int dispatchDue(LocalTime now, LocalDate today) {
+        int minuteOfDay = now.getHour() * 60 + now.getMinute();
+        List<DueReminder> due = reminderIndex.dueAt(minuteOfDay);
+
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 오늘 체크 횟수를 약별로 한 번에 집계
+        List<Long> medicationIds = due.stream().map(d -> d.entry().medicationId()).toList();
+        LocalDateTime dayStart = today.atStartOfDay();
+        Map<Long, Long> checkCounts = medicationLogRepository
+                .countChecksByMedicationIdsBetween(medicationIds, dayStart, dayStart.plusDays(1))
+                .stream()
+                .collect(Collectors.toMap(MedicationCheckCountDto::getMedicationId, MedicationCheckCountDto::getCheckCount));
+
+        // 이미 복용한 회차는 제외하고 사용자별로 묶는다
+        Map<String, List<DueReminder>> pendingByUser = due.stream()
+                .filter(d -> checkCounts.getOrDefault(d.entry().medicationId(), 0L) < d.doseOrdinal())
+                .collect(Collectors.groupingBy(d -> d.entry().userNumber(), LinkedHashMap::new, Collectors.toList()));
+
+        int suppressed = due.size() - pendingByUser.values().stream().mapToInt(List::size).sum();
+        if (pendingByUser.isEmpty()) {
+            log.debug("약 알림 모두 복용 완료로 생략: minute={}, suppressed={}", minuteOfDay, suppressed);
+            return 0;
+        }
+
+        Map<String, List<String>> tokensByUser = deviceTokenRepository
+                .findTokenTargetsByUserNumbers(pendingByUser.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(DeviceTokenTargetDto::getUserNumber,
+                        Collectors.mapping(DeviceTokenTargetDto::getToken, Collectors.toList())));
+
+        String timeLabel = String.format("%02d:%02d", now.getHour(), now.getMinute());
+        int sentCount = 0;
+        for (Map.Entry<String, List<DueReminder>> entry : pendingByUser.entrySet()) {
+            String userNumber = entry.getKey();
+            List<DueReminder> reminders = entry.getValue();
+            String medicationNames = reminders.stream()
+                    .map(d -> d.entry().medicationName())
+                    .collect(Collectors.joining(", "));
+
+            try {
+                if (notificationService.sendMedicationReminder(userNumber, reminders.get(0).entry().userName(),
+                        tokensByUser.getOrDefault(userNumber, List.of()),
+                        timeLabel + " (" + medicationNames + ")")) {
+                    sentCount++;
+                }
+            } catch (Exception e) {
+                log.error("❌ 약 알림 전송 실패: userNumber={}, error={}", userNumber, e.getMessage());
+            }
+        }
+
+        log.info("💊 {} 약 알림 전송: {}명, 복용 완료로 생략 {}건", timeLabel, sentCount, suppressed);
+        return sentCount;
+    }
+}
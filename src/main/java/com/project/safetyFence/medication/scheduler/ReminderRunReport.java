@@ -0,0 +1,15 @@
+package com.project.safetyFence.medication.scheduler;
+
+/**
+ * 약 복용 알림 회차 결과
+ *
+ * @param reminderTime 알림 시간대 (아침/점심/저녁)
+ * @param processed    처리한 사용자 수
+ * @param sent         전송한 사용자 수
+ * @param skipped      토큰 없음/병합으로 생략한 사용자 수
+ * @param failed       전송 중 예외가 난 사용자 수
+ * @param durationMs   소요 시간 (ms)
+ */
+public record ReminderRunReport(String reminderTime, int processed, int sent, int skipped, int failed,
+                                long durationMs) {
+}
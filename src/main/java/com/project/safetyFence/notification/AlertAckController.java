@@ -0,0 +1,42 @@
+package com.project.safetyFence.notification;
+
+import com.project.safetyFence.notification.delivery.AlertDeliveryRouter;
+import com.project.safetyFence.notification.dto.AlertAckDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Map;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class AlertAckController {
+
+    private final AlertDeliveryRouter alertDeliveryRouter;
+
+    /**
+     * WebSocket 알림 수신 확인
+     * 클라이언트 → 서버: /app/alerts/ack
+     *
+     * @param ack 수신한 알림 ID
+     * @param sessionAttributes WebSocket 세션 속성 (userNumber 포함)
+     */
+    @MessageMapping("/alerts/ack")
+    public void acknowledge(
+            AlertAckDto ack,
+            @Header("simpSessionAttributes") Map<String, Object> sessionAttributes) {
+        String userNumber = (String) sessionAttributes.get("userNumber");
+
+        if (userNumber == null) {
+            log.error("세션에 userNumber가 없습니다.");
+            return;
+        }
+
+        if (!alertDeliveryRouter.acknowledge(ack.getAlertId(), userNumber)) {
+            log.debug("매칭되는 대기 알림 없음 (이미 폴백됨): alertId={}, userNumber={}", ack.getAlertId(), userNumber);
+        }
+    }
+}
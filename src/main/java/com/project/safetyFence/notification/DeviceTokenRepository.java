@@ -1,14 +1,27 @@
 package com.project.safetyFence.notification;
 
 import com.project.safetyFence.notification.domain.DeviceToken;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
 import com.project.safetyFence.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
     Optional<DeviceToken> findByToken(String token);
     List<DeviceToken> findByUser(User user);
+    List<DeviceToken> findByUser_Number(String userNumber);
+
+    @Query("SELECT new com.project.safetyFence.notification.dto.DeviceTokenTargetDto(u.number, d.token) " +
+           "FROM DeviceToken d JOIN d.user u WHERE u.number IN :userNumbers")
+    List<DeviceTokenTargetDto> findTokenTargetsByUserNumbers(@Param("userNumbers") Collection<String> userNumbers);
+
+    // FCM 폴백이 트랜잭션 밖(ack 타임아웃 스레드)에서 호출될 수 있다
+    @Transactional
     void deleteByToken(String token);
 }
\ No newline at end of file
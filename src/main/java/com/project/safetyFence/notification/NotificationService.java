@@ -1,9 +1,16 @@
 package com.project.safetyFence.notification;
 
 import com.google.firebase.messaging.*;
-import com.project.safetyFence.link.LinkRepository;
-import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.notification.coalescer.CoalescingDecision;
+import com.project.safetyFence.notification.coalescer.NotificationCoalescer;
+import com.project.safetyFence.notification.coalescer.PendingSummary;
+import com.project.safetyFence.notification.delivery.AlertDeliveryRouter;
 import com.project.safetyFence.notification.domain.DeviceToken;
+import com.project.safetyFence.notification.domain.NotificationType;
+import com.project.safetyFence.notification.transport.PushSendException;
+import com.project.safetyFence.notification.transport.PushTransport;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +26,11 @@ import java.util.List;
 public class NotificationService {
 
     private final DeviceTokenRepository deviceTokenRepository;
-    private final LinkRepository linkRepository;
     private final UserRepository userRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final AlertDeliveryRouter alertDeliveryRouter;
+    private final PushTransport pushTransport;
+    private final LinkGraph linkGraph;
 
     /**
      * 어르신을 구독하는 모든 보호자에게 알림 전송
@@ -30,8 +40,17 @@ public class NotificationService {
      */
     @Transactional(readOnly = true)
     public void sendNotificationToSupporters(User elderUser, String title, String body) {
-        // 어르신 번호가 link.user_number(피보호자)인 링크들을 조회해 보호자 목록을 얻는다.
-        List<Link> links = linkRepository.findByUserNumber(elderUser.getNumber());
+        sendNotificationToSupporters(elderUser, title, body, NotificationType.GEOFENCE_ENTRY);
+    }
+
+    /**
+     * 어르신을 구독하는 모든 보호자에게 알림 전송 (알림 종류 지정)
+     * 같은 (어르신, 보호자, 종류) 알림은 병합 윈도우 안에서 한 번만 전송된다.
+     */
+    @Transactional(readOnly = true)
+    public void sendNotificationToSupporters(User elderUser, String title, String body, NotificationType type) {
+        // 어르신 번호가 link.user_number(피보호자)인 링크들을 링크 그래프에서 조회해 보호자 목록을 얻는다.
+        List<LinkEdge> links = linkGraph.getSupporters(elderUser.getNumber());
 
         if (links.isEmpty()) {
             log.info("ℹ️ 보호자가 없어 알림 전송 생략: 어르신={}", elderUser.getNumber());
@@ -40,16 +59,23 @@ public class NotificationService {
 
         log.info("🔔 {} 명의 보호자에게 알림 전송 시작: 어르신={}", links.size(), elderUser.getNumber());
 
-        for (Link link : links) {
-            User supporter = link.getUser();
-            sendNotificationToUser(supporter.getNumber(), title, body, elderUser.getNumber());
+        for (LinkEdge link : links) {
+            String supporterNumber = link.supporterNumber();
+            CoalescingDecision decision = notificationCoalescer.tryAcquire(
+                    type, elderUser.getNumber(), supporterNumber, title, body);
+            if (!decision.shouldSend()) {
+                continue;
+            }
+            sendNotificationToUser(supporterNumber, title, decision.decorate(body), elderUser.getNumber(), type);
         }
     }
 
     /**
      * 특정 사용자에게 알림 전송
+     * 활성 WebSocket 세션이 있으면 WebSocket으로 먼저 전달하고, 오프라인/ack 없음이면 FCM으로 전송
      */
-    private void sendNotificationToUser(String userNumber, String title, String body, String elderNumber) {
+    private void sendNotificationToUser(String userNumber, String title, String body, String elderNumber,
+                                        NotificationType type) {
         User user = userRepository.findByNumber(userNumber);
 
         if (user == null) {
@@ -59,20 +85,26 @@ public class NotificationService {
 
         List<DeviceToken> tokens = deviceTokenRepository.findByUser(user);
 
-        if (tokens.isEmpty()) {
-            log.warn("⚠️ 디바이스 토큰이 없음: userNumber={}", userNumber);
-            return;
-        }
+        alertDeliveryRouter.deliver(userNumber, type, title, body, elderNumber, () -> {
+            if (tokens.isEmpty()) {
+                log.warn("⚠️ 디바이스 토큰이 없음: userNumber={}", userNumber);
+                return;
+            }
 
-        for (DeviceToken deviceToken : tokens) {
-            sendFCMNotification(deviceToken.getToken(), title, body, elderNumber);
-        }
+            for (DeviceToken deviceToken : tokens) {
+                sendFCMNotification(deviceToken.getToken(), title, body, elderNumber, type);
+            }
+        });
     }
 
     /**
-     * FCM으로 알림 전송
+     * FCM으로 알림 전송 (알림 종류에 맞는 type/채널 사용)
      */
-    private void sendFCMNotification(String token, String title, String body, String elderNumber) {
+    private void sendFCMNotification(String token, String title, String body, String elderNumber,
+                                     NotificationType type) {
+        String channelId = (type == NotificationType.MEDICATION_ADDED || type == NotificationType.EVENT_ADDED)
+                ? "ward_updates"
+                : "geofence_notifications";
         try {
             Message message = Message.builder()
                     .setToken(token)
@@ -81,12 +113,12 @@ public class NotificationService {
                             .setBody(body)
                             .build())
                     .putData("elderNumber", elderNumber)
-                    .putData("type", "geofence")
+                    .putData("type", type.getDataType())
                     .setAndroidConfig(AndroidConfig.builder()
                             .setPriority(AndroidConfig.Priority.HIGH)
                             .setNotification(AndroidNotification.builder()
                                     .setSound("default")
-                                    .setChannelId("geofence_notifications")
+                                    .setChannelId(channelId)
                                     .build())
                             .build())
                     .setApnsConfig(ApnsConfig.builder()
@@ -97,11 +129,11 @@ public class NotificationService {
                             .build())
                     .build();
 
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = pushTransport.send(message);
             log.info("✅ FCM 알림 전송 성공: token={}, response={}",
                     token.substring(0, Math.min(20, token.length())) + "...", response);
 
-        } catch (FirebaseMessagingException e) {
+        } catch (PushSendException e) {
             log.error("❌ FCM 알림 전송 실패: token={}, error={}",
                     token.substring(0, Math.min(20, token.length())) + "...", e.getMessage());
         }
@@ -160,7 +192,7 @@ public class NotificationService {
      * 긴급 알림을 보호자들에게 전송 (type="emergency")
      */
     private void sendEmergencyNotificationToSupporters(User elderUser, String title, String body) {
-        List<Link> links = linkRepository.findByUserNumber(elderUser.getNumber());
+        List<LinkEdge> links = linkGraph.getSupporters(elderUser.getNumber());
 
         if (links.isEmpty()) {
             log.info("ℹ️ 보호자가 없어 긴급 알림 전송 생략: 어르신={}", elderUser.getNumber());
@@ -169,13 +201,29 @@ public class NotificationService {
 
         log.info("🚨 {} 명의 보호자에게 긴급 알림 전송 시작: 어르신={}", links.size(), elderUser.getNumber());
 
-        for (Link link : links) {
-            User supporter = link.getUser();
-            List<DeviceToken> tokens = deviceTokenRepository.findByUser(supporter);
+        for (LinkEdge link : links) {
+            // 윈도우의 첫 긴급 알림은 항상 전송되고, 연속 클릭만 병합된다
+            CoalescingDecision decision = notificationCoalescer.tryAcquire(
+                    NotificationType.EMERGENCY, elderUser.getNumber(), link.supporterNumber(), title, body);
+            if (!decision.shouldSend()) {
+                continue;
+            }
 
-            for (DeviceToken deviceToken : tokens) {
-                sendEmergencyFCM(deviceToken.getToken(), title, body, elderUser.getNumber());
+            User supporter = userRepository.findByNumber(link.supporterNumber());
+            if (supporter == null) {
+                log.warn("⚠️ 보호자를 찾을 수 없음: userNumber={}", link.supporterNumber());
+                continue;
             }
+
+            List<DeviceToken> tokens = deviceTokenRepository.findByUser(supporter);
+            String decoratedBody = decision.decorate(body);
+
+            alertDeliveryRouter.deliver(supporter.getNumber(), NotificationType.EMERGENCY, title, decoratedBody,
+                    elderUser.getNumber(), () -> {
+                        for (DeviceToken deviceToken : tokens) {
+                            sendEmergencyFCM(deviceToken.getToken(), title, decoratedBody, elderUser.getNumber());
+                        }
+                    });
         }
     }
 
@@ -207,11 +255,11 @@ public class NotificationService {
                             .build())
                     .build();
 
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = pushTransport.send(message);
             log.info("✅ 긴급 FCM 알림 전송 성공: token={}, response={}",
                     token.substring(0, Math.min(20, token.length())) + "...", response);
 
-        } catch (FirebaseMessagingException e) {
+        } catch (PushSendException e) {
             log.error("❌ 긴급 FCM 알림 전송 실패: token={}, error={}",
                     token.substring(0, Math.min(20, token.length())) + "...", e.getMessage());
         }
@@ -224,7 +272,7 @@ public class NotificationService {
     @Transactional
     public void sendMedicationAddedNotification(String supporterNumber, String wardNumber, String medicationName) {
         // 권한 검증
-        boolean isAuthorized = linkRepository.existsByUser_NumberAndUserNumber(supporterNumber, wardNumber);
+        boolean isAuthorized = linkGraph.hasLink(supporterNumber, wardNumber);
         if (!isAuthorized) {
             throw new IllegalArgumentException("권한이 없습니다");
         }
@@ -245,6 +293,21 @@ public class NotificationService {
         String title = "약 추가 알림";
         String body = String.format("보호자님이 약 '%s'을(를) 추가했습니다", medicationName);
 
+        CoalescingDecision decision = notificationCoalescer.tryAcquire(
+                NotificationType.MEDICATION_ADDED, wardNumber, wardNumber, title, body);
+        if (!decision.shouldSend()) {
+            return;
+        }
+        String decoratedBody = decision.decorate(body);
+        alertDeliveryRouter.deliver(wardNumber, NotificationType.MEDICATION_ADDED, title, decoratedBody, wardNumber,
+                () -> sendMedicationAddedFCM(tokens, title, decoratedBody, wardNumber, medicationName));
+    }
+
+    /**
+     * 약 추가 알림 FCM 전송
+     */
+    private void sendMedicationAddedFCM(List<DeviceToken> tokens, String title, String body, String wardNumber,
+                                        String medicationName) {
         for (DeviceToken deviceToken : tokens) {
             try {
                 Message message = Message.builder()
@@ -270,14 +333,13 @@ public class NotificationService {
                                 .build())
                         .build();
 
-                FirebaseMessaging.getInstance().send(message);
+                pushTransport.send(message);
                 log.info("약 추가 알림 전송 성공: ward={}, medication={}", wardNumber, medicationName);
 
-            } catch (FirebaseMessagingException e) {
+            } catch (PushSendException e) {
                 log.error("FCM 전송 실패: {}", e.getMessage());
                 // 토큰 만료 시 삭제
-                if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED ||
-                        e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+                if (e.isTokenInvalid()) {
                     deviceTokenRepository.deleteByToken(deviceToken.getToken());
                     log.info("만료된 토큰 삭제: {}", deviceToken.getToken());
                 }
@@ -294,7 +356,7 @@ public class NotificationService {
     public void sendEventAddedNotification(String supporterNumber, String wardNumber,
                                           String eventTitle, String eventDate, String eventTime) {
         // 권한 검증
-        boolean isAuthorized = linkRepository.existsByUser_NumberAndUserNumber(supporterNumber, wardNumber);
+        boolean isAuthorized = linkGraph.hasLink(supporterNumber, wardNumber);
         if (!isAuthorized) {
             throw new IllegalArgumentException("권한이 없습니다");
         }
@@ -316,6 +378,22 @@ public class NotificationService {
         String body = String.format("보호자님이 일정 '%s'을(를) %s %s에 추가했습니다",
                                    eventTitle, eventDate, eventTime);
 
+        CoalescingDecision decision = notificationCoalescer.tryAcquire(
+                NotificationType.EVENT_ADDED, wardNumber, wardNumber, title, body);
+        if (!decision.shouldSend()) {
+            return;
+        }
+        String decoratedBody = decision.decorate(body);
+        alertDeliveryRouter.deliver(wardNumber, NotificationType.EVENT_ADDED, title, decoratedBody, wardNumber,
+                () -> sendEventAddedFCM(tokens, title, decoratedBody, wardNumber,
+                        eventTitle, eventDate, eventTime));
+    }
+
+    /**
+     * 일정 추가 알림 FCM 전송
+     */
+    private void sendEventAddedFCM(List<DeviceToken> tokens, String title, String body, String wardNumber,
+                                   String eventTitle, String eventDate, String eventTime) {
         for (DeviceToken deviceToken : tokens) {
             try {
                 Message message = Message.builder()
@@ -343,14 +421,13 @@ public class NotificationService {
                                 .build())
                         .build();
 
-                FirebaseMessaging.getInstance().send(message);
+                pushTransport.send(message);
                 log.info("일정 추가 알림 전송 성공: ward={}, event={}", wardNumber, eventTitle);
 
-            } catch (FirebaseMessagingException e) {
+            } catch (PushSendException e) {
                 log.error("FCM 전송 실패: {}", e.getMessage());
                 // 토큰 만료 시 삭제
-                if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED ||
-                        e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+                if (e.isTokenInvalid()) {
                     deviceTokenRepository.deleteByToken(deviceToken.getToken());
                     log.info("만료된 토큰 삭제: {}", deviceToken.getToken());
                 }
@@ -359,28 +436,55 @@ public class NotificationService {
     }
 
     /**
-     * 약 복용 알림 전송 (스케줄러에서 호출)
+     * 약 복용 알림 전송
      * 특정 사용자에게 약 복용 시간 알림을 전송
      * @param user 약이 등록된 사용자
      * @param reminderTime 알림 시간 (아침/점심/저녁)
      */
     @Transactional(readOnly = true)
     public void sendMedicationReminderNotification(User user, String reminderTime) {
-        List<DeviceToken> tokens = deviceTokenRepository.findByUser(user);
+        List<String> tokens = deviceTokenRepository.findByUser(user).stream()
+                .map(DeviceToken::getToken)
+                .toList();
 
+        sendMedicationReminder(user.getNumber(), user.getName(), tokens, reminderTime);
+    }
+
+    /**
+     * 약 복용 알림 전송 (스케줄러에서 호출)
+     * 토큰을 청크 단위로 미리 조회해 넘기므로 엔티티/트랜잭션 없이 동작한다.
+     * @param userNumber 약이 등록된 사용자 번호
+     * @param userName 사용자 이름
+     * @param tokens 사용자의 디바이스 토큰 목록
+     * @param reminderTime 알림 시간 (아침/점심/저녁)
+     * @return 전송을 시도했으면 true, 토큰 없음/병합으로 생략했으면 false
+     */
+    public boolean sendMedicationReminder(String userNumber, String userName, List<String> tokens,
+                                          String reminderTime) {
         if (tokens.isEmpty()) {
-            log.info("ℹ️ 디바이스 토큰 없음 - 약 복용 알림 스킵: userNumber={}", user.getNumber());
-            return;
+            log.info("ℹ️ 디바이스 토큰 없음 - 약 복용 알림 스킵: userNumber={}", userNumber);
+            return false;
         }
 
         String title = "💊 약 드실 시간이에요!";
-        String body = String.format("%s님, %s 약 복용 시간입니다.", user.getName(), reminderTime);
+        String body = String.format("%s님, %s 약 복용 시간입니다.", userName, reminderTime);
 
-        for (DeviceToken deviceToken : tokens) {
-            sendMedicationReminderFCM(deviceToken.getToken(), title, body, user.getNumber());
+        CoalescingDecision decision = notificationCoalescer.tryAcquire(
+                NotificationType.MEDICATION_REMINDER, userNumber, userNumber, reminderTime, title, body);
+        if (!decision.shouldSend()) {
+            return false;
         }
 
-        log.info("✅ 약 복용 알림 전송 완료: userNumber={}, time={}", user.getNumber(), reminderTime);
+        String decoratedBody = decision.decorate(body);
+        alertDeliveryRouter.deliver(userNumber, NotificationType.MEDICATION_REMINDER, title, decoratedBody,
+                userNumber, () -> {
+                    for (String token : tokens) {
+                        sendMedicationReminderFCM(token, title, decoratedBody, userNumber);
+                    }
+                });
+
+        log.debug("약 복용 알림 전송 완료: userNumber={}, time={}", userNumber, reminderTime);
+        return true;
     }
 
     /**
@@ -412,20 +516,52 @@ public class NotificationService {
                             .build())
                     .build();
 
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = pushTransport.send(message);
             log.info("✅ 약 복용 FCM 알림 전송 성공: token={}, response={}",
                     token.substring(0, Math.min(20, token.length())) + "...", response);
 
-        } catch (FirebaseMessagingException e) {
+        } catch (PushSendException e) {
             log.error("❌ 약 복용 FCM 알림 전송 실패: token={}, error={}",
                     token.substring(0, Math.min(20, token.length())) + "...", e.getMessage());
 
             // 토큰 만료 시 삭제
-            if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED ||
-                    e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+            if (e.isTokenInvalid()) {
                 deviceTokenRepository.deleteByToken(token);
                 log.info("만료된 토큰 삭제: {}", token.substring(0, Math.min(20, token.length())) + "...");
             }
         }
     }
+
+    /**
+     * 병합 윈도우 동안 억제된 알림들의 요약 전송 (스케줄러에서 호출)
+     */
+    @Transactional(readOnly = true)
+    public void sendCoalescedSummary(PendingSummary summary) {
+        String recipientNumber = summary.key().recipientNumber();
+        String wardNumber = summary.key().wardNumber();
+        List<DeviceToken> tokens = deviceTokenRepository.findByUser_Number(recipientNumber);
+
+        if (tokens.isEmpty()) {
+            log.info("ℹ️ 디바이스 토큰 없음 - 요약 알림 스킵: recipient={}", recipientNumber);
+            return;
+        }
+
+        String title = summary.lastTitle();
+        String body = summary.summaryBody();
+        NotificationType type = summary.key().type();
+
+        alertDeliveryRouter.deliver(recipientNumber, type, title, body, wardNumber, () -> {
+            for (DeviceToken deviceToken : tokens) {
+                String token = deviceToken.getToken();
+                switch (type) {
+                    case EMERGENCY -> sendEmergencyFCM(token, title, body, wardNumber);
+                    case MEDICATION_REMINDER -> sendMedicationReminderFCM(token, title, body, wardNumber);
+                    default -> sendFCMNotification(token, title, body, wardNumber, type);
+                }
+            }
+        });
+
+        log.info("✅ 요약 알림 전송 완료: type={}, ward={}, recipient={}, count={}",
+                type, wardNumber, recipientNumber, summary.suppressedCount());
+    }
 }
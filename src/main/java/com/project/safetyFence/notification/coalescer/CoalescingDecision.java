@@ -0,0 +1,28 @@
+package com.project.safetyFence.notification.coalescer;
+
+/**
+ * 병합 판단 결과
+ *
+ * @param shouldSend      지금 전송해야 하는지 여부
+ * @param foldedCount     이번 전송에 합쳐진 (이전 윈도우에서 억제된) 알림 수
+ */
+public record CoalescingDecision(boolean shouldSend, int foldedCount) {
+
+    static CoalescingDecision send(int foldedCount) {
+        return new CoalescingDecision(true, foldedCount);
+    }
+
+    static CoalescingDecision suppress() {
+        return new CoalescingDecision(false, 0);
+    }
+
+    /**
+     * 합쳐진 알림이 있으면 본문에 건수를 덧붙인다.
+     */
+    public String decorate(String body) {
+        if (foldedCount <= 0) {
+            return body;
+        }
+        return body + String.format(" (외 %d건)", foldedCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.safetyFence.notification.coalescer;
+
+import com.project.safetyFence.notification.domain.NotificationType;
+
+/**
+ * 알림 병합 단위 (이용자, 수신자, 알림 종류, 대상)
+ *
+ * @param topic 같은 종류 안에서 따로 병합할 대상 (약 알림의 복용 시각/약 등, 구분이 없으면 null)
+ */
+public record CoalescingKey(String wardNumber, String recipientNumber, NotificationType type, String topic) {
+}
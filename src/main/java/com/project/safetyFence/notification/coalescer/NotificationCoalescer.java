@@ -0,0 +1,157 @@
+package com.project.safetyFence.notification.coalescer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.safetyFence.notification.domain.NotificationType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 병합(coalescing) 및 중복 제거
+ *
+ * (이용자, 수신자, 알림 종류, 대상) 단위로 윈도우를 열고, 윈도우 안에서 들어온 같은 종류의 알림은
+ * 전송하지 않고 건수만 누적한다. 윈도우의 첫 알림은 항상 즉시 전송되므로 첫 긴급 알림이
+ * 억제되는 일은 없다. 누적된 알림은 윈도우가 닫힌 뒤 요약 알림 1건으로 전송된다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final Cache<CoalescingKey, CoalescingWindow> windows;
+    private final Map<NotificationType, Long> windowMillis = new EnumMap<>(NotificationType.class);
+    private final boolean summaryEnabled;
+
+    public NotificationCoalescer(
+            @Value("${notification.coalescing.window-ms.geofence-entry:60000}") long geofenceEntryWindowMs,
+            @Value("${notification.coalescing.window-ms.geofence-expired:60000}") long geofenceExpiredWindowMs,
+            @Value("${notification.coalescing.window-ms.emergency:10000}") long emergencyWindowMs,
+            @Value("${notification.coalescing.window-ms.ward-update:30000}") long wardUpdateWindowMs,
+            @Value("${notification.coalescing.window-ms.medication-reminder:600000}") long reminderWindowMs,
+            @Value("${notification.coalescing.summary-enabled:true}") boolean summaryEnabled) {
+        windowMillis.put(NotificationType.GEOFENCE_ENTRY, geofenceEntryWindowMs);
+        windowMillis.put(NotificationType.GEOFENCE_EXPIRED, geofenceExpiredWindowMs);
+        windowMillis.put(NotificationType.EMERGENCY, emergencyWindowMs);
+        windowMillis.put(NotificationType.MEDICATION_ADDED, wardUpdateWindowMs);
+        windowMillis.put(NotificationType.EVENT_ADDED, wardUpdateWindowMs);
+        windowMillis.put(NotificationType.MEDICATION_REMINDER, reminderWindowMs);
+        this.summaryEnabled = summaryEnabled;
+
+        long maxWindowMs = windowMillis.values().stream().mapToLong(Long::longValue).max().orElse(0L);
+        // 요약 전송 전에 윈도우가 사라지지 않도록 가장 긴 윈도우의 2배를 안전 TTL로 둔다
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Math.max(maxWindowMs * 2, 1_000L), TimeUnit.MILLISECONDS)
+                .build();
+
+        log.info("NotificationCoalescer 초기화 완료: windows={}, summaryEnabled={}", windowMillis, summaryEnabled);
+    }
+
+    /**
+     * 알림 전송 여부 판단
+     *
+     * @param type            알림 종류
+     * @param wardNumber      알림 대상 이용자 번호
+     * @param recipientNumber 알림 수신자 번호
+     * @param title           알림 제목 (억제될 경우 요약에 사용)
+     * @param body            알림 내용 (억제될 경우 요약에 사용)
+     * @return 전송 여부와 이번 전송에 합쳐진 알림 수
+     */
+    public CoalescingDecision tryAcquire(NotificationType type, String wardNumber, String recipientNumber,
+                                         String title, String body) {
+        return tryAcquire(type, wardNumber, recipientNumber, null, title, body);
+    }
+
+    /**
+     * 알림 전송 여부 판단 (대상별 병합)
+     * 같은 사용자의 약 알림이라도 복용 시각/약이 다르면 서로 억제하지 않도록 topic을 병합 단위에 포함한다.
+     *
+     * @param topic 같은 종류 안에서 따로 병합할 대상 (null이면 종류 단위)
+     */
+    public CoalescingDecision tryAcquire(NotificationType type, String wardNumber, String recipientNumber,
+                                         String topic, String title, String body) {
+        long window = windowMillis.getOrDefault(type, 0L);
+        if (window <= 0) {
+            return CoalescingDecision.send(0);
+        }
+
+        long now = System.currentTimeMillis();
+        CoalescingKey key = new CoalescingKey(wardNumber, recipientNumber, type, topic);
+        CoalescingDecision[] decision = new CoalescingDecision[1];
+
+        windows.asMap().compute(key, (k, current) -> {
+            if (current == null || current.isClosed(now)) {
+                // 닫힌 윈도우에 남아있던 억제 건수는 새 알림에 합쳐서 보낸다
+                int folded = (current != null && summaryEnabled) ? current.suppressedCount : 0;
+                decision[0] = CoalescingDecision.send(folded);
+                return new CoalescingWindow(now + window);
+            }
+            current.suppress(title, body);
+            decision[0] = CoalescingDecision.suppress();
+            return current;
+        });
+
+        if (!decision[0].shouldSend()) {
+            log.debug("알림 병합으로 전송 억제: type={}, ward={}, recipient={}", type, wardNumber, recipientNumber);
+        }
+        return decision[0];
+    }
+
+    /**
+     * 닫힌 윈도우 중 억제된 알림이 남아있는 것들을 요약으로 꺼낸다.
+     * 억제 건수가 없는 닫힌 윈도우는 함께 정리한다.
+     */
+    public List<PendingSummary> drainClosedWindows() {
+        long now = System.currentTimeMillis();
+        List<PendingSummary> summaries = new ArrayList<>();
+
+        for (CoalescingKey key : new ArrayList<>(windows.asMap().keySet())) {
+            windows.asMap().computeIfPresent(key, (k, current) -> {
+                if (!current.isClosed(now)) {
+                    return current;
+                }
+                if (summaryEnabled && current.suppressedCount > 0) {
+                    summaries.add(new PendingSummary(k, current.suppressedCount, current.lastTitle, current.lastBody));
+                }
+                return null;
+            });
+        }
+
+        return summaries;
+    }
+
+    // 열린 윈도우 수 (모니터링용)
+    public long getOpenWindowCount() {
+        return windows.estimatedSize();
+    }
+
+    /**
+     * 병합 윈도우 상태 (compute 안에서만 변경된다)
+     */
+    private static final class CoalescingWindow {
+        private final long closesAt;
+        private int suppressedCount;
+        private String lastTitle;
+        private String lastBody;
+
+        private CoalescingWindow(long closesAt) {
+            this.closesAt = closesAt;
+        }
+
+        private boolean isClosed(long now) {
+            return now >= closesAt;
+        }
+
+        private void suppress(String title, String body) {
+            this.suppressedCount++;
+            this.lastTitle = title;
+            this.lastBody = body;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.safetyFence.notification.coalescer;
+
+/**
+ * 윈도우가 닫힐 때까지 억제된 알림들의 요약
+ *
+ * @param key              병합 단위
+ * @param suppressedCount  억제된 알림 수
+ * @param lastTitle        마지막으로 억제된 알림 제목
+ * @param lastBody         마지막으로 억제된 알림 내용
+ */
+public record PendingSummary(CoalescingKey key, int suppressedCount, String lastTitle, String lastBody) {
+
+    public String summaryBody() {
+        if (suppressedCount == 1) {
+            return lastBody;
+        }
+        return String.format("%s (최근 %d건의 알림)", lastBody, suppressedCount);
+    }
+}
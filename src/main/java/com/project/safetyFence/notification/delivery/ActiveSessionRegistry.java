@@ -0,0 +1,54 @@
+package com.project.safetyFence.notification.delivery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 활성 STOMP 세션 레지스트리
+ * WebSocketEventListener의 연결/해제 이벤트로 갱신된다.
+ */
+@Slf4j
+@Component
+public class ActiveSessionRegistry {
+
+    // userNumber -> sessionId 집합 (한 사용자가 여러 기기로 접속할 수 있음)
+    private final Map<String, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public void register(String userNumber, String sessionId) {
+        if (userNumber == null || sessionId == null) {
+            return;
+        }
+        sessionsByUser.computeIfAbsent(userNumber, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        log.debug("활성 세션 등록: userNumber={}, sessionId={}", userNumber, sessionId);
+    }
+
+    public void unregister(String userNumber, String sessionId) {
+        if (userNumber == null || sessionId == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(userNumber, (k, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        log.debug("활성 세션 해제: userNumber={}, sessionId={}", userNumber, sessionId);
+    }
+
+    public boolean isOnline(String userNumber) {
+        Set<String> sessions = sessionsByUser.get(userNumber);
+        return sessions != null && !sessions.isEmpty();
+    }
+
+    // 온라인 사용자 수 (모니터링용)
+    public int getOnlineUserCount() {
+        return sessionsByUser.size();
+    }
+
+    // 연결된 세션 수 (모니터링용)
+    public int getSessionCount() {
+        return sessionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.safetyFence.notification.delivery;
+
+import com.project.safetyFence.notification.domain.NotificationType;
+import com.project.safetyFence.notification.dto.AlertMessageDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 전달 경로 선택
+ *
+ * 수신자가 활성 WebSocket 세션을 갖고 있으면 /queue/alerts/{userNumber}로 먼저 전달하고
+ * 클라이언트 ack를 기다린다. 수신자가 오프라인이거나 ack 타임아웃이 나면 FCM 폴백을 실행한다.
+ * 호출 스레드는 ack를 기다리지 않는다 (타임아웃 폴백은 별도 스레드에서 실행).
+ */
+@Slf4j
+@Component
+public class AlertDeliveryRouter {
+
+    private static final String ALERT_QUEUE_PREFIX = "/queue/alerts/";
+
+    private final ActiveSessionRegistry sessionRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long ackTimeoutMs;
+    private final ScheduledExecutorService fallbackScheduler;
+
+    // alertId -> ack 대기 중인 전달
+    private final Map<String, PendingAlert> pendingAlerts = new ConcurrentHashMap<>();
+
+    private final AtomicLong webSocketAcked = new AtomicLong();
+    private final AtomicLong fcmOffline = new AtomicLong();
+    private final AtomicLong fcmAckTimeout = new AtomicLong();
+
+    public AlertDeliveryRouter(
+            ActiveSessionRegistry sessionRegistry,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${notification.delivery.ack-timeout-ms:3000}") long ackTimeoutMs) {
+        this.sessionRegistry = sessionRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.ackTimeoutMs = ackTimeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.fallbackScheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread thread = new Thread(r, "alert-fallback-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 알림 전달
+     *
+     * @param recipientNumber 수신자 번호
+     * @param type            알림 종류
+     * @param title           알림 제목
+     * @param body            알림 내용
+     * @param elderNumber     알림 대상 이용자 번호
+     * @param fcmFallback     WebSocket 전달 실패 시 실행할 FCM 전송
+     */
+    public void deliver(String recipientNumber, NotificationType type, String title, String body,
+                        String elderNumber, Runnable fcmFallback) {
+        if (ackTimeoutMs <= 0 || !sessionRegistry.isOnline(recipientNumber)) {
+            fcmOffline.incrementAndGet();
+            fcmFallback.run();
+            return;
+        }
+
+        String alertId = UUID.randomUUID().toString();
+        PendingAlert pending = new PendingAlert(recipientNumber, fcmFallback);
+        pendingAlerts.put(alertId, pending);
+
+        try {
+            AlertMessageDto message = new AlertMessageDto(
+                    alertId, type.getDataType(), title, body, elderNumber, System.currentTimeMillis());
+            messagingTemplate.convertAndSend(ALERT_QUEUE_PREFIX + recipientNumber, message);
+        } catch (Exception e) {
+            log.warn("⚠️ WebSocket 알림 전송 실패, FCM으로 전환: recipient={}, error={}", recipientNumber, e.getMessage());
+            pendingAlerts.remove(alertId);
+            fcmAckTimeout.incrementAndGet();
+            fcmFallback.run();
+            return;
+        }
+
+        pending.timeout = fallbackScheduler.schedule(() -> onAckTimeout(alertId), ackTimeoutMs, TimeUnit.MILLISECONDS);
+        log.debug("WebSocket 알림 전송, ack 대기: alertId={}, recipient={}", alertId, recipientNumber);
+    }
+
+    /**
+     * 클라이언트 ack 처리
+     *
+     * @return ack가 대기 중인 알림과 매칭되었는지 여부
+     */
+    public boolean acknowledge(String alertId, String userNumber) {
+        if (alertId == null) {
+            return false;
+        }
+
+        PendingAlert pending = pendingAlerts.get(alertId);
+        // 다른 사용자가 보낸 ack는 무시 (폴백을 막을 수 없도록)
+        if (pending == null || !pending.recipientNumber.equals(userNumber)) {
+            return false;
+        }
+        if (!pendingAlerts.remove(alertId, pending)) {
+            return false;
+        }
+
+        if (pending.timeout != null) {
+            pending.timeout.cancel(false);
+        }
+        webSocketAcked.incrementAndGet();
+        log.debug("WebSocket 알림 ack 수신: alertId={}, userNumber={}", alertId, userNumber);
+        return true;
+    }
+
+    private void onAckTimeout(String alertId) {
+        PendingAlert pending = pendingAlerts.remove(alertId);
+        if (pending == null) {
+            return;
+        }
+
+        fcmAckTimeout.incrementAndGet();
+        log.info("⏱️ WebSocket 알림 ack 타임아웃, FCM으로 재전송: alertId={}, recipient={}",
+                alertId, pending.recipientNumber);
+        try {
+            pending.fcmFallback.run();
+        } catch (Exception e) {
+            log.error("❌ FCM 폴백 전송 실패: alertId={}, error={}", alertId, e.getMessage());
+        }
+    }
+
+    public long getWebSocketAckedCount() {
+        return webSocketAcked.get();
+    }
+
+    public long getFcmOfflineCount() {
+        return fcmOffline.get();
+    }
+
+    public long getFcmAckTimeoutCount() {
+        return fcmAckTimeout.get();
+    }
+
+    public int getPendingCount() {
+        return pendingAlerts.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fallbackScheduler.shutdown();
+    }
+
+    private static final class PendingAlert {
+        private final String recipientNumber;
+        private final Runnable fcmFallback;
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingAlert(String recipientNumber, Runnable fcmFallback) {
+            this.recipientNumber = recipientNumber;
+            this.fcmFallback = fcmFallback;
+        }
+    }
+}
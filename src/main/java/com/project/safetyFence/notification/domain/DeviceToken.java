@@ -1,5 +1,6 @@
 package com.project.safetyFence.notification.domain;
 
+import com.project.safetyFence.common.sequence.IdSequences;
 import com.project.safetyFence.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,7 +15,8 @@ import java.time.LocalDateTime;
 public class DeviceToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "device_token_id_gen")
+    @SequenceGenerator(name = "device_token_id_gen", sequenceName = IdSequences.DEVICE_TOKEN, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,22 @@
+package com.project.safetyFence.notification.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 종류
+ * dataType은 FCM data payload의 "type" 값으로 그대로 사용된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationType {
+
+    GEOFENCE_ENTRY("geofence"),
+    GEOFENCE_EXPIRED("geofence"),
+    EMERGENCY("emergency"),
+    MEDICATION_ADDED("medication_added"),
+    EVENT_ADDED("event_added"),
+    MEDICATION_REMINDER("medication_reminder");
+
+    private final String dataType;
+}
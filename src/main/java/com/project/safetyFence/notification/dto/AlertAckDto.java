@@ -0,0 +1,16 @@
+package com.project.safetyFence.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트의 알림 수신 확인
+ * 클라이언트 → 서버: /app/alerts/ack
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertAckDto {
+    private String alertId;
+}
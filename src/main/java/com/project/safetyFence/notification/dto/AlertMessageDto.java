@@ -0,0 +1,21 @@
+package com.project.safetyFence.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WebSocket으로 전달되는 알림 메시지
+ * 서버 → 클라이언트: /queue/alerts/{userNumber}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertMessageDto {
+    private String alertId;       // ack 매칭용 ID
+    private String type;          // FCM data의 type과 동일 (geofence, emergency 등)
+    private String title;
+    private String body;
+    private String elderNumber;   // 알림 대상 이용자 번호
+    private Long timestamp;       // Epoch milliseconds
+}
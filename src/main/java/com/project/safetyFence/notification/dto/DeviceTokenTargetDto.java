@@ -0,0 +1,14 @@
+package com.project.safetyFence.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 번호별 디바이스 토큰 (일괄 전송용 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class DeviceTokenTargetDto {
+    private String userNumber;
+    private String token;
+}
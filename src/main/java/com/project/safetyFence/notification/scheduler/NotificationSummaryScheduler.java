@@ -0,0 +1,42 @@
+package com.project.safetyFence.notification.scheduler;
+
+import com.project.safetyFence.notification.NotificationService;
+import com.project.safetyFence.notification.coalescer.NotificationCoalescer;
+import com.project.safetyFence.notification.coalescer.PendingSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 병합 윈도우가 닫힌 알림들을 주기적으로 요약 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationSummaryScheduler {
+
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationService notificationService;
+
+    @Scheduled(fixedDelayString = "${notification.coalescing.flush-interval-ms:5000}")
+    public void flushClosedWindows() {
+        List<PendingSummary> summaries = notificationCoalescer.drainClosedWindows();
+
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        log.info("📨 병합된 알림 요약 전송 시작: {}건", summaries.size());
+
+        for (PendingSummary summary : summaries) {
+            try {
+                notificationService.sendCoalescedSummary(summary);
+            } catch (Exception e) {
+                log.error("❌ 요약 알림 전송 실패: key={}, error={}", summary.key(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.safetyFence.notification.transport;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase Cloud Messaging 전송 (기본 구현)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushTransport implements PushTransport {
+
+    @Override
+    public String send(Message message) throws PushSendException {
+        try {
+            return FirebaseMessaging.getInstance().send(message);
+        } catch (FirebaseMessagingException e) {
+            boolean tokenInvalid = e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED ||
+                    e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT;
+            throw new PushSendException(e.getMessage(), tokenInvalid, e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.project.safetyFence.notification.transport;
+
+import com.google.firebase.messaging.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 내 푸시 전송 (테스트/부하 측정용)
+ *
+ * 실제로 외부로 나가지 않고 FCM 지연, 오류율, 동시 연결 제한을 흉내 낸다.
+ * 동시 전송 수가 max-concurrency를 넘으면 대기하며, 그 대기 시간을 큐잉 지연으로 집계한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "in-memory")
+public class InMemoryPushTransport implements PushTransport {
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final double invalidTokenRate;
+    private final Semaphore permits;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public InMemoryPushTransport(
+            @Value("${notification.transport.in-memory.latency-ms:0}") long latencyMs,
+            @Value("${notification.transport.in-memory.jitter-ms:0}") long jitterMs,
+            @Value("${notification.transport.in-memory.error-rate:0.0}") double errorRate,
+            @Value("${notification.transport.in-memory.invalid-token-rate:0.0}") double invalidTokenRate,
+            @Value("${notification.transport.in-memory.max-concurrency:0}") int maxConcurrency) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.invalidTokenRate = invalidTokenRate;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+
+        log.info("InMemoryPushTransport 초기화: latency={}ms, jitter={}ms, errorRate={}, invalidTokenRate={}, maxConcurrency={}",
+                latencyMs, jitterMs, errorRate, invalidTokenRate, maxConcurrency);
+    }
+
+    @Override
+    public String send(Message message) throws PushSendException {
+        long queuedAt = System.nanoTime();
+        acquire();
+        recordQueueWait(System.nanoTime() - queuedAt);
+
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            simulateLatency();
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < invalidTokenRate) {
+                failedCount.incrementAndGet();
+                throw new PushSendException("simulated UNREGISTERED", true);
+            }
+            if (roll < invalidTokenRate + errorRate) {
+                failedCount.incrementAndGet();
+                throw new PushSendException("simulated UNAVAILABLE", false);
+            }
+
+            sentCount.incrementAndGet();
+            return "in-memory/" + UUID.randomUUID();
+        } finally {
+            inFlight.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private void acquire() throws PushSendException {
+        if (permits == null) {
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PushSendException("interrupted while waiting for transport", false, e);
+        }
+    }
+
+    private void simulateLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordQueueWait(long waitNanos) {
+        totalQueueWaitNanos.addAndGet(waitNanos);
+        maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    // 평균 큐잉 지연 (ms)
+    public double getAverageQueueWaitMs() {
+        long total = sentCount.get() + failedCount.get();
+        return total == 0 ? 0 : totalQueueWaitNanos.get() / 1_000_000.0 / total;
+    }
+
+    // 최대 큐잉 지연 (ms)
+    public double getMaxQueueWaitMs() {
+        return maxQueueWaitNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.safetyFence.notification.transport;
+
+import lombok.Getter;
+
+/**
+ * 푸시 전송 실패
+ * tokenInvalid가 true이면 더 이상 유효하지 않은 토큰이므로 삭제 대상이다.
+ */
+@Getter
+public class PushSendException extends Exception {
+
+    private final boolean tokenInvalid;
+
+    public PushSendException(String message, boolean tokenInvalid) {
+        super(message);
+        this.tokenInvalid = tokenInvalid;
+    }
+
+    public PushSendException(String message, boolean tokenInvalid, Throwable cause) {
+        super(message, cause);
+        this.tokenInvalid = tokenInvalid;
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.safetyFence.notification.transport;
+
+import com.google.firebase.messaging.Message;
+
+/**
+ * 푸시 전송 수단
+ * notification.transport 설정으로 구현체를 선택한다 (firebase | in-memory).
+ */
+public interface PushTransport {
+
+    /**
+     * 푸시 메시지 전송
+     *
+     * @param message 전송할 메시지 (토큰 포함)
+     * @return 전송 결과 메시지 ID
+     * @throws PushSendException 전송 실패 시 (토큰 만료 여부 포함)
+     */
+    String send(Message message) throws PushSendException;
+}
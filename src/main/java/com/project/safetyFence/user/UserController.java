@@ -40,7 +40,7 @@ public class UserController {
         User user = userService.findByNumber(number);
         String userPassword = user.getPassword();
 
-        if (!userPassword.equals(password)) {
+        if (!userPassword.equals(password) || user.isDisabled()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("message", "로그인 실패"));
         }
@@ -108,7 +108,8 @@ public class UserController {
 
         try {
             userService.deleteOwnAccount(userNumber, password);
-            return ResponseEntity.ok("계정이 삭제되었습니다");
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body("계정 삭제가 접수되었습니다");
         } catch (IllegalArgumentException e) {
             log.warn("⚠️ 계정 삭제 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
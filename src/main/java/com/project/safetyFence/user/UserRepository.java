@@ -1,19 +1,41 @@
 package com.project.safetyFence.user;
 
 import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.user.dto.AdminUserRowDto;
+import com.project.safetyFence.user.dto.ApiKeyPrincipal;
+import com.project.safetyFence.user.dto.UserSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface UserRepository extends JpaRepository<User, String>{
     boolean existsByNumber(String number);
     User findByNumber(String number);
     boolean existsByLinkCode(String linkCode);
     User findByApiKey(String apiKey);
     boolean existsByApiKey(String apiKey);
+
+    // 인증용 (User 엔티티 로딩 없이 필요한 컬럼만 조회)
+    @Query("SELECT new com.project.safetyFence.user.dto.ApiKeyPrincipal(u.number, u.name, u.birth) " +
+           "FROM User u WHERE u.apiKey = :apiKey AND u.disabled = false")
+    Optional<ApiKeyPrincipal> findPrincipalByApiKey(@Param("apiKey") String apiKey);
     User findByLinkCode(String linkCode);
 
+    // 유저 코드 비트맵 적재용
+    @Query("SELECT u.linkCode FROM User u")
+    List<String> findAllLinkCodes();
+
+    // 탈퇴 처리 중인 사용자 (재시작 시 삭제 작업 재개용)
+    @Query("SELECT u.number FROM User u WHERE u.disabled = true")
+    List<String> findDisabledNumbers();
+
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.links WHERE u.number = :number")
     User findByNumberWithLinks(@Param("number") String number);
 
@@ -23,13 +45,23 @@ public interface UserRepository extends JpaRepository<User, String>{
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.geofences WHERE u.number = :number")
     User findByNumberWithGeofences(@Param("number") String number);
 
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.logs WHERE u.number = :number")
-    User findByNumberWithCalendarData(@Param("number") String number);
-
     @Query("SELECT u FROM User u " +
            "LEFT JOIN FETCH u.userAddress " +
            "LEFT JOIN FETCH u.geofences " +
            "WHERE u.number = :number")
     User findByNumberWithUserDataForMyPage(@Param("number") String number);
 
+    @Query("SELECT new com.project.safetyFence.user.dto.UserSummaryDto(u.number, u.name) " +
+           "FROM User u WHERE u.number IN :numbers")
+    List<UserSummaryDto> findSummariesByNumberIn(@Param("numbers") Collection<String> numbers);
+
+    /**
+     * 관리자 사용자 목록 (페이지)
+     * User 엔티티 대신 기본 컬럼만 조회해 UserAddress 추가 조회를 피한다.
+     * keyword는 LIKE 패턴 (전체 조회 시 "%")
+     */
+    @Query(value = "SELECT new com.project.safetyFence.user.dto.AdminUserRowDto(u.number, u.name, u.birth, u.linkCode) " +
+                   "FROM User u WHERE u.number LIKE :keyword OR u.name LIKE :keyword",
+           countQuery = "SELECT COUNT(u) FROM User u WHERE u.number LIKE :keyword OR u.name LIKE :keyword")
+    Page<AdminUserRowDto> findAdminUserPage(@Param("keyword") String keyword, Pageable pageable);
 }
@@ -1,30 +1,46 @@
 package com.project.safetyFence.user;
 
-import com.project.safetyFence.geofence.domain.Geofence;
+import com.project.safetyFence.geofence.dto.InitialGeofenceCoordinates;
 import com.project.safetyFence.geofence.service.InitialGeofenceCreator;
+import com.project.safetyFence.user.cache.ApiKeyPrincipalCache;
+import com.project.safetyFence.user.deletion.AccountDeletionService;
 import com.project.safetyFence.user.domain.User;
 import com.project.safetyFence.user.domain.UserAddress;
+import com.project.safetyFence.user.dto.ApiKeyPrincipal;
 import com.project.safetyFence.user.dto.SignUpRequestDto;
-import com.project.safetyFence.link.generator.LinkCodeGenerator;
+import com.project.safetyFence.user.event.ApiKeyRevokedEvent;
+import com.project.safetyFence.link.generator.LinkCodeAllocator;
 import com.project.safetyFence.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final LinkCodeGenerator linkCodeGenerator;
+    private static final int LINK_CODE_MAX_ATTEMPTS = 3;
+
+    private final LinkCodeAllocator linkCodeAllocator;
     private final UserRepository userRepository;
     private final UserAddressService userAddressService;
     private final InitialGeofenceCreator initialGeofenceCreator; // 인터페이스로 변경
+    private final ApiKeyPrincipalCache apiKeyPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountDeletionService accountDeletionService;
 
     public boolean checkExistNumber(String number) {
         return userRepository.existsByNumber(number);
@@ -38,37 +54,67 @@ public class UserService {
         return userRepository.existsByNumber(number);
     }
 
-    @Transactional
+    /**
+     * 회원가입
+     * 집/센터 주소 좌표 변환(외부 API)은 트랜잭션 밖에서 동시에 수행하고,
+     * 트랜잭션에서는 저장만 하므로 외부 API를 기다리는 동안 DB 커넥션을 잡지 않는다.
+     */
     public User registerUser(SignUpRequestDto signUpRequestDto) {
-        // user 저장
-        User user = makeUserEntity(signUpRequestDto);
-        // userAddress 저장
-        UserAddress userAddress = userAddressService.makeUserAddressEntity(signUpRequestDto, user);
-        user.addUserAddress(userAddress);
-
-        // user 주소로 geofence 생성
-        Geofence homeGeofence = initialGeofenceCreator.createHomeGeofence(userAddress);
-        user.addGeofence(homeGeofence);
-
-        // center 주소가 있을 경우에만 geofence 생성
-        if (signUpRequestDto.getCenterStreetAddress() != null && !signUpRequestDto.getCenterStreetAddress().isEmpty()) {
-            Geofence centerGeofence = initialGeofenceCreator.createCenterGeofence(userAddress);
-            user.addGeofence(centerGeofence);
+        // center 주소가 있을 경우에만 함께 변환
+        InitialGeofenceCoordinates coordinates = initialGeofenceCreator.geocodeInitialAddresses(
+                signUpRequestDto.getHomeStreetAddress(), signUpRequestDto.getCenterStreetAddress());
+
+        // 다른 인스턴스가 같은 유저 코드를 먼저 저장했으면 (유니크 제약 위반) 새 코드로 다시 시도
+        for (int attempt = 1; ; attempt++) {
+            AtomicReference<String> linkCode = new AtomicReference<>();
+            try {
+                return saveNewUser(signUpRequestDto, coordinates, linkCode);
+            } catch (DataIntegrityViolationException e) {
+                if (!isLinkCodeConflict(e) || attempt >= LINK_CODE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                // 롤백으로 반납된 코드는 DB에서 사용 중이므로 다시 표시
+                linkCodeAllocator.markUsed(linkCode.get());
+                log.warn("⚠️ 유저 코드 중복으로 가입 재시도 ({}회차): {}", attempt + 1, linkCode.get());
+            }
         }
+    }
 
-        // User 저장 시 cascade로 UserAddress, Geofence도 자동 저장됨
-        userRepository.save(user);
-
-        return user;
+    private User saveNewUser(SignUpRequestDto signUpRequestDto, InitialGeofenceCoordinates coordinates,
+                             AtomicReference<String> linkCode) {
+        return transactionTemplate.execute(status -> {
+            // user 저장
+            User user = makeUserEntity(signUpRequestDto);
+            linkCode.set(user.getLinkCode());
+            // userAddress 저장
+            UserAddress userAddress = userAddressService.makeUserAddressEntity(signUpRequestDto, user);
+            user.addUserAddress(userAddress);
+
+            // 변환해 둔 좌표로 geofence 생성
+            user.addGeofence(initialGeofenceCreator.createHomeGeofence(userAddress, coordinates.home()));
+            if (coordinates.center() != null) {
+                user.addGeofence(initialGeofenceCreator.createCenterGeofence(userAddress, coordinates.center()));
+            }
+
+            // User 저장 시 cascade로 UserAddress, Geofence도 자동 저장됨 (코드 중복을 여기서 확인하도록 flush)
+            userRepository.saveAndFlush(user);
+
+            return user;
+        });
     }
 
+    private static boolean isLinkCodeConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return User.LINK_CODE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
 
     public User makeUserEntity(SignUpRequestDto signUpRequestDto) {
-        // linkCode 생성
-        String linkCode = linkCodeGenerator.generate();
-
-        // linkCode 중복 검사
-        String uniqueLinkCode = checkLinkCodeDuplicate(linkCode);
+        // 사용 중이지 않은 linkCode 할당 (비트맵 기반, DB 중복 조회 없음)
+        String uniqueLinkCode = linkCodeAllocator.allocate();
 
         String number = signUpRequestDto.getNumber();
         String name = signUpRequestDto.getName();
@@ -84,14 +130,6 @@ public class UserService {
         return user;
     }
 
-    private String checkLinkCodeDuplicate(String firstLinkCode){
-        String linkCode = firstLinkCode;
-        while (userRepository.existsByLinkCode(linkCode)){
-            linkCode = linkCodeGenerator.generate();
-        }
-        return linkCode;
-    }
-
     // API Key 생성 및 저장
     @Transactional
     public String generateAndSaveApiKey(String userNumber) {
@@ -108,13 +146,22 @@ public class UserService {
         user.updateApiKey(apiKey);
         userRepository.save(user);
 
+        // 이전 키 캐시 제거 (커밋 이후)
+        eventPublisher.publishEvent(new ApiKeyRevokedEvent(userNumber));
+
         return apiKey;
     }
 
     // API Key로 사용자 번호 조회
     public String findUserNumberByApiKey(String apiKey) {
-        User user = userRepository.findByApiKey(apiKey);
-        return user != null ? user.getNumber() : null;
+        return findPrincipalByApiKey(apiKey)
+                .map(ApiKeyPrincipal::userNumber)
+                .orElse(null);
+    }
+
+    // API Key로 인증 사용자 조회 (캐시 우선)
+    public Optional<ApiKeyPrincipal> findPrincipalByApiKey(String apiKey) {
+        return apiKeyPrincipalCache.getOrLoad(apiKey, userRepository::findPrincipalByApiKey);
     }
 
     // 안전한 API Key 생성 (UUID 사용)
@@ -122,11 +169,11 @@ public class UserService {
         return UUID.randomUUID().toString().replace("-", "");
     }
 
-    // 사용자 본인 계정 삭제
+    // 사용자 본인 계정 삭제 (계정 즉시 비활성화, 연관 데이터는 커밋 후 비동기 삭제)
     @Transactional
     public void deleteOwnAccount(String userNumber, String password) {
         User user = userRepository.findByNumber(userNumber);
-        if (user == null) {
+        if (user == null || user.isDisabled()) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
         }
 
@@ -138,11 +185,9 @@ public class UserService {
 
         log.info("🗑️ 사용자 본인 계정 삭제: {} ({})", user.getName(), userNumber);
 
-        // CASCADE 설정으로 모든 연관 데이터 자동 삭제
-        // UserAddress, UserLocation, Log, Link, Geofence, UserEvent, Medication (+ MedicationLog)
-        userRepository.delete(user);
-
-        log.info("✅ 계정 및 연관 데이터 삭제 완료: {}", userNumber);
+        // UserAddress, UserLocation, Log, Link, Geofence, UserEvent, Medication (+ MedicationLog)는
+        // AccountDeletionService가 청크 단위 벌크 DELETE로 삭제
+        accountDeletionService.request(user);
     }
 
 }
@@ -0,0 +1,103 @@
+package com.project.safetyFence.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.safetyFence.common.datasource.PrimaryReads;
+import com.project.safetyFence.user.dto.ApiKeyPrincipal;
+import com.project.safetyFence.user.event.ApiKeyRevokedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * API Key → 인증 사용자 캐시 (HTTP 인증 인터셉터, WebSocket CONNECT 공용)
+ *
+ * 유효한 키는 principals에, 존재하지 않는 키는 짧은 TTL로 misses에 저장해
+ * 잘못된 키를 반복 대입하는 요청도 DB까지 내려가지 않게 한다.
+ * 키가 무효화되면(ApiKeyRevokedEvent) 커밋 이후 해당 사용자 항목을 제거하고,
+ * 조회 도중 무효화가 있었으면 그 조회 결과는 저장하지 않는다.
+ * 트랜잭션 안에서 조회한 값은 커밋되지 않았을 수 있으므로 캐시에 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class ApiKeyPrincipalCache {
+
+    private final Cache<String, ApiKeyPrincipal> principals;
+    private final Cache<String, Boolean> misses;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ApiKeyPrincipalCache(
+            @Value("${auth.api-key-cache.max-size:100000}") long maxSize,
+            @Value("${auth.api-key-cache.ttl-minutes:30}") long ttlMinutes,
+            @Value("${auth.api-key-cache.negative-max-size:100000}") long negativeMaxSize,
+            @Value("${auth.api-key-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        log.info("ApiKeyPrincipalCache 초기화 완료: maxSize={}, TTL={}분, negativeTTL={}초",
+                maxSize, ttlMinutes, negativeTtlSeconds);
+    }
+
+    /**
+     * 캐시된 인증 정보가 있으면 반환하고, 없으면 loader로 조회해서 저장
+     */
+    public Optional<ApiKeyPrincipal> getOrLoad(String apiKey, Function<String, Optional<ApiKeyPrincipal>> loader) {
+        ApiKeyPrincipal cached = principals.getIfPresent(apiKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (misses.getIfPresent(apiKey) != null) {
+            return Optional.empty();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        // 발급/폐기 직후의 키가 복제 지연으로 잘못 캐시되지 않도록 primary에서 조회
+        Optional<ApiKeyPrincipal> loaded = PrimaryReads.call(() -> loader.apply(apiKey));
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || invalidations.get() != invalidationsBefore) {
+            return loaded;
+        }
+        if (loaded.isPresent()) {
+            principals.put(apiKey, loaded.get());
+        } else {
+            misses.put(apiKey, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자의 캐시 항목 제거 (사용자 번호로 역조회하므로 무효화 시에만 전체 순회)
+     */
+    public void invalidateUser(String userNumber) {
+        invalidations.incrementAndGet();
+        principals.asMap().values().removeIf(principal -> principal.userNumber().equals(userNumber));
+        log.debug("API Key 캐시 무효화: userNumber={}", userNumber);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApiKeyRevoked(ApiKeyRevokedEvent event) {
+        invalidateUser(event.userNumber());
+    }
+
+    // 캐시 통계 조회 (모니터링용)
+    public String getCacheStats() {
+        return "principals=" + principals.stats() + ", misses=" + misses.stats();
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.safetyFence.user.deletion;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 탈퇴 삭제 작업 진행 상황
+ *
+ * @param userNumber  탈퇴 사용자 번호
+ * @param status      작업 상태
+ * @param requestedAt 접수 시각
+ * @param finishedAt  완료/실패 시각 (진행 중이면 null)
+ * @param deletedRows 테이블별 삭제 행 수
+ * @param chunks      실행한 DELETE 청크 수
+ * @param error       실패 사유 (실패가 아니면 null)
+ */
+public record AccountDeletionReport(String userNumber, Status status, LocalDateTime requestedAt,
+                                    LocalDateTime finishedAt, Map<String, Long> deletedRows, int chunks,
+                                    String error) {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    public static AccountDeletionReport pending(String userNumber, LocalDateTime requestedAt) {
+        return new AccountDeletionReport(userNumber, Status.PENDING, requestedAt, null, Map.of(), 0, null);
+    }
+
+    public AccountDeletionReport running(Map<String, Long> deletedRows, int chunks) {
+        return new AccountDeletionReport(userNumber, Status.RUNNING, requestedAt, null, Map.copyOf(deletedRows), chunks, null);
+    }
+
+    public AccountDeletionReport completed(Map<String, Long> deletedRows, int chunks) {
+        return new AccountDeletionReport(userNumber, Status.COMPLETED, requestedAt, LocalDateTime.now(),
+                Map.copyOf(deletedRows), chunks, null);
+    }
+
+    public AccountDeletionReport failed(Map<String, Long> deletedRows, int chunks, String error) {
+        return new AccountDeletionReport(userNumber, Status.FAILED, requestedAt, LocalDateTime.now(),
+                Map.copyOf(deletedRows), chunks, error);
+    }
+
+    public long totalDeleted() {
+        return deletedRows.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
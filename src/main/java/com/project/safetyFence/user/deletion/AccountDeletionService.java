@@ -0,0 +1,268 @@
+package com.project.safetyFence.user.deletion;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.safetyFence.admin.stats.SystemStatistics;
+import com.project.safetyFence.link.generator.LinkCodeAllocator;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.event.MedicationScheduleChangedEvent;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.user.event.AccountDeletionRequestedEvent;
+import com.project.safetyFence.user.event.ApiKeyRevokedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 탈퇴 비동기 삭제 작업
+ *
+ * 탈퇴 요청 트랜잭션에서는 계정만 비활성화(인증 차단)하고, 커밋 이후 전용 스레드가
+ * 연관 데이터를 AccountDeletionStep 순서대로 "키 IN (SELECT ... LIMIT n)" DELETE 청크로 지운 뒤
+ * 마지막에 users 행을 삭제한다. 엔티티를 읽지 않으므로 기록이 많은 사용자도 영속성 컨텍스트에
+ * 수십만 건을 올리지 않고, 청크마다 자동 커밋되어 잠금이 짧게 유지된다.
+ * 엔티티 이벤트가 발생하지 않으므로 링크 그래프, 링크 코드 비트맵, 시스템 통계는 직접 반영하고,
+ * 약 알림 인덱스는 탈퇴 접수 시 사용자의 약마다 제거 이벤트를 발행해 커밋 즉시 알림을 멈춘다.
+ * 작업 도중 서버가 내려가면 다음 시작 시 비활성화된 계정의 삭제를 이어서 진행한다.
+ */
+@Slf4j
+@Component
+public class AccountDeletionService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final MedicationRepository medicationRepository;
+    private final LinkGraph linkGraph;
+    private final LinkCodeAllocator linkCodeAllocator;
+    private final SystemStatistics systemStatistics;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxPasses;
+    private final ExecutorService executor;
+
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final Cache<String, AccountDeletionReport> reports;
+
+    public AccountDeletionService(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            MedicationRepository medicationRepository,
+            LinkGraph linkGraph,
+            LinkCodeAllocator linkCodeAllocator,
+            SystemStatistics systemStatistics,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${account-deletion.chunk-size:5000}") int chunkSize,
+            @Value("${account-deletion.chunk-pause-ms:20}") long chunkPauseMs,
+            @Value("${account-deletion.max-passes:3}") int maxPasses,
+            @Value("${account-deletion.workers:2}") int workers,
+            @Value("${account-deletion.report-ttl-hours:24}") long reportTtlHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.medicationRepository = medicationRepository;
+        this.linkGraph = linkGraph;
+        this.linkCodeAllocator = linkCodeAllocator;
+        this.systemStatistics = systemStatistics;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.chunkPauseMs = Math.max(chunkPauseMs, 0);
+        this.maxPasses = Math.max(maxPasses, 1);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(workers, 1), r -> {
+            Thread thread = new Thread(r, "account-deletion-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reports = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(Math.max(reportTtlHours, 1)))
+                .build();
+    }
+
+    /**
+     * 탈퇴 접수 (호출자 트랜잭션 안에서 실행)
+     * 계정을 즉시 비활성화하고, 커밋되면 약 알림을 멈추고 연관 데이터 삭제 작업이 시작된다.
+     */
+    public AccountDeletionReport request(User user) {
+        String userNumber = user.getNumber();
+        if (!user.isDisabled()) {
+            user.disable();
+            eventPublisher.publishEvent(new ApiKeyRevokedEvent(userNumber));
+        }
+        // 삭제가 끝나기 전(또는 실패해도) 비활성 계정으로 복약 알림이 가지 않도록 인덱스에서 제거
+        medicationRepository.findIdsByUserNumber(userNumber)
+                .forEach(medicationId -> eventPublisher.publishEvent(MedicationScheduleChangedEvent.removed(medicationId)));
+        eventPublisher.publishEvent(new AccountDeletionRequestedEvent(userNumber));
+
+        log.info("🗑️ 탈퇴 접수 - 계정 비활성화: {}", userNumber);
+        return AccountDeletionReport.pending(userNumber, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeletionRequested(AccountDeletionRequestedEvent event) {
+        submit(event.userNumber());
+    }
+
+    /**
+     * 시작 시 이전 실행에서 끝나지 않은 탈퇴 삭제 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<String> pending = userRepository.findDisabledNumbers();
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("🔁 미완료 탈퇴 삭제 재개: {}명", pending.size());
+        pending.forEach(this::submit);
+    }
+
+    private void submit(String userNumber) {
+        if (!inProgress.add(userNumber)) {
+            log.info("⏳ 탈퇴 삭제가 이미 진행 중입니다: {}", userNumber);
+            return;
+        }
+        reports.put(userNumber, AccountDeletionReport.pending(userNumber, LocalDateTime.now()));
+        executor.execute(() -> {
+            try {
+                purge(userNumber);
+            } finally {
+                inProgress.remove(userNumber);
+            }
+        });
+    }
+
+    /**
+     * 비활성화된 계정의 연관 데이터와 계정 행을 삭제 (작업 스레드에서 실행, 트랜잭션 없이 청크별 자동 커밋)
+     */
+    public AccountDeletionReport purge(String userNumber) {
+        AccountDeletionReport report = reports.get(userNumber,
+                number -> AccountDeletionReport.pending(number, LocalDateTime.now()));
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        int chunks = 0;
+        long startNanos = System.nanoTime();
+
+        try {
+            List<String> linkCodes = jdbcTemplate.queryForList(
+                    "SELECT link_code FROM users WHERE number = ? AND disabled = true", String.class, userNumber);
+            if (linkCodes.isEmpty()) {
+                log.warn("⚠️ 삭제할 비활성 계정이 없습니다: {}", userNumber);
+                return finish(userNumber, report.completed(deleted, chunks), startNanos);
+            }
+
+            // 링크 권한과 알림 대상에서 먼저 제외
+            linkGraph.removeUser(userNumber);
+            log.info("🗑️ 탈퇴 데이터 삭제 시작: {}, chunkSize={}", userNumber, chunkSize);
+
+            for (int pass = 1; ; pass++) {
+                for (AccountDeletionStep step : AccountDeletionStep.values()) {
+                    chunks += deleteChunks(step, userNumber, deleted);
+                    reports.put(userNumber, report.running(deleted, chunks));
+                }
+                try {
+                    int removed = jdbcTemplate.update(
+                            "DELETE FROM users WHERE number = ? AND disabled = true", userNumber);
+                    if (removed > 0) {
+                        deleted.merge("users", (long) removed, Long::sum);
+                        systemStatistics.onBulkDeleted(User.class, removed);
+                    }
+                    break;
+                } catch (DataIntegrityViolationException e) {
+                    // 삭제 도중 저장된 행(열려 있던 WebSocket의 위치 저장 등)이 남아 있으면 한 번 더 정리
+                    if (pass >= maxPasses) {
+                        throw e;
+                    }
+                    log.warn("⚠️ 탈퇴 삭제 중 새로 추가된 데이터 발견, 재정리 ({}회차): {}", pass + 1, userNumber);
+                }
+            }
+
+            linkCodeAllocator.release(linkCodes.get(0));
+            return finish(userNumber, report.completed(deleted, chunks), startNanos);
+        } catch (RuntimeException e) {
+            log.error("❌ 탈퇴 데이터 삭제 실패: {} - {}", userNumber, e.getMessage(), e);
+            return finish(userNumber, report.failed(deleted, chunks, e.getMessage()), startNanos);
+        }
+    }
+
+    private int deleteChunks(AccountDeletionStep step, String userNumber, Map<String, Long> deleted) {
+        String sql = step.chunkDeleteSql();
+        int chunks = 0;
+        while (true) {
+            int removed = jdbcTemplate.update(sql, userNumber, chunkSize);
+            if (removed > 0) {
+                chunks++;
+                deleted.merge(step.getTable(), (long) removed, Long::sum);
+                meterRegistry.counter("account.deletion.rows.deleted", "table", step.getTable()).increment(removed);
+                if (step.getCountedEntity() != null) {
+                    systemStatistics.onBulkDeleted(step.getCountedEntity(), removed);
+                }
+            }
+            if (removed < chunkSize) {
+                return chunks;
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("탈퇴 삭제 작업이 중단되었습니다", e);
+        }
+    }
+
+    private AccountDeletionReport finish(String userNumber, AccountDeletionReport report, long startNanos) {
+        reports.put(userNumber, report);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        meterRegistry.timer("account.deletion.duration", "status", report.status().name())
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        if (report.status() == AccountDeletionReport.Status.COMPLETED) {
+            log.info("✅ 탈퇴 데이터 삭제 완료: {} - {}건, {}청크, {}ms",
+                    userNumber, report.totalDeleted(), report.chunks(), durationMs);
+        }
+        return report;
+    }
+
+    /**
+     * 탈퇴 삭제 진행 상황 (완료 후 일정 시간 보관)
+     */
+    public Optional<AccountDeletionReport> getReport(String userNumber) {
+        return Optional.ofNullable(reports.getIfPresent(userNumber));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.safetyFence.user.deletion;
+
+import com.project.safetyFence.calendar.domain.UserEvent;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.medication.domain.Medication;
+
+/**
+ * 탈퇴 사용자 연관 데이터 삭제 단계 (FK 의존 순서)
+ * 각 단계의 selectKeys는 사용자 번호 하나를 파라미터로 받아 삭제할 행의 키를 고른다.
+ * 테이블/컬럼명은 코드에 고정된 값만 SQL에 사용한다.
+ */
+public enum AccountDeletionStep {
+
+    MEDICATION_LOG("medication_log", "id",
+            "SELECT ml.id FROM medication_log ml JOIN medication m ON m.id = ml.medication_id WHERE m.user_id = ?", null),
+    MEDICATION_ADHERENCE_MONTH("medication_adherence_month", "id",
+            "SELECT a.id FROM medication_adherence_month a JOIN medication m ON m.id = a.medication_id WHERE m.user_id = ?", null),
+    // 값 타입 컬렉션이라 식별자 컬럼이 없어 ctid로 청크를 나눈다
+    MEDICATION_REMINDER_TIME("medication_reminder_time", "ctid",
+            "SELECT r.ctid FROM medication_reminder_time r JOIN medication m ON m.id = r.medication_id WHERE m.user_id = ?", null),
+    MEDICATION("medication", "id",
+            "SELECT id FROM medication WHERE user_id = ?", Medication.class),
+    USER_LOCATION("user_location", "id",
+            "SELECT id FROM user_location WHERE user_id = ?", null),
+    USER_LOCATION_ARCHIVE("user_location_archive", "id",
+            "SELECT id FROM user_location_archive WHERE user_id = ?", null),
+    LOG("log", "id",
+            "SELECT id FROM log WHERE user_id = ?", Log.class),
+    // 영구/일시 구분 집계는 StatisticsReconciler 보정에 맡긴다
+    GEOFENCE("geofence", "id",
+            "SELECT id FROM geofence WHERE user_id = ?", null),
+    USER_EVENT("user_event", "id",
+            "SELECT id FROM user_event WHERE user_id = ?", UserEvent.class),
+    LINK_AS_SUPPORTER("link", "id",
+            "SELECT id FROM link WHERE user_id = ?", Link.class),
+    LINK_AS_WARD("link", "id",
+            "SELECT id FROM link WHERE user_number = ?", Link.class),
+    DEVICE_TOKEN("device_tokens", "id",
+            "SELECT id FROM device_tokens WHERE user_number = ?", null),
+    USER_ADDRESS("user_address", "number",
+            "SELECT number FROM user_address WHERE number = ?", null);
+
+    private final String table;
+    private final String keyColumn;
+    private final String selectKeys;
+    // SystemStatistics에 삭제 건수를 반영할 엔티티 (집계하지 않는 테이블은 null)
+    private final Class<?> countedEntity;
+
+    AccountDeletionStep(String table, String keyColumn, String selectKeys, Class<?> countedEntity) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.selectKeys = selectKeys;
+        this.countedEntity = countedEntity;
+    }
+
+    /**
+     * 청크 하나를 지우는 DELETE (파라미터: 사용자 번호, 청크 크기)
+     */
+    public String chunkDeleteSql() {
+        return "DELETE FROM " + table + " WHERE " + keyColumn + " IN (" + selectKeys + " LIMIT ?)";
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Class<?> getCountedEntity() {
+        return countedEntity;
+    }
+}
@@ -2,6 +2,7 @@ package com.project.safetyFence.user.domain;
 
 import com.project.safetyFence.link.domain.Link;
 import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.domain.UserLocationArchive;
 import com.project.safetyFence.geofence.domain.Geofence;
 import com.project.safetyFence.log.domain.Log;
 import com.project.safetyFence.calendar.domain.UserEvent;
@@ -9,6 +10,7 @@ import com.project.safetyFence.medication.domain.Medication;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -17,9 +19,12 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.LINK_CODE_CONSTRAINT, columnNames = "link_code"))
 public class User {
 
+    // 유저 코드 유니크 제약 이름 (LinkCodeConstraintMigrator, 가입 재시도 판별에서 사용)
+    public static final String LINK_CODE_CONSTRAINT = "uk_users_link_code";
+
     @Id
     @Column(nullable = false, unique = true)
     private String number;
@@ -39,6 +44,11 @@ public class User {
     @Column(unique = true, length = 64)
     private String apiKey;
 
+    // 탈퇴 처리 중 (연관 데이터 삭제 작업이 끝나면 행 자체가 삭제됨)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean disabled;
+
     // 1:1 양방향 관계 - UserAddress
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private UserAddress userAddress;
@@ -47,6 +57,10 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<UserLocation> userLocations = new ArrayList<>();
 
+    // 1:N 양방향 관계 - UserLocationArchive (압축 보관된 위치 기록)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<UserLocationArchive> locationArchives = new ArrayList<>();
+
     // 1:N 양방향 관계 - Log
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Log> logs = new ArrayList<>();
@@ -95,6 +109,14 @@ public class User {
         userLocations.remove(userLocation);
     }
 
+    // UserLocationArchive 연관관계 편의 메서드
+    public void addLocationArchive(UserLocationArchive archive) {
+        locationArchives.add(archive);
+        if (archive.getUser() != this) {
+            archive.registerUser(this);
+        }
+    }
+
     // Log 연관관계 편의 메서드
     public void addLog(Log log) {
         logs.add(log);
@@ -162,4 +184,10 @@ public class User {
         this.password = newPassword;
     }
 
+    // 탈퇴 접수 - 인증 차단 (API Key도 함께 폐기)
+    public void disable() {
+        this.disabled = true;
+        this.apiKey = null;
+    }
+
 }
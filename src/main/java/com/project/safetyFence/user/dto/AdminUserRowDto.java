@@ -0,0 +1,18 @@
+package com.project.safetyFence.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 사용자 목록용 기본 정보 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class AdminUserRowDto {
+    private String number;
+    private String name;
+    private LocalDate birth;
+    private String linkCode;
+}
@@ -0,0 +1,9 @@
+package com.project.safetyFence.user.dto;
+
+import java.time.LocalDate;
+
+/**
+ * API Key로 인증된 사용자 정보 (변하지 않는 속성만 보관)
+ */
+public record ApiKeyPrincipal(String userNumber, String name, LocalDate birth) {
+}
@@ -0,0 +1,14 @@
+package com.project.safetyFence.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 번호별 건수 집계 결과 (GROUP BY 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class UserCountDto {
+    private String userNumber;
+    private long count;
+}
@@ -0,0 +1,15 @@
+package com.project.safetyFence.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 번호/이름만 담는 프로젝션
+ * (User 엔티티를 로드하면 UserAddress 1:1 조회가 사용자마다 추가로 발생하므로 목록 조회에 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSummaryDto {
+    private String number;
+    private String name;
+}
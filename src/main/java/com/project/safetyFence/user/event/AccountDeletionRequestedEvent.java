@@ -0,0 +1,8 @@
+package com.project.safetyFence.user.event;
+
+/**
+ * 탈퇴 접수 (계정 비활성화 완료)
+ * 커밋 이후 AccountDeletionService가 연관 데이터 삭제 작업을 시작한다.
+ */
+public record AccountDeletionRequestedEvent(String userNumber) {
+}
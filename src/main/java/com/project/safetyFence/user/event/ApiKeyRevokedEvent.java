@@ -0,0 +1,8 @@
+package com.project.safetyFence.user.event;
+
+/**
+ * 사용자의 기존 API Key가 더 이상 유효하지 않음 (재발급, 본인 탈퇴, 관리자 삭제)
+ * 커밋 이후 ApiKeyPrincipalCache가 해당 사용자의 캐시 항목을 제거한다.
+ */
+public record ApiKeyRevokedEvent(String userNumber) {
+}
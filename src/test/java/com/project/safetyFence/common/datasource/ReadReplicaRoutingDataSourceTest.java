@@ -0,0 +1,196 @@
+package com.project.safetyFence.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicationLagGuard lagGuard;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        replicaJdbcTemplate = mock(JdbcTemplate.class);
+        lagGuard = new ReplicationLagGuard(replicaJdbcTemplate, new SimpleMeterRegistry(), 1_000, 5_000);
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica, lagGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("지연이 허용치 이내면 읽기 전용 트랜잭션은 복제본 사용")
+    void readOnlyTransaction_RoutesToReplica() throws SQLException {
+        // given
+        replicaLag(200L);
+        lagGuard.check();
+        beginTransaction(true);
+
+        // when & then
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary 사용")
+    void writeTransaction_RoutesToPrimary() throws SQLException {
+        // given
+        replicaLag(0L);
+        lagGuard.check();
+
+        // when & then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        beginTransaction(false);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("캐시를 채우는 조회 범위에서는 읽기 전용 트랜잭션도 primary 사용")
+    void primaryReads_RoutesToPrimary() throws SQLException {
+        // given
+        replicaLag(0L);
+        lagGuard.check();
+        beginTransaction(true);
+
+        // when & then
+        Connection inScope = PrimaryReads.call(this::connection);
+        assertThat(inScope).isSameAs(primaryConnection);
+        assertThat(PrimaryReads.isActive()).isFalse();
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 primary로 전환하고, 회복되면 복제본 재사용")
+    void replicationLag_FallsBackToPrimary() throws SQLException {
+        // given
+        replicaLag(5_000L);
+        lagGuard.check();
+        beginTransaction(true);
+
+        // when & then
+        assertThat(lagGuard.isReplicaUsable()).isFalse();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        replicaLag(100L);
+        lagGuard.check();
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("WAL 수신이 끊겨 지연을 알 수 없으면 primary로 전환")
+    void walReceiverDisconnected_FallsBackToPrimary() throws SQLException {
+        // given
+        replicaLag(0L);
+        lagGuard.check();
+        beginTransaction(true);
+
+        // when - 수신 중단 시 지연 조회 결과는 NULL
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(null);
+        lagGuard.check();
+
+        // then
+        assertThat(lagGuard.isReplicaUsable()).isFalse();
+        assertThat(lagGuard.getLastLagMs()).isEqualTo(-1L);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("지연 조회 실패나 커넥션 획득 실패 시 primary로 전환")
+    void replicaFailure_FallsBackToPrimary() throws SQLException {
+        // given
+        replicaLag(0L);
+        lagGuard.check();
+        beginTransaction(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // when & then - 커넥션 실패
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(lagGuard.isReplicaUsable()).isFalse();
+
+        // 지연 조회 실패
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        lagGuard.check();
+        assertThat(lagGuard.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연 확인이 확인 주기의 2배 넘게 멈추면 primary로 전환")
+    void staleLagCheck_FallsBackToPrimary() throws SQLException {
+        // given - 확인 주기 20ms
+        ReplicationLagGuard shortIntervalGuard = new ReplicationLagGuard(replicaJdbcTemplate, new SimpleMeterRegistry(), 1_000, 20);
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica, shortIntervalGuard);
+        replicaLag(0L);
+        shortIntervalGuard.check();
+        beginTransaction(true);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+
+        // when - 40ms 넘게 check()가 실행되지 않음
+        await().atMost(Duration.ofSeconds(1)).until(() -> !shortIntervalGuard.isReplicaUsable());
+
+        // then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        shortIntervalGuard.check();
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("첫 지연 확인 전에는 primary 사용")
+    void beforeFirstCheck_RoutesToPrimary() throws SQLException {
+        // given
+        beginTransaction(true);
+
+        // when & then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void replicaLag(long lagMs) {
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(lagMs);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
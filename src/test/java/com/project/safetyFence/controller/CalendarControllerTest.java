@@ -7,6 +7,7 @@ import com.project.safetyFence.calendar.domain.UserEvent;
 import com.project.safetyFence.geofence.GeofenceRepository;
 import com.project.safetyFence.log.LogRepository;
 import com.project.safetyFence.calendar.UserEventRepository;
+import com.project.safetyFence.calendar.cache.CalendarCache;
 import com.project.safetyFence.user.UserRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -24,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,12 +54,18 @@ class CalendarControllerTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private CalendarCache calendarCache;
+
     private User testUser;
     private String testApiKey;
     private static final String TEST_NUMBER = "01012345678";
 
     @BeforeEach
     void setUp() {
+        // 테스트 간 롤백된 데이터가 캐시에 남지 않도록 무효화
+        calendarCache.invalidate(TEST_NUMBER);
+
         // Test user with API Key
         testUser = new User(TEST_NUMBER, "tester", "password", LocalDate.now(), "test-link");
         testApiKey = "test-api-key-12345678901234567890123456789012";
@@ -109,6 +118,8 @@ class CalendarControllerTest {
     void getCalendarData_Success() throws Exception {
         // when & then
         mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
                         .header("X-API-Key", testApiKey)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -210,6 +221,8 @@ class CalendarControllerTest {
 
         // when & then
         mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
                         .header("X-API-Key", testApiKey)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -224,6 +237,8 @@ class CalendarControllerTest {
     void getCalendarData_DateSortedCorrectly() throws Exception {
         // when & then
         mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
                         .header("X-API-Key", testApiKey)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -232,4 +247,96 @@ class CalendarControllerTest {
                 .andExpect(jsonPath("$[2].date").value("2024-10-24"))
                 .andDo(print());
     }
+
+    @Test
+    @DisplayName("getCalendarData - 조회 기간 밖의 데이터는 포함되지 않음")
+    void getCalendarData_OutsideRange_Excluded() throws Exception {
+        // when & then - 10월 23일 ~ 24일만 조회
+        mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-23")
+                        .param("to", "2024-10-24")
+                        .header("X-API-Key", testApiKey)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].date").value("2024-10-23"))
+                .andExpect(jsonPath("$[1].date").value("2024-10-24"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("getCalendarData - from만 주면 해당 월 전체 조회")
+    void getCalendarData_FromOnly_MonthView() throws Exception {
+        // when & then
+        mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-22")
+                        .header("X-API-Key", testApiKey)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("getCalendarData - 기간 미지정 시 이번 달만 조회")
+    void getCalendarData_DefaultCurrentMonth() throws Exception {
+        // when & then - 테스트 데이터는 2024년 10월이므로 이번 달 조회 결과에 없음
+        mockMvc.perform(get("/calendar/userData")
+                        .header("X-API-Key", testApiKey)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("getCalendarData - 변경이 없으면 If-None-Match에 304 반환")
+    void getCalendarData_NotModified() throws Exception {
+        // given - 첫 조회에서 ETag 획득
+        MvcResult first = mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
+                        .header("X-API-Key", testApiKey))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        // when & then - 같은 ETag로 재조회하면 본문 없이 304
+        mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
+                        .header("X-API-Key", testApiKey)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("getCalendarData - 캘린더가 변경되면 ETag가 바뀌어 200 반환")
+    void getCalendarData_ModifiedAfterInvalidation() throws Exception {
+        // given
+        MvcResult first = mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
+                        .header("X-API-Key", testApiKey))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        // when - 커밋 이후 발행되는 변경 이벤트와 동일하게 무효화
+        calendarCache.invalidate(TEST_NUMBER);
+
+        // then
+        MvcResult second = mockMvc.perform(get("/calendar/userData")
+                        .param("from", "2024-10-01")
+                        .param("to", "2024-10-31")
+                        .header("X-API-Key", testApiKey)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andReturn();
+        assertThat(second.getResponse().getHeader("ETag")).isNotEqualTo(etag);
+    }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,13 +28,16 @@ class GeofenceEntryHandlerTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PersistentGeofenceEntryHandler persistentHandler;
     private TemporaryGeofenceEntryHandler temporaryHandler;
 
     @BeforeEach
     void setUp() {
-        persistentHandler = new PersistentGeofenceEntryHandler(notificationService);
-        temporaryHandler = new TemporaryGeofenceEntryHandler(notificationService);
+        persistentHandler = new PersistentGeofenceEntryHandler(notificationService, eventPublisher);
+        temporaryHandler = new TemporaryGeofenceEntryHandler(notificationService, eventPublisher);
     }
 
     @Test
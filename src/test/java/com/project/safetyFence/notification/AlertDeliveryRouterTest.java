@@ -0,0 +1,131 @@
+package com.project.safetyFence.notification;
+
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
+import com.project.safetyFence.notification.delivery.AlertDeliveryRouter;
+import com.project.safetyFence.notification.domain.NotificationType;
+import com.project.safetyFence.notification.dto.AlertMessageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("알림 전달 라우터 테스트")
+class AlertDeliveryRouterTest {
+
+    private static final String SUPPORTER = "010-2222-2222";
+    private static final String WARD = "010-1111-1111";
+
+    private ActiveSessionRegistry sessionRegistry;
+    private SimpMessagingTemplate messagingTemplate;
+    private AlertDeliveryRouter router;
+
+    @BeforeEach
+    void setUp() {
+        sessionRegistry = new ActiveSessionRegistry();
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        router = new AlertDeliveryRouter(sessionRegistry, messagingTemplate, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+    }
+
+    @Test
+    @DisplayName("수신자가 오프라인이면 즉시 FCM 폴백")
+    void deliver_whenOffline_shouldFallbackImmediately() {
+        // given
+        AtomicInteger fcmCalls = new AtomicInteger();
+
+        // when
+        router.deliver(SUPPORTER, NotificationType.GEOFENCE_ENTRY, "제목", "내용", WARD, fcmCalls::incrementAndGet);
+
+        // then
+        assertThat(fcmCalls.get()).isEqualTo(1);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("온라인 수신자가 ack하면 FCM을 보내지 않음")
+    void deliver_whenOnlineAndAcked_shouldNotFallback() throws InterruptedException {
+        // given
+        sessionRegistry.register(SUPPORTER, "session-1");
+        AtomicInteger fcmCalls = new AtomicInteger();
+
+        // when
+        router.deliver(SUPPORTER, NotificationType.EMERGENCY, "긴급", "내용", WARD, fcmCalls::incrementAndGet);
+
+        ArgumentCaptor<AlertMessageDto> captor = ArgumentCaptor.forClass(AlertMessageDto.class);
+        verify(messagingTemplate).convertAndSend(eq("/queue/alerts/" + SUPPORTER), captor.capture());
+        boolean acked = router.acknowledge(captor.getValue().getAlertId(), SUPPORTER);
+        Thread.sleep(400);
+
+        // then
+        assertThat(acked).isTrue();
+        assertThat(captor.getValue().getType()).isEqualTo("emergency");
+        assertThat(fcmCalls.get()).isZero();
+        assertThat(router.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("ack가 없으면 타임아웃 후 FCM 폴백")
+    void deliver_whenNoAck_shouldFallbackAfterTimeout() throws InterruptedException {
+        // given
+        sessionRegistry.register(SUPPORTER, "session-1");
+        CountDownLatch fallback = new CountDownLatch(1);
+
+        // when
+        router.deliver(SUPPORTER, NotificationType.GEOFENCE_ENTRY, "제목", "내용", WARD, fallback::countDown);
+
+        // then
+        assertThat(fallback.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(router.getFcmAckTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 ack는 무시됨")
+    void acknowledge_fromOtherUser_shouldBeIgnored() {
+        // given
+        sessionRegistry.register(SUPPORTER, "session-1");
+        router.deliver(SUPPORTER, NotificationType.GEOFENCE_ENTRY, "제목", "내용", WARD, () -> { });
+
+        ArgumentCaptor<AlertMessageDto> captor = ArgumentCaptor.forClass(AlertMessageDto.class);
+        verify(messagingTemplate).convertAndSend(anyString(), captor.capture());
+
+        // when
+        boolean acked = router.acknowledge(captor.getValue().getAlertId(), "010-9999-9999");
+
+        // then
+        assertThat(acked).isFalse();
+        assertThat(router.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 해제되면 오프라인으로 판단")
+    void unregister_lastSession_shouldBeOffline() {
+        // given
+        sessionRegistry.register(SUPPORTER, "session-1");
+        sessionRegistry.register(SUPPORTER, "session-2");
+
+        // when
+        sessionRegistry.unregister(SUPPORTER, "session-1");
+        boolean onlineAfterFirst = sessionRegistry.isOnline(SUPPORTER);
+        sessionRegistry.unregister(SUPPORTER, "session-2");
+
+        // then
+        assertThat(onlineAfterFirst).isTrue();
+        assertThat(sessionRegistry.isOnline(SUPPORTER)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.safetyFence.notification;
+
+import com.project.safetyFence.notification.coalescer.CoalescingDecision;
+import com.project.safetyFence.notification.coalescer.NotificationCoalescer;
+import com.project.safetyFence.notification.coalescer.PendingSummary;
+import com.project.safetyFence.notification.domain.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 병합 테스트")
+class NotificationCoalescerTest {
+
+    private static final String WARD = "010-1111-1111";
+    private static final String SUPPORTER = "010-2222-2222";
+
+    @Test
+    @DisplayName("윈도우의 첫 알림은 전송되고 중복 알림은 억제됨")
+    void tryAcquire_duplicateWithinWindow_shouldBeSuppressed() {
+        // given
+        NotificationCoalescer coalescer = new NotificationCoalescer(60_000, 60_000, 10_000, 30_000, 600_000, true);
+
+        // when
+        CoalescingDecision first = coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용1");
+        CoalescingDecision second = coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용2");
+
+        // then
+        assertThat(first.shouldSend()).isTrue();
+        assertThat(second.shouldSend()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 수신자나 다른 종류의 알림은 서로 억제하지 않음")
+    void tryAcquire_differentKey_shouldSend() {
+        // given
+        NotificationCoalescer coalescer = new NotificationCoalescer(60_000, 60_000, 10_000, 30_000, 600_000, true);
+        coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용");
+
+        // when
+        CoalescingDecision otherRecipient = coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, "010-3333-3333", "제목", "내용");
+        CoalescingDecision emergency = coalescer.tryAcquire(NotificationType.EMERGENCY, WARD, SUPPORTER, "긴급", "긴급 내용");
+
+        // then
+        assertThat(otherRecipient.shouldSend()).isTrue();
+        assertThat(emergency.shouldSend()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 사용자라도 복용 시각/약이 다른 약 알림은 서로 억제하지 않음")
+    void tryAcquire_medicationReminder_differentTopic_shouldSend() {
+        // given
+        NotificationCoalescer coalescer = new NotificationCoalescer(60_000, 60_000, 10_000, 30_000, 600_000, true);
+        coalescer.tryAcquire(NotificationType.MEDICATION_REMINDER, WARD, WARD, "08:00 (혈압약)", "약", "내용");
+
+        // when
+        CoalescingDecision otherMedication = coalescer.tryAcquire(
+                NotificationType.MEDICATION_REMINDER, WARD, WARD, "08:05 (영양제)", "약", "내용");
+        CoalescingDecision duplicate = coalescer.tryAcquire(
+                NotificationType.MEDICATION_REMINDER, WARD, WARD, "08:00 (혈압약)", "약", "내용");
+
+        // then
+        assertThat(otherMedication.shouldSend()).isTrue();
+        assertThat(duplicate.shouldSend()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우가 닫히면 억제된 알림이 요약으로 꺼내짐")
+    void drainClosedWindows_shouldReturnSummary() throws InterruptedException {
+        // given
+        NotificationCoalescer coalescer = new NotificationCoalescer(50, 50, 50, 50, 50, true);
+        coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용1");
+        coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용2");
+        coalescer.tryAcquire(NotificationType.GEOFENCE_ENTRY, WARD, SUPPORTER, "제목", "내용3");
+
+        // when
+        Thread.sleep(100);
+        List<PendingSummary> summaries = coalescer.drainClosedWindows();
+
+        // then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).suppressedCount()).isEqualTo(2);
+        assertThat(summaries.get(0).lastBody()).isEqualTo("내용3");
+        assertThat(coalescer.drainClosedWindows()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("윈도우가 0이면 병합하지 않음")
+    void tryAcquire_zeroWindow_shouldAlwaysSend() {
+        // given
+        NotificationCoalescer coalescer = new NotificationCoalescer(0, 0, 0, 0, 0, true);
+
+        // when
+        CoalescingDecision first = coalescer.tryAcquire(NotificationType.EMERGENCY, WARD, SUPPORTER, "긴급", "내용");
+        CoalescingDecision second = coalescer.tryAcquire(NotificationType.EMERGENCY, WARD, SUPPORTER, "긴급", "내용");
+
+        // then
+        assertThat(first.shouldSend()).isTrue();
+        assertThat(second.shouldSend()).isTrue();
+    }
+}
@@ -1,11 +1,14 @@
 package com.project.safetyFence.notification;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
-import com.project.safetyFence.link.LinkRepository;
-import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.notification.coalescer.NotificationCoalescer;
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
+import com.project.safetyFence.notification.delivery.AlertDeliveryRouter;
 import com.project.safetyFence.notification.domain.DeviceToken;
+import com.project.safetyFence.notification.transport.PushSendException;
+import com.project.safetyFence.notification.transport.PushTransport;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -38,7 +42,19 @@ class NotificationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private LinkRepository linkRepository;
+    private LinkGraph linkGraph;
+
+    @Mock
+    private PushTransport pushTransport;
+
+    @Spy
+    private NotificationCoalescer notificationCoalescer =
+            new NotificationCoalescer(60_000, 60_000, 10_000, 30_000, 600_000, true);
+
+    // 활성 세션이 없으므로 모든 알림이 FCM 경로로 전송된다
+    @Spy
+    private AlertDeliveryRouter alertDeliveryRouter =
+            new AlertDeliveryRouter(new ActiveSessionRegistry(), mock(SimpMessagingTemplate.class), 3_000);
 
     @InjectMocks
     private NotificationService notificationService;
@@ -56,77 +72,72 @@ class NotificationServiceTest {
 
     @Test
     @DisplayName("보호자에게 알림 전송 성공")
-    void sendNotificationToSupporters_shouldSendNotification() {
+    void sendNotificationToSupporters_shouldSendNotification() throws PushSendException {
         // given
-        Link link = new Link(supporterUser, elderUser.getNumber(), "보호자");
+        LinkEdge link = new LinkEdge(1L, supporterUser.getNumber(), elderUser.getNumber(), "보호자", false);
 
-        when(linkRepository.findByUserNumber(elderUser.getNumber())).thenReturn(List.of(link));
+        when(linkGraph.getSupporters(elderUser.getNumber())).thenReturn(List.of(link));
         when(userRepository.findByNumber(supporterUser.getNumber())).thenReturn(supporterUser);
         when(deviceTokenRepository.findByUser(supporterUser)).thenReturn(List.of(deviceToken));
+        when(pushTransport.send(any(Message.class))).thenReturn("message-id-123");
+
+        // when
+        notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
 
-        try (MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
-            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
-            when(firebaseMessaging.send(any(Message.class))).thenReturn("message-id-123");
-
-            // when
-            notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
-
-            // then
-            verify(linkRepository).findByUserNumber(elderUser.getNumber());
-            verify(userRepository).findByNumber(supporterUser.getNumber());
-            verify(deviceTokenRepository).findByUser(supporterUser);
-            verify(firebaseMessaging).send(any(Message.class));
-        } catch (FirebaseMessagingException e) {
-            throw new RuntimeException(e);
-        }
+        // then
+        verify(linkRepository).findByUserNumber(elderUser.getNumber());
+        verify(userRepository).findByNumber(supporterUser.getNumber());
+        verify(deviceTokenRepository).findByUser(supporterUser);
+        verify(pushTransport).send(any(Message.class));
     }
 
     @Test
     @DisplayName("보호자가 없으면 알림 전송하지 않음")
-    void sendNotificationToSupporters_whenNoSupporters_shouldNotSend() {
+    void sendNotificationToSupporters_whenNoSupporters_shouldNotSend() throws PushSendException {
         // given
-        when(linkRepository.findByUserNumber(elderUser.getNumber())).thenReturn(new ArrayList<>());
-
-        try (MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
-            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+        when(linkGraph.getSupporters(elderUser.getNumber())).thenReturn(new ArrayList<>());
 
-            // when
-            notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
+        // when
+        notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
 
-            // then
-            verify(linkRepository).findByUserNumber(elderUser.getNumber());
-            verify(firebaseMessaging, never()).send(any(Message.class));
-        } catch (FirebaseMessagingException e) {
-            throw new RuntimeException(e);
-        }
+        // then
+        verify(linkRepository).findByUserNumber(elderUser.getNumber());
+        verify(pushTransport, never()).send(any(Message.class));
     }
 
     @Test
     @DisplayName("디바이스 토큰이 없으면 알림 전송하지 않음")
-    void sendNotificationToSupporters_whenNoDeviceToken_shouldNotSend() {
+    void sendNotificationToSupporters_whenNoDeviceToken_shouldNotSend() throws PushSendException {
         // given
-        Link link = new Link(supporterUser, elderUser.getNumber(), "보호자");
+        LinkEdge link = new LinkEdge(1L, supporterUser.getNumber(), elderUser.getNumber(), "보호자", false);
 
-        when(linkRepository.findByUserNumber(elderUser.getNumber())).thenReturn(List.of(link));
+        when(linkGraph.getSupporters(elderUser.getNumber())).thenReturn(List.of(link));
         when(userRepository.findByNumber(supporterUser.getNumber())).thenReturn(supporterUser);
         when(deviceTokenRepository.findByUser(supporterUser)).thenReturn(new ArrayList<>());
 
-        try (MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
-            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+        // when
+        notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
+
+        // then
+        verify(linkRepository).findByUserNumber(elderUser.getNumber());
+        verify(userRepository).findByNumber(supporterUser.getNumber());
+        verify(pushTransport, never()).send(any(Message.class));
+    }
 
-            // when
-            notificationService.sendNotificationToSupporters(elderUser, "테스트 제목", "테스트 내용");
+    @Test
+    @DisplayName("만료된 토큰으로 전송 실패 시 토큰 삭제")
+    void sendMedicationReminderNotification_whenTokenInvalid_shouldDeleteToken() throws PushSendException {
+        // given
+        when(deviceTokenRepository.findByUser(elderUser)).thenReturn(List.of(deviceToken));
+        when(pushTransport.send(any(Message.class)))
+                .thenThrow(new PushSendException("UNREGISTERED", true));
 
-            // then
-            verify(linkRepository).findByUserNumber(elderUser.getNumber());
-            verify(userRepository).findByNumber(supporterUser.getNumber());
-            verify(firebaseMessaging, never()).send(any(Message.class));
-        } catch (FirebaseMessagingException e) {
-            throw new RuntimeException(e);
-        }
+        // when
+        notificationService.sendMedicationReminderNotification(elderUser, "아침");
+
+        // then
+        verify(pushTransport).send(any(Message.class));
+        verify(deviceTokenRepository).deleteByToken(deviceToken.getToken());
     }
 
     @Test
@@ -0,0 +1,114 @@
+package com.project.safetyFence.performance;
+
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 위치/도착 기록 INSERT 처리량 벤치마크 (시퀀스 id + JDBC 배치 전후 비교)
+ *
+ * 전환 전(IDENTITY)은 행마다 INSERT를 바로 실행해야 했으므로 세션 배치 크기 1로 같은 왕복 수를 재현하고,
+ * 설정된 배치 크기(hibernate.jdbc.batch_size)와 같은 행 수를 저장해 처리량과 실행 문장 수를 비교한다.
+ * 실행 시간은 환경에 따라 흔들리므로 출력만 하고, 검증은 실행 문장 수로 한다.
+ * 각 측정은 flush까지 재고 롤백하므로 데이터가 남지 않는다.
+ */
+@SpringBootTest
+class InsertBatchingBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("시나리오 1: 위치 기록 2,000건 저장 (행 단위 vs 배치)")
+    void benchmark_userLocationInserts() {
+        BiConsumer<User, Integer> insert = (user, i) -> entityManager.persist(
+                new UserLocation(user, BigDecimal.valueOf(37.5 + i * 0.00001), BigDecimal.valueOf(127.0), 80));
+
+        Result perRow = run("01081111111", 1, insert);
+        Result batched = run("01081111112", null, insert);
+
+        print("시나리오 1: 위치 기록 INSERT", perRow, batched);
+        assertThat(batched.statements()).isLessThan(perRow.statements() / 10);
+    }
+
+    @Test
+    @DisplayName("시나리오 2: 도착 기록 2,000건 저장 (행 단위 vs 배치)")
+    void benchmark_logInserts() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        BiConsumer<User, Integer> insert = (user, i) -> entityManager.persist(
+                new Log(user, "집", "서울 중구", start.plusSeconds(i)));
+
+        Result perRow = run("01082222221", 1, insert);
+        Result batched = run("01082222222", null, insert);
+
+        print("시나리오 2: 도착 기록 INSERT", perRow, batched);
+        assertThat(batched.statements()).isLessThan(perRow.statements() / 10);
+    }
+
+    /**
+     * @param batchSize 세션 배치 크기 (null이면 설정값)
+     */
+    private Result run(String userNumber, Integer batchSize, BiConsumer<User, Integer> insert) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User(userNumber, "벤치마크", "111", LocalDate.of(1950, 1, 1), "bench-" + userNumber);
+            entityManager.persist(user);
+            entityManager.flush();
+
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            statistics.clear();
+
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                insert.accept(user, i);
+            }
+            entityManager.flush();
+            double elapsedMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+            long statements = statistics.getPrepareStatementCount();
+            session.setJdbcBatchSize(null);
+            status.setRollbackOnly();
+            return new Result(elapsedMs, statements);
+        });
+    }
+
+    private static void print(String title, Result perRow, Result batched) {
+        System.out.println("=== " + title + " ===");
+        System.out.println("저장 행: " + ROWS + "건");
+        System.out.println("행 단위(전환 전): " + String.format("%.1fms (%.1f건/초), 문장 %d개",
+                perRow.elapsedMs(), ROWS / (perRow.elapsedMs() / 1000), perRow.statements()));
+        System.out.println("배치: " + String.format("%.1fms (%.1f건/초), 문장 %d개",
+                batched.elapsedMs(), ROWS / (batched.elapsedMs() / 1000), batched.statements()));
+        System.out.println("개선: " + String.format("%.1f배", perRow.elapsedMs() / batched.elapsedMs()));
+        System.out.println();
+    }
+
+    private record Result(double elapsedMs, long statements) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.project.safetyFence.performance;
+
+import com.project.safetyFence.link.LinkRepository;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.dto.ReminderTargetDto;
+import com.project.safetyFence.medication.scheduler.MedicationReminderScheduler;
+import com.project.safetyFence.notification.DeviceTokenRepository;
+import com.project.safetyFence.notification.NotificationService;
+import com.project.safetyFence.notification.coalescer.NotificationCoalescer;
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
+import com.project.safetyFence.notification.delivery.AlertDeliveryRouter;
+import com.project.safetyFence.notification.domain.DeviceToken;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
+import com.project.safetyFence.notification.transport.InMemoryPushTransport;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 푸시 알림 처리량 벤치마크
+ *
+ * InMemoryPushTransport로 FCM 지연/오류율/동시 연결 제한을 흉내 내어
+ * 약 복용 알림 일괄 전송, 지오펜스 알림 팬아웃, 전송 큐잉 지연을 오프라인으로 측정한다.
+ * 저장소는 모두 mock이므로 DB 없이 실행된다.
+ * 실행 시간은 환경에 따라 흔들리므로 출력만 하고, 검증은 전송 건수와 동시 전송 수로 한다.
+ */
+class PushThroughputBenchmarkTest {
+
+    private DeviceTokenRepository deviceTokenRepository;
+    private LinkRepository linkRepository;
+    private UserRepository userRepository;
+    private LinkGraph linkGraph;
+    private AlertDeliveryRouter alertDeliveryRouter;
+
+    @AfterEach
+    void tearDown() {
+        if (alertDeliveryRouter != null) {
+            alertDeliveryRouter.shutdown();
+        }
+    }
+
+    private NotificationService createService(InMemoryPushTransport transport) {
+        tearDown();
+        deviceTokenRepository = mock(DeviceTokenRepository.class);
+        linkRepository = mock(LinkRepository.class);
+        userRepository = mock(UserRepository.class);
+        linkGraph = new LinkGraph(linkRepository);
+        // 병합 윈도우 0 → 모든 알림 전송, 활성 세션 없음 → 모든 알림이 푸시 경로
+        NotificationCoalescer coalescer = new NotificationCoalescer(0, 0, 0, 0, 0, false);
+        alertDeliveryRouter = new AlertDeliveryRouter(new ActiveSessionRegistry(), mock(SimpMessagingTemplate.class), 0);
+
+        return new NotificationService(deviceTokenRepository, userRepository,
+                coalescer, alertDeliveryRouter, transport, linkGraph);
+    }
+
+    private static User user(int i) {
+        return new User(String.format("010%08d", i), "사용자" + i, "111", LocalDate.of(1950, 1, 1), "link" + i);
+    }
+
+    @Test
+    @DisplayName("시나리오 1: 약 복용 알림 일괄 전송 처리량 (지연 5ms, 오류율 2%, 순차 vs 동시성 8)")
+    void benchmark_medicationReminderRun() {
+        int userCount = 200;
+
+        ReminderRun sequential = runReminderBenchmark(userCount, 1);
+        ReminderRun concurrent = runReminderBenchmark(userCount, 8);
+
+        System.out.println("=== 시나리오 1: 약 복용 알림 일괄 전송 ===");
+        System.out.println("대상 사용자: " + userCount + "명");
+        System.out.println("순차 전송: " + String.format("%.1fms (%.1f건/초), 최대 동시 전송 %d",
+                sequential.elapsedMs(), userCount / (sequential.elapsedMs() / 1000), sequential.maxInFlight()));
+        System.out.println("동시성 8: " + String.format("%.1fms (%.1f건/초), 최대 동시 전송 %d",
+                concurrent.elapsedMs(), userCount / (concurrent.elapsedMs() / 1000), concurrent.maxInFlight()));
+        System.out.println("개선: " + String.format("%.1f배", sequential.elapsedMs() / concurrent.elapsedMs()));
+        System.out.println();
+
+        assertThat(sequential.attempted()).isEqualTo(userCount);
+        assertThat(concurrent.attempted()).isEqualTo(userCount);
+        assertThat(sequential.maxInFlight()).isEqualTo(1);
+        // 동시성 설정만큼 겹쳐 보내되 그 이상은 열지 않아야 함
+        assertThat(concurrent.maxInFlight()).isBetween(2, 8);
+    }
+
+    private record ReminderRun(double elapsedMs, long attempted, int maxInFlight) {
+    }
+
+    private ReminderRun runReminderBenchmark(int userCount, int concurrency) {
+        InMemoryPushTransport transport = new InMemoryPushTransport(5, 0, 0.02, 0.0, 0);
+        NotificationService notificationService = createService(transport);
+
+        List<ReminderTargetDto> targets = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = user(i);
+            targets.add(new ReminderTargetDto(user.getNumber(), user.getName()));
+        }
+        MedicationRepository medicationRepository = mock(MedicationRepository.class);
+        when(medicationRepository.countUsersWithMedications()).thenReturn((long) userCount);
+        when(medicationRepository.findReminderTargetsAfter(anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    String after = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return targets.stream()
+                            .filter(t -> t.getUserNumber().compareTo(after) > 0)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+        when(deviceTokenRepository.findTokenTargetsByUserNumbers(anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<String> numbers = List.copyOf(invocation.getArgument(0));
+                    return numbers.stream()
+                            .map(number -> new DeviceTokenTargetDto(number, "token-" + number))
+                            .toList();
+                });
+
+        MedicationReminderScheduler scheduler = new MedicationReminderScheduler(medicationRepository,
+                deviceTokenRepository, notificationService, new SimpleMeterRegistry(), 50, concurrency, 0);
+        try {
+            long start = System.nanoTime();
+            scheduler.sendMorningReminder();
+            double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            return new ReminderRun(elapsedMs, transport.getSentCount() + transport.getFailedCount(),
+                    transport.getMaxInFlight());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("시나리오 2: 지오펜스 알림 팬아웃 처리량 (이용자 50명 x 보호자 3명, 지연 5±5ms, 오류율 5%)")
+    void benchmark_geofenceAlertFanOut() {
+        // given
+        int wardCount = 50;
+        int supportersPerWard = 3;
+        InMemoryPushTransport transport = new InMemoryPushTransport(5, 5, 0.05, 0.0, 0);
+        NotificationService notificationService = createService(transport);
+
+        List<User> wards = new ArrayList<>();
+        List<LinkEdge> edges = new ArrayList<>();
+        int seq = 0;
+        for (int w = 0; w < wardCount; w++) {
+            User ward = user(seq++);
+            wards.add(ward);
+            for (int s = 0; s < supportersPerWard; s++) {
+                User supporter = user(seq++);
+                edges.add(new LinkEdge((long) seq, supporter.getNumber(), ward.getNumber(), "보호자", false));
+                when(userRepository.findByNumber(supporter.getNumber())).thenReturn(supporter);
+                when(deviceTokenRepository.findByUser(supporter))
+                        .thenReturn(List.of(new DeviceToken(supporter, "token-" + seq, "android")));
+            }
+        }
+        when(linkRepository.findAllEdges()).thenReturn(edges);
+        linkGraph.load();
+
+        // when
+        long start = System.nanoTime();
+        for (User ward : wards) {
+            notificationService.sendNotificationToSupporters(ward, "지오펜스 진입", ward.getName() + "님이 집에 도착했습니다.");
+        }
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        // then
+        long attempted = transport.getSentCount() + transport.getFailedCount();
+        System.out.println("=== 시나리오 2: 지오펜스 알림 팬아웃 ===");
+        System.out.println("알림 이벤트: " + wardCount + "건, 푸시 시도: " + attempted + "건");
+        System.out.println("전송 성공/실패: " + transport.getSentCount() + "/" + transport.getFailedCount());
+        System.out.println("소요 시간: " + String.format("%.1fms", elapsedMs));
+        System.out.println("처리량: " + String.format("%.1f건/초", attempted / (elapsedMs / 1000)));
+        System.out.println();
+
+        assertThat(attempted).isEqualTo((long) wardCount * supportersPerWard);
+    }
+
+    @Test
+    @DisplayName("시나리오 3: 동시 전송 제한 하의 큐잉 지연 (32 스레드, 동시 연결 8, 지연 10ms)")
+    void benchmark_queueingUnderConcurrencyLimit() throws InterruptedException {
+        // given
+        int threads = 32;
+        int userCount = 320;
+        int maxConcurrency = 8;
+        InMemoryPushTransport transport = new InMemoryPushTransport(10, 0, 0.0, 0.0, maxConcurrency);
+        NotificationService notificationService = createService(transport);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = user(i);
+            users.add(user);
+            when(deviceTokenRepository.findByUser(user)).thenReturn(List.of(new DeviceToken(user, "token-" + i, "android")));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        long start = System.nanoTime();
+        for (User user : users) {
+            executor.submit(() -> notificationService.sendMedicationReminderNotification(user, "아침"));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        // then
+        System.out.println("=== 시나리오 3: 큐잉 지연 ===");
+        System.out.println("전송: " + transport.getSentCount() + "건, 최대 동시 전송: " + transport.getMaxInFlight());
+        System.out.println("평균 큐잉 지연: " + String.format("%.1fms", transport.getAverageQueueWaitMs()));
+        System.out.println("최대 큐잉 지연: " + String.format("%.1fms", transport.getMaxQueueWaitMs()));
+        System.out.println("소요 시간: " + String.format("%.1fms", elapsedMs));
+        System.out.println("처리량: " + String.format("%.1f건/초", transport.getSentCount() / (elapsedMs / 1000)));
+        System.out.println();
+
+        assertThat(transport.getSentCount()).isEqualTo(userCount);
+        assertThat(transport.getMaxInFlight()).isLessThanOrEqualTo(maxConcurrency);
+        // 스레드 수가 동시 연결 수보다 많으므로 대기가 발생해야 함
+        assertThat(transport.getMaxQueueWaitMs()).isGreaterThan(0.0);
+    }
+}
@@ -0,0 +1,190 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.admin.stats.SystemStatistics;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.link.generator.LinkCodeAllocator;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.domain.MedicationLog;
+import com.project.safetyFence.medication.reminder.MedicationReminderIndex;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.UserService;
+import com.project.safetyFence.user.deletion.AccountDeletionReport;
+import com.project.safetyFence.user.deletion.AccountDeletionService;
+import com.project.safetyFence.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 삭제 작업은 별도 스레드에서 자동 커밋으로 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증한다.
+ */
+@SpringBootTest
+class AccountDeletionServiceTest {
+
+    private static final String WARD_NUMBER = "01041111111";
+    private static final String SUPPORTER_NUMBER = "01042222222";
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MedicationRepository medicationRepository;
+
+    @Autowired
+    private MedicationReminderIndex medicationReminderIndex;
+
+    @Autowired
+    private LinkGraph linkGraph;
+
+    @Autowired
+    private LinkCodeAllocator linkCodeAllocator;
+
+    @Autowired
+    private SystemStatistics systemStatistics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        for (String number : List.of(WARD_NUMBER, SUPPORTER_NUMBER)) {
+            jdbcTemplate.update("UPDATE users SET disabled = true WHERE number = ?", number);
+            accountDeletionService.purge(number);
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화된 계정의 연관 데이터를 청크 단위로 삭제하고 상대 보호자는 유지")
+    void purge_DeletesChildrenInChunks() {
+        // given - 청크 7건
+        AccountDeletionService smallChunks = new AccountDeletionService(jdbcTemplate, userRepository, medicationRepository, linkGraph,
+                linkCodeAllocator, systemStatistics, new SimpleMeterRegistry(), eventPublisher, 7, 0, 3, 1, 1);
+        saveWardWithHistory(30);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findByNumber(WARD_NUMBER).disable());
+
+        // when
+        AccountDeletionReport report = smallChunks.purge(WARD_NUMBER);
+        smallChunks.shutdown();
+
+        // then - 30건 테이블은 5청크씩
+        assertThat(report.status()).isEqualTo(AccountDeletionReport.Status.COMPLETED);
+        assertThat(report.chunks()).isGreaterThanOrEqualTo(15);
+        assertThat(report.deletedRows())
+                .containsEntry("user_location", 30L)
+                .containsEntry("log", 30L)
+                .containsEntry("medication_log", 30L)
+                .containsEntry("medication_reminder_time", 2L)
+                .containsEntry("medication", 1L)
+                .containsEntry("link", 1L)
+                .containsEntry("users", 1L);
+        assertThat(userRepository.existsByNumber(WARD_NUMBER)).isFalse();
+        assertThat(userRepository.existsByNumber(SUPPORTER_NUMBER)).isTrue();
+        assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isFalse();
+        assertThat(smallChunks.getReport(WARD_NUMBER)).contains(report);
+    }
+
+    @Test
+    @DisplayName("활성 계정은 삭제하지 않음")
+    void purge_ActiveAccount_Skipped() {
+        // given
+        saveWardWithHistory(1);
+
+        // when
+        AccountDeletionReport report = accountDeletionService.purge(WARD_NUMBER);
+
+        // then
+        assertThat(report.totalDeleted()).isZero();
+        assertThat(userRepository.existsByNumber(WARD_NUMBER)).isTrue();
+    }
+
+    @Test
+    @DisplayName("본인 탈퇴는 즉시 비활성화되고 커밋 후 비동기로 삭제 완료")
+    void deleteOwnAccount_CompletesAsynchronously() {
+        // given
+        saveWardWithHistory(10);
+
+        // when
+        userService.deleteOwnAccount(WARD_NUMBER, "111");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(accountDeletionService.getReport(WARD_NUMBER))
+                        .hasValueSatisfying(report ->
+                                assertThat(report.status()).isEqualTo(AccountDeletionReport.Status.COMPLETED)));
+        assertThat(userRepository.existsByNumber(WARD_NUMBER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("탈퇴 접수가 커밋되면 약 알림 인덱스에서 즉시 제거")
+    void deleteOwnAccount_RemovesMedicationReminders() {
+        // given - 인덱스에 오전 8시 알림 등록
+        saveWardWithHistory(1);
+        Long medicationId = medicationRepository.findIdsByUserNumber(WARD_NUMBER).get(0);
+        medicationReminderIndex.upsert(medicationId, "혈압약", WARD_NUMBER, "피보호자",
+                List.of(LocalTime.of(8, 0), LocalTime.of(20, 0)));
+
+        // when
+        userService.deleteOwnAccount(WARD_NUMBER, "111");
+
+        // then
+        assertThat(medicationReminderIndex.dueAt(8 * 60))
+                .noneMatch(due -> due.entry().medicationId().equals(medicationId));
+        assertThat(medicationReminderIndex.dueAt(20 * 60))
+                .noneMatch(due -> due.entry().medicationId().equals(medicationId));
+    }
+
+    private void saveWardWithHistory(int rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User ward = new User(WARD_NUMBER, "피보호자", "111", LocalDate.of(1950, 1, 1), "del-ward");
+            User supporter = new User(SUPPORTER_NUMBER, "보호자", "111", LocalDate.of(1970, 1, 1), "del-sup");
+            supporter.addLink(new Link(supporter, WARD_NUMBER, "자녀"));
+
+            Medication medication = new Medication(ward, "혈압약", "1정", "혈압", "하루 2회");
+            medication.updateReminderTimes(List.of(LocalTime.of(8, 0), LocalTime.of(20, 0)));
+            ward.addMedication(medication);
+
+            LocalDateTime start = LocalDateTime.now().minusDays(1);
+            for (int i = 0; i < rows; i++) {
+                ward.addUserLocation(new UserLocation(ward, BigDecimal.valueOf(37.5 + i * 0.0001), BigDecimal.valueOf(127.0)));
+                ward.addLog(new Log(ward, "집", "서울", start.plusMinutes(i)));
+                medication.addLog(new MedicationLog(medication, start.plusMinutes(i)));
+            }
+            userRepository.save(ward);
+            userRepository.save(supporter);
+        });
+    }
+}
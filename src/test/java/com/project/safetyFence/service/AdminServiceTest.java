@@ -0,0 +1,152 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.admin.AdminService;
+import com.project.safetyFence.admin.dto.AdminLinkResponseDto;
+import com.project.safetyFence.admin.dto.UserResponseDto;
+import com.project.safetyFence.calendar.domain.UserEvent;
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.geofence.domain.Geofence;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class AdminServiceTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User ward;
+    private User guardian;
+
+    @BeforeEach
+    void setUp() {
+        ward = new User("01070000001", "관리테스트피보호자", "password", LocalDate.of(1950, 1, 1), "admin-ward");
+        guardian = new User("01070000002", "관리테스트보호자", "password", LocalDate.of(1980, 1, 1), "admin-guard");
+
+        ward.addGeofence(new Geofence(ward, "집", "서울시 강남구",
+                new BigDecimal("37.5"), new BigDecimal("127.0"), 0, 100));
+        ward.addMedication(new Medication(ward, "혈압약", "1정", "혈압 조절", "하루 2회"));
+        ward.addUserEvent(new UserEvent(ward, "병원", LocalDate.of(2025, 1, 10), LocalTime.of(10, 0)));
+        ward.addUserEvent(new UserEvent(ward, "산책", LocalDate.of(2025, 1, 11), LocalTime.of(9, 0)));
+        guardian.addLink(new Link(guardian, ward.getNumber(), "자녀"));
+
+        userRepository.save(ward);
+        userRepository.save(guardian);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 - 항목별 건수를 집계해서 반환")
+    void getUsers_AggregatesCounts() {
+        // when
+        Page<UserResponseDto> page = adminService.getUsers("관리테스트", 0, 20, "number", Sort.Direction.ASC);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        UserResponseDto wardRow = page.getContent().get(0);
+        assertThat(wardRow.getNumber()).isEqualTo(ward.getNumber());
+        assertThat(wardRow.getGeofenceCount()).isEqualTo(1);
+        assertThat(wardRow.getMedicationCount()).isEqualTo(1);
+        assertThat(wardRow.getEventCount()).isEqualTo(2);
+        assertThat(wardRow.getLinkedGuardiansCount()).isEqualTo(1);
+        assertThat(wardRow.getLinkedWardsCount()).isZero();
+
+        UserResponseDto guardianRow = page.getContent().get(1);
+        assertThat(guardianRow.getLinkedGuardiansCount()).isZero();
+        assertThat(guardianRow.getLinkedWardsCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 - 페이지 크기와 무관하게 쿼리 수가 일정")
+    void getUsers_QueryCountIndependentOfPageSize() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            User user = new User("0107100000" + i, "관리테스트추가" + i, "password", LocalDate.of(1990, 1, 1), "admin-" + i);
+            user.addMedication(new Medication(user, "약" + i, "1정", "목적", "하루 1회"));
+            userRepository.save(user);
+        }
+
+        // when
+        long small = countStatements(() -> adminService.getUsers("관리테스트", 0, 2, "name", Sort.Direction.ASC));
+        long large = countStatements(() -> adminService.getUsers("관리테스트", 0, 12, "name", Sort.Direction.ASC));
+
+        // then
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 - 지원하지 않는 정렬 기준이면 예외")
+    void getUsers_InvalidSort_Throws() {
+        assertThatThrownBy(() -> adminService.getUsers(null, 0, 20, "password", Sort.Direction.ASC))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("링크 목록 - 양쪽 사용자 이름을 함께 조회")
+    void getLinks_ResolvesNames() {
+        // when
+        Page<AdminLinkResponseDto> page = adminService.getLinks("관리테스트", 0, 20, "wardName", Sort.Direction.ASC);
+
+        // then
+        assertThat(page.getContent()).hasSize(1);
+        AdminLinkResponseDto link = page.getContent().get(0);
+        assertThat(link.getWardNumber()).isEqualTo(guardian.getNumber());
+        assertThat(link.getWardName()).isEqualTo(guardian.getName());
+        assertThat(link.getGuardianNumber()).isEqualTo(ward.getNumber());
+        assertThat(link.getGuardianName()).isEqualTo(ward.getName());
+        assertThat(link.getRelation()).isEqualTo("자녀");
+    }
+
+    @Test
+    @DisplayName("링크 목록 - 상대 사용자가 없으면 '알 수 없음'")
+    void getLinks_UnknownCounterpart() {
+        // given
+        guardian.addLink(new Link(guardian, "01079999999", "지인"));
+        userRepository.save(guardian);
+
+        // when
+        Page<AdminLinkResponseDto> page = adminService.getLinks("01079999999", 0, 20, "id", Sort.Direction.DESC);
+
+        // then
+        assertThat(page.getContent()).singleElement()
+                .satisfies(link -> assertThat(link.getGuardianName()).isEqualTo("알 수 없음"));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.user.cache.ApiKeyPrincipalCache;
+import com.project.safetyFence.user.dto.ApiKeyPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiKeyPrincipalCacheTest {
+
+    private static final ApiKeyPrincipal PRINCIPAL =
+            new ApiKeyPrincipal("01012345678", "테스터", LocalDate.of(1990, 1, 1));
+
+    private ApiKeyPrincipalCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ApiKeyPrincipalCache(100, 30, 100, 30);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("유효한 키는 한 번만 조회하고 이후 캐시에서 반환")
+    void validKey_LoadedOnce() {
+        // when
+        Optional<ApiKeyPrincipal> first = cache.getOrLoad("valid-key", loader(PRINCIPAL));
+        Optional<ApiKeyPrincipal> second = cache.getOrLoad("valid-key", loader(PRINCIPAL));
+
+        // then
+        assertThat(first).contains(PRINCIPAL);
+        assertThat(second).contains(PRINCIPAL);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 키도 캐시되어 반복 대입 시 DB 조회 없음")
+    void invalidKey_NegativeCached() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.getOrLoad("bad-key", loader(null))).isEmpty();
+        }
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("사용자 무효화 후에는 다시 조회")
+    void invalidateUser_ForcesReload() {
+        // given
+        cache.getOrLoad("valid-key", loader(PRINCIPAL));
+
+        // when
+        cache.invalidateUser(PRINCIPAL.userNumber());
+        Optional<ApiKeyPrincipal> reloaded = cache.getOrLoad("valid-key", loader(null));
+
+        // then
+        assertThat(reloaded).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 저장하지 않음")
+    void invalidatedDuringLoad_NotCached() {
+        // when
+        cache.getOrLoad("valid-key", key -> {
+            loads.incrementAndGet();
+            cache.invalidateUser(PRINCIPAL.userNumber());
+            return Optional.of(PRINCIPAL);
+        });
+        cache.getOrLoad("valid-key", loader(PRINCIPAL));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    private Function<String, Optional<ApiKeyPrincipal>> loader(ApiKeyPrincipal result) {
+        return key -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(result);
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.calendar.cache.CalendarCache;
+import com.project.safetyFence.calendar.dto.OneDayResponseDto;
+import com.project.safetyFence.calendar.event.CalendarChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarCacheTest {
+
+    private static final String USER = "01012345678";
+    private static final LocalDate FROM = LocalDate.of(2024, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 10, 31);
+
+    private CalendarCache calendarCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        calendarCache = new CalendarCache(100, 10);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 기간 재조회는 캐시에서 반환")
+    void getOrLoad_CachedOnSecondCall() {
+        // when
+        List<OneDayResponseDto> first = calendarCache.getOrLoad(USER, FROM, TO, this::load);
+        List<OneDayResponseDto> second = calendarCache.getOrLoad(USER, FROM, TO, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 해당 사용자만 다시 조회하고 ETag가 바뀜")
+    void onCalendarChanged_InvalidatesOnlyThatUser() {
+        // given
+        calendarCache.getOrLoad(USER, FROM, TO, this::load);
+        calendarCache.getOrLoad("01099999999", FROM, TO, this::load);
+        String etagBefore = calendarCache.currentEtag(USER, FROM, TO);
+        String otherEtagBefore = calendarCache.currentEtag("01099999999", FROM, TO);
+
+        // when
+        calendarCache.onCalendarChanged(new CalendarChangedEvent(USER));
+        calendarCache.getOrLoad(USER, FROM, TO, this::load);
+        calendarCache.getOrLoad("01099999999", FROM, TO, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(calendarCache.currentEtag(USER, FROM, TO)).isNotEqualTo(etagBefore);
+        assertThat(calendarCache.currentEtag("01099999999", FROM, TO)).isEqualTo(otherEtagBefore);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 오래된 결과는 캐시에 저장하지 않음")
+    void getOrLoad_InvalidatedDuringLoad_NotCached() {
+        // when - 로딩 중에 변경이 커밋됨
+        calendarCache.getOrLoad(USER, FROM, TO, () -> {
+            calendarCache.invalidate(USER);
+            return load();
+        });
+        calendarCache.getOrLoad(USER, FROM, TO, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 기간이 다르면 ETag도 다름")
+    void currentEtag_DiffersByWindow() {
+        assertThat(calendarCache.currentEtag(USER, FROM, TO))
+                .isNotEqualTo(calendarCache.currentEtag(USER, FROM, FROM));
+    }
+
+    private List<OneDayResponseDto> load() {
+        loadCount.incrementAndGet();
+        return List.of(new OneDayResponseDto("2024-10-22"));
+    }
+}
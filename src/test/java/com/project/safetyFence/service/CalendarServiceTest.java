@@ -6,8 +6,17 @@ import com.project.safetyFence.calendar.dto.EventDataRequestDto;
 import com.project.safetyFence.calendar.UserEventRepository;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.calendar.CalendarService;
+import com.project.safetyFence.calendar.dto.OneDayResponseDto;
+import com.project.safetyFence.log.LogRepository;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.medication.MedicationLogRepository;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.domain.MedicationLog;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +25,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,6 +43,15 @@ class CalendarServiceTest {
     @Autowired
     private UserEventRepository userEventRepository;
 
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private MedicationRepository medicationRepository;
+
+    @Autowired
+    private MedicationLogRepository medicationLogRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -251,4 +271,75 @@ class CalendarServiceTest {
         User updatedUser = userRepository.findByNumber(TEST_NUMBER);
         assertThat(updatedUser.getUserEvents()).hasSize(0);  // orphanRemoval 작동!
     }
+
+    @Test
+    @DisplayName("getCalendarData - 기간 내 데이터만 조회하고 약 복용 횟수는 날짜별로 집계")
+    void getCalendarData_WindowedWithMedicationCounts() {
+        // given
+        LocalDate day = LocalDate.of(2024, 10, 22);
+        Medication medication = saveMedication("혈압약");
+        logRepository.save(new Log(testUser, "집", "서울시", day.atTime(9, 0)));
+        logRepository.save(new Log(testUser, "집", "서울시", day.plusMonths(1).atTime(9, 0)));  // 기간 밖
+        medicationLogRepository.save(new MedicationLog(medication, day.atTime(8, 0)));
+        medicationLogRepository.save(new MedicationLog(medication, day.atTime(20, 0)));
+
+        // when
+        List<OneDayResponseDto> result = calendarService.getCalendarData(
+                TEST_NUMBER, LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getDate()).isEqualTo("2024-10-22");
+        assertThat(result.get(0).getMedications()).hasSize(1);
+        assertThat(result.get(0).getMedications().get(0).getCheckCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getCalendarData - 날짜/약 개수와 무관하게 쿼리 수 고정")
+    void getCalendarData_ConstantQueryCount() {
+        // given - 하루치 데이터, 약 1개
+        LocalDate from = LocalDate.of(2024, 10, 1);
+        LocalDate to = LocalDate.of(2024, 10, 31);
+        Medication first = saveMedication("약0");
+        logRepository.save(new Log(testUser, "집", "서울시", from.atTime(9, 0)));
+        medicationLogRepository.save(new MedicationLog(first, from.atTime(8, 0)));
+
+        long singleDayQueries = countStatements(() -> calendarService.getCalendarData(TEST_NUMBER, from, to));
+
+        // given - 20일치 로그/일정, 약 5개
+        for (int i = 1; i <= 4; i++) {
+            saveMedication("약" + i);
+        }
+        for (int day = 2; day <= 21; day++) {
+            LocalDate date = from.withDayOfMonth(day);
+            logRepository.save(new Log(testUser, "집", "서울시", date.atTime(9, 0)));
+            userEventRepository.save(new UserEvent(testUser, "일정", date, LocalTime.of(10, 0)));
+            medicationLogRepository.save(new MedicationLog(first, date.atTime(8, 0)));
+        }
+
+        // when
+        long manyDayQueries = countStatements(() -> calendarService.getCalendarData(TEST_NUMBER, from, to));
+
+        // then
+        assertThat(manyDayQueries).isEqualTo(singleDayQueries);
+    }
+
+    private Medication saveMedication(String name) {
+        Medication medication = new Medication(testUser, name, "1정", "테스트", "하루 1회");
+        return medicationRepository.save(medication);
+    }
+
+    // 영속성 컨텍스트를 비운 상태에서 실행된 SQL 문 수
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
 }
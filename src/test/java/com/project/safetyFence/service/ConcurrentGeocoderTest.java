@@ -0,0 +1,80 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.common.service.geocoding.ConcurrentGeocoder;
+import com.project.safetyFence.common.service.geocoding.dto.Coordinate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentGeocoderTest {
+
+    private ConcurrentGeocoder geocoder;
+
+    @AfterEach
+    void tearDown() {
+        if (geocoder != null) {
+            geocoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 주소를 동시에 변환하고 입력 순서대로 반환")
+    void convertAll_RunsConcurrently() {
+        // given - 주소당 300ms 걸리는 지오코딩
+        geocoder = new ConcurrentGeocoder(address -> {
+            sleep(300);
+            return new Coordinate(new BigDecimal(address.length()), BigDecimal.ZERO);
+        }, 4, 5_000);
+
+        // when
+        long start = System.nanoTime();
+        List<Coordinate> coordinates = geocoder.convertAll(List.of("집", "센터주소"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then - 순차 실행(600ms)보다 빠름
+        assertThat(coordinates).extracting(Coordinate::getLatitude)
+                .containsExactly(new BigDecimal(1), new BigDecimal(4));
+        assertThat(elapsedMs).isLessThan(550);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 예외")
+    void convertAll_Timeout_Throws() {
+        // given
+        geocoder = new ConcurrentGeocoder(address -> {
+            sleep(2_000);
+            return new Coordinate(BigDecimal.ONE, BigDecimal.ONE);
+        }, 2, 100);
+
+        // when & then
+        assertThatThrownBy(() -> geocoder.convertAll(List.of("집")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("변환 실패 예외는 그대로 전달")
+    void convertAll_Failure_Propagates() {
+        // given
+        geocoder = new ConcurrentGeocoder(address -> {
+            throw new IllegalArgumentException("주소를 좌표로 변환할 수 없습니다: " + address);
+        }, 2, 1_000);
+
+        // when & then
+        assertThatThrownBy(() -> geocoder.convertAll(List.of("잘못된주소")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
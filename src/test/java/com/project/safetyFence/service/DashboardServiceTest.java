@@ -0,0 +1,158 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.dashboard.DashboardService;
+import com.project.safetyFence.dashboard.dto.DashboardResponseDto;
+import com.project.safetyFence.dashboard.dto.WardDashboardDto;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.location.LocationCacheService;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.dto.BatteryUpdateDto;
+import com.project.safetyFence.location.dto.LocationUpdateDto;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.domain.MedicationLog;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DashboardServiceTest {
+
+    private static final String SUPPORTER_NUMBER = "01051111111";
+    private static final String CACHED_WARD = "01052222222";
+    private static final String DB_WARD = "01053333333";
+    private static final String EMPTY_WARD = "01054444444";
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private LocationCacheService locationCacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User supporter = new User(SUPPORTER_NUMBER, "보호자", "111", LocalDate.of(1970, 1, 1), "dash-sup");
+        User cachedWard = new User(CACHED_WARD, "캐시", "111", LocalDate.of(1950, 1, 1), "dash-w1");
+        User dbWard = new User(DB_WARD, "디비", "111", LocalDate.of(1950, 1, 1), "dash-w2");
+        User emptyWard = new User(EMPTY_WARD, "없음", "111", LocalDate.of(1950, 1, 1), "dash-w3");
+
+        for (User ward : List.of(cachedWard, dbWard, emptyWard)) {
+            supporter.addLink(new Link(supporter, ward.getNumber(), "자녀"));
+        }
+
+        // DB에만 위치/도착 기록/복약이 있는 피보호자
+        dbWard.addUserLocation(new UserLocation(dbWard, new BigDecimal("37.5665"), new BigDecimal("126.9780")));
+        dbWard.addLog(new Log(dbWard, "경로당", "서울 중구", LocalDateTime.now().minusHours(2)));
+        dbWard.addLog(new Log(dbWard, "집", "서울 종로구", LocalDateTime.now().minusHours(1)));
+        Medication checked = new Medication(dbWard, "혈압약", "1정", "혈압", "하루 1회");
+        checked.addLog(new MedicationLog(checked, LocalDateTime.now()));
+        dbWard.addMedication(checked);
+        dbWard.addMedication(new Medication(dbWard, "영양제", "1정", "영양", "하루 1회"));
+
+        userRepository.saveAll(List.of(cachedWard, dbWard, emptyWard, supporter));
+        entityManager.flush();
+
+        // 캐시에만 위치/배터리가 있는 피보호자
+        locationCacheService.updateLocation(CACHED_WARD, new LocationUpdateDto(CACHED_WARD, 37.1, 127.1, 1_000L));
+        locationCacheService.updateBattery(CACHED_WARD, new BatteryUpdateDto(CACHED_WARD, 55, 2_000L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String number : List.of(CACHED_WARD, DB_WARD, EMPTY_WARD)) {
+            locationCacheService.removeLocation(number);
+            locationCacheService.removeBattery(number);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시와 DB 데이터를 합쳐 피보호자별 요약 반환")
+    void getDashboard_AssemblesAllWards() {
+        // when
+        DashboardResponseDto response = dashboardService.getDashboard(SUPPORTER_NUMBER);
+
+        // then
+        Map<String, WardDashboardDto> wards = response.getWards().stream()
+                .collect(Collectors.toMap(WardDashboardDto::getWardNumber, Function.identity()));
+        assertThat(wards).containsOnlyKeys(CACHED_WARD, DB_WARD, EMPTY_WARD);
+
+        WardDashboardDto cached = wards.get(CACHED_WARD);
+        assertThat(cached.getWardName()).isEqualTo("캐시");
+        assertThat(cached.getLastLocation().getLatitude()).isEqualTo(37.1);
+        assertThat(cached.getBatteryLevel()).isEqualTo(55);
+
+        WardDashboardDto db = wards.get(DB_WARD);
+        assertThat(db.getLastLocation().getLatitude()).isEqualTo(37.5665);
+        assertThat(db.getLastArrival().getLocation()).isEqualTo("집");
+        assertThat(db.getTotalMedications()).isEqualTo(2);
+        assertThat(db.getCheckedMedications()).isEqualTo(1);
+        assertThat(db.getBatteryLevel()).isNull();
+
+        WardDashboardDto empty = wards.get(EMPTY_WARD);
+        assertThat(empty.getLastLocation()).isNull();
+        assertThat(empty.getLastArrival()).isNull();
+        assertThat(empty.getTotalMedications()).isZero();
+
+        // DB에서 읽은 위치는 캐시에 채워짐
+        assertThat(locationCacheService.getLatestLocation(DB_WARD)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("피보호자 수와 무관하게 쿼리 수가 고정")
+    void getDashboard_BoundedQueries() {
+        // when
+        long statements = countStatements(() -> dashboardService.getDashboard(SUPPORTER_NUMBER));
+
+        // then - 이름, 위치 캐시 미스, 복약 집계, 도착 기록
+        assertThat(statements).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("피보호자가 없으면 빈 목록")
+    void getDashboard_NoWards_ReturnsEmpty() {
+        // when
+        DashboardResponseDto response = dashboardService.getDashboard(EMPTY_WARD);
+
+        // then
+        assertThat(response.getWards()).isEmpty();
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
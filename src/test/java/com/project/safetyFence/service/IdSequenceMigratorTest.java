@@ -0,0 +1,58 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.common.sequence.IdSequenceMigrator;
+import com.project.safetyFence.common.sequence.IdSequences;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IdSequenceMigratorTest {
+
+    @Autowired
+    private IdSequenceMigrator idSequenceMigrator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("이미 전환된 시퀀스는 다시 실행해도 값을 옮기지 않음")
+    void migrate_AlreadyMigrated_NoOp() {
+        // given
+        idSequenceMigrator.migrate();
+        Long before = lastValue(IdSequences.LOG);
+
+        // when
+        idSequenceMigrator.migrate();
+
+        // then
+        assertThat(lastValue(IdSequences.LOG)).isEqualTo(before);
+        assertThat(increment(IdSequences.LOG)).isEqualTo(IdSequences.ALLOCATION_SIZE);
+    }
+
+    @Test
+    @DisplayName("INCREMENT BY가 다르면 할당 크기로 다시 맞춤")
+    void migrate_IncrementDiffers_Realigned() {
+        // given
+        jdbcTemplate.execute("ALTER SEQUENCE " + IdSequences.LOG + " INCREMENT BY 1");
+
+        // when
+        idSequenceMigrator.migrate();
+
+        // then
+        assertThat(increment(IdSequences.LOG)).isEqualTo(IdSequences.ALLOCATION_SIZE);
+    }
+
+    private Long lastValue(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+    }
+
+    private Long increment(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT seqincrement FROM pg_sequence WHERE seqrelid = to_regclass(?)", Long.class, sequence);
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.link.generator.LinkCodeAllocator;
+import com.project.safetyFence.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LinkCodeAllocatorTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LinkCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        allocator = new LinkCodeAllocator(userRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("기존 코드는 한 번만 적재하고 6자리 숫자가 아닌 코드는 무시")
+    void load_MarksExistingNumericCodes() {
+        // given
+        when(userRepository.findAllLinkCodes()).thenReturn(List.of("000001", "123456", "test-link", "12345"));
+
+        // when
+        String code = allocator.allocate();
+        allocator.allocate();
+
+        // then
+        verify(userRepository, times(1)).findAllLinkCodes();
+        assertThat(code).matches("\\d{6}").isNotIn("000001", "123456");
+        assertThat(allocator.getUsedCount()).isEqualTo(4);
+        assertThat(meterRegistry.get("safetyfence.linkcode.used").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("동시 할당에도 같은 코드를 두 번 발급하지 않음")
+    void allocate_ConcurrentUnique() throws Exception {
+        // given
+        when(userRepository.findAllLinkCodes()).thenReturn(List.of());
+        allocator.load();
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    issued.add(allocator.allocate());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(issued).hasSize(16_000);
+        assertThat(allocator.getUsedCount()).isEqualTo(16_000);
+    }
+
+    @Test
+    @DisplayName("반납한 코드는 다시 사용 가능")
+    void release_FreesCode() {
+        // given
+        when(userRepository.findAllLinkCodes()).thenReturn(List.of("654321"));
+        allocator.load();
+
+        // when
+        allocator.release("654321");
+        allocator.release("not-a-code");
+
+        // then
+        assertThat(allocator.getUsedCount()).isZero();
+        assertThat(allocator.getUtilization()).isZero();
+    }
+}
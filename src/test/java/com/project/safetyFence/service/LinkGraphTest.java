@@ -0,0 +1,186 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.admin.AdminService;
+import com.project.safetyFence.link.LinkRepository;
+import com.project.safetyFence.link.LinkService;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.link.dto.LinkRequestDto;
+import com.project.safetyFence.link.graph.LinkEdge;
+import com.project.safetyFence.link.graph.LinkGraph;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class LinkGraphTest {
+
+    private static final String SUPPORTER_NUMBER = "01031111111";
+    private static final String SUPPORTER2_NUMBER = "01032222222";
+    private static final String WARD_NUMBER = "01033333333";
+
+    @Autowired
+    private LinkGraph linkGraph;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User ward;
+
+    @BeforeEach
+    void setUp() {
+        ward = new User(WARD_NUMBER, "피보호자", "111", LocalDate.of(1950, 1, 1), "graph-ward");
+    }
+
+    @Test
+    @DisplayName("시작 시 적재되고 링크 추가가 양방향 색인에 반영")
+    void addLinkUser_IndexedBothWays() {
+        // given
+        userRepository.save(ward);
+        userRepository.save(new User(SUPPORTER_NUMBER, "보호자", "111", LocalDate.of(1970, 1, 1), "graph-sup"));
+
+        // when
+        linkService.addLinkUser(SUPPORTER_NUMBER, new LinkRequestDto(ward.getLinkCode(), "자녀"));
+        entityManager.flush();
+
+        // then
+        assertThat(linkGraph.isLoaded()).isTrue();
+        assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isTrue();
+        assertThat(linkGraph.hasLink(WARD_NUMBER, SUPPORTER_NUMBER)).isFalse();
+        assertThat(linkGraph.getSupporters(WARD_NUMBER)).extracting(LinkEdge::supporterNumber)
+                .containsExactly(SUPPORTER_NUMBER);
+        assertThat(linkGraph.getWards(SUPPORTER_NUMBER)).extracting(LinkEdge::wardNumber)
+                .containsExactly(WARD_NUMBER);
+    }
+
+    @Test
+    @DisplayName("대표 보호자 변경이 그래프에 반영")
+    void setPrimarySupporter_UpdatesPrimary() {
+        // given
+        userRepository.save(ward);
+        Long firstId = saveLink(SUPPORTER_NUMBER, "자녀");
+        Long secondId = saveLink(SUPPORTER2_NUMBER, "배우자");
+
+        // when
+        linkService.setPrimarySupporter(WARD_NUMBER, firstId);
+        entityManager.flush();
+        linkService.setPrimarySupporter(WARD_NUMBER, secondId);
+        entityManager.flush();
+
+        // then
+        assertThat(linkGraph.getPrimarySupporter(WARD_NUMBER))
+                .hasValueSatisfying(edge -> assertThat(edge.linkId()).isEqualTo(secondId));
+        assertThat(linkGraph.getSupporters(WARD_NUMBER)).filteredOn(LinkEdge::primary).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("보호자 링크 삭제와 관리자 링크 삭제가 그래프에서 제거")
+    void deleteLinks_RemovedFromGraph() {
+        // given
+        userRepository.save(ward);
+        saveLink(SUPPORTER_NUMBER, "자녀");
+        Long secondId = saveLink(SUPPORTER2_NUMBER, "배우자");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        linkService.deleteLinkUser(SUPPORTER_NUMBER, WARD_NUMBER);
+        adminService.deleteLink(secondId);
+        entityManager.flush();
+
+        // then
+        assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isFalse();
+        assertThat(linkGraph.hasLink(SUPPORTER2_NUMBER, WARD_NUMBER)).isFalse();
+        assertThat(linkGraph.getSupporters(WARD_NUMBER)).isEmpty();
+        assertThat(linkGraph.getWards(SUPPORTER_NUMBER)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("롤백된 트랜잭션의 링크 추가는 그래프에서 되돌려짐")
+    void rollback_RevertsGraph() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int before = linkGraph.size();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(ward);
+            saveLink(SUPPORTER_NUMBER, "자녀");
+            assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isFalse();
+        assertThat(linkGraph.size()).isEqualTo(before);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("커밋 전 링크는 다른 스레드에 보이지 않고 커밋 후 반영")
+    void uncommittedLink_InvisibleToOtherThreads() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.save(ward);
+                saveLink(SUPPORTER_NUMBER, "자녀");
+                entityManager.flush();
+
+                // then - 같은 트랜잭션에서는 보이고, 다른 스레드에서는 보이지 않음
+                assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isTrue();
+                assertThat(CompletableFuture.supplyAsync(() -> linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).join())
+                        .isFalse();
+                assertThat(CompletableFuture.supplyAsync(() -> linkGraph.getSupporters(WARD_NUMBER)).join())
+                        .isEmpty();
+            });
+
+            assertThat(CompletableFuture.supplyAsync(() -> linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).join())
+                    .isTrue();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.deleteById(SUPPORTER_NUMBER);
+                userRepository.deleteById(WARD_NUMBER);
+            });
+        }
+        assertThat(linkGraph.hasLink(SUPPORTER_NUMBER, WARD_NUMBER)).isFalse();
+    }
+
+    private Long saveLink(String supporterNumber, String relation) {
+        User supporter = userRepository.save(
+                new User(supporterNumber, "보호자" + supporterNumber, "111", LocalDate.of(1970, 1, 1), "graph-" + supporterNumber));
+        return linkRepository.save(new Link(supporter, WARD_NUMBER, relation)).getId();
+    }
+}
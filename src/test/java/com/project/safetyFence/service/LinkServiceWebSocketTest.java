@@ -1,7 +1,7 @@
 package com.project.safetyFence.service;
 
-import com.project.safetyFence.link.LinkRepository;
 import com.project.safetyFence.link.LinkService;
+import com.project.safetyFence.link.graph.LinkGraph;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,7 +21,7 @@ import static org.mockito.Mockito.when;
 class LinkServiceWebSocketTest {
 
     @Mock
-    private LinkRepository linkRepository;
+    private LinkGraph linkGraph;
 
     @InjectMocks
     private LinkService linkService;
@@ -33,7 +33,7 @@ class LinkServiceWebSocketTest {
         String subscriberNumber = "A";
         String targetUserNumber = "B";
 
-        when(linkRepository.existsByUser_NumberAndUserNumber(subscriberNumber, targetUserNumber))
+        when(linkGraph.hasLink(subscriberNumber, targetUserNumber))
                 .thenReturn(true);
 
         // When
@@ -50,7 +50,7 @@ class LinkServiceWebSocketTest {
         String subscriberNumber = "A";
         String targetUserNumber = "B";
 
-        when(linkRepository.existsByUser_NumberAndUserNumber(subscriberNumber, targetUserNumber))
+        when(linkGraph.hasLink(subscriberNumber, targetUserNumber))
                 .thenReturn(false);
 
         // When
@@ -68,7 +68,7 @@ class LinkServiceWebSocketTest {
         String targetUserNumber = "B";
 
         // A가 B를 등록하지 않음 (단방향이므로 B→A는 무관)
-        when(linkRepository.existsByUser_NumberAndUserNumber(subscriberNumber, targetUserNumber))
+        when(linkGraph.hasLink(subscriberNumber, targetUserNumber))
                 .thenReturn(false);
 
         // When
@@ -84,7 +84,7 @@ class LinkServiceWebSocketTest {
         // Given
         String userNumber = "A";
 
-        when(linkRepository.existsByUser_NumberAndUserNumber(userNumber, userNumber))
+        when(linkGraph.hasLink(userNumber, userNumber))
                 .thenReturn(false); // 자기 자신은 Link에 없음
 
         // When
@@ -99,13 +99,13 @@ class LinkServiceWebSocketTest {
     void 여러_사용자_간_권한_독립성_검증() {
         // Given
         // A → B: 있음
-        when(linkRepository.existsByUser_NumberAndUserNumber("A", "B"))
+        when(linkGraph.hasLink("A", "B"))
                 .thenReturn(true);
         // A → C: 없음
-        when(linkRepository.existsByUser_NumberAndUserNumber("A", "C"))
+        when(linkGraph.hasLink("A", "C"))
                 .thenReturn(false);
         // B → C: 있음
-        when(linkRepository.existsByUser_NumberAndUserNumber("B", "C"))
+        when(linkGraph.hasLink("B", "C"))
                 .thenReturn(true);
 
         // When & Then
@@ -121,7 +121,7 @@ class LinkServiceWebSocketTest {
         String subscriberNumber = "user123";
         String targetUserNumber = "USER456";
 
-        when(linkRepository.existsByUser_NumberAndUserNumber(subscriberNumber, targetUserNumber))
+        when(linkGraph.hasLink(subscriberNumber, targetUserNumber))
                 .thenReturn(true);
 
         // When
@@ -135,11 +135,11 @@ class LinkServiceWebSocketTest {
     @DisplayName("null 또는 빈 문자열 처리")
     void null_또는_빈_문자열_처리() {
         // Given
-        when(linkRepository.existsByUser_NumberAndUserNumber(null, "B"))
+        when(linkGraph.hasLink(null, "B"))
                 .thenReturn(false);
-        when(linkRepository.existsByUser_NumberAndUserNumber("A", null))
+        when(linkGraph.hasLink("A", null))
                 .thenReturn(false);
-        when(linkRepository.existsByUser_NumberAndUserNumber("", "B"))
+        when(linkGraph.hasLink("", "B"))
                 .thenReturn(false);
 
         // When & Then
@@ -0,0 +1,123 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.location.LocationService;
+import com.project.safetyFence.location.UserLocationArchiveRepository;
+import com.project.safetyFence.location.UserLocationRepository;
+import com.project.safetyFence.location.archive.LocationArchiveService;
+import com.project.safetyFence.location.archive.LocationTrailCodec;
+import com.project.safetyFence.location.archive.TrailPoint;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.dto.DailyDistanceResponseDto;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Transactional
+class LocationArchiveServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private LocationArchiveService archiveService;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+
+    @Autowired
+    private UserLocationArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("코덱 - 인코딩 후 디코딩하면 초/1e-6도 정밀도로 복원되고 원본보다 10배 이상 작음")
+    void codec_RoundTripAndCompression() {
+        // given - 1분 간격 도보 이동 하루치
+        List<TrailPoint> points = walkingTrail(DAY.atTime(6, 0), 600);
+
+        // when
+        byte[] encoded = LocationTrailCodec.encode(DAY, points);
+        List<TrailPoint> decoded = LocationTrailCodec.decode(DAY, encoded);
+
+        // then
+        assertThat(decoded).hasSize(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(decoded.get(i).time()).isEqualTo(points.get(i).time());
+            assertThat(decoded.get(i).latitude()).isCloseTo(points.get(i).latitude(), within(1e-6));
+            assertThat(decoded.get(i).longitude()).isCloseTo(points.get(i).longitude(), within(1e-6));
+        }
+        // 원본 행은 지점당 약 100바이트
+        assertThat(encoded.length).isLessThan(points.size() * 10);
+    }
+
+    @Test
+    @DisplayName("보관 후 원본 행은 삭제되고 일일 이동거리는 보관본으로 동일하게 계산")
+    void archive_DeletesRawRowsAndKeepsDailyDistance() {
+        // given
+        User user = new User("01012345678", "tester", "password", LocalDate.now(), "test-link");
+        userRepository.save(user);
+        List<TrailPoint> trail = walkingTrail(DAY.atTime(9, 0), 30);
+        for (TrailPoint point : trail) {
+            UserLocation saved = userLocationRepository.save(new UserLocation(user,
+                    BigDecimal.valueOf(point.latitude()), BigDecimal.valueOf(point.longitude())));
+            entityManager.flush();
+            jdbcTemplate.update("UPDATE user_location SET saved_time = ? WHERE id = ?", point.time(), saved.getId());
+        }
+        entityManager.clear();
+        DailyDistanceResponseDto before = locationService.calculateDailyDistance(user.getNumber(), DAY);
+
+        // when
+        int archived = archiveService.archiveBefore(DAY.plusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(userLocationRepository.findByUserNumberAndSavedTimeRange(
+                user.getNumber(), DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())).isEmpty();
+        assertThat(archiveRepository.findByUserNumberAndArchiveDate(user.getNumber(), DAY))
+                .hasValueSatisfying(archive -> assertThat(archive.getPointCount()).isEqualTo(30));
+
+        DailyDistanceResponseDto after = locationService.calculateDailyDistance(user.getNumber(), DAY);
+        assertThat(after.getLocationCount()).isEqualTo(before.getLocationCount());
+        assertThat(after.getDistanceMeters()).isCloseTo(before.getDistanceMeters(), within(1.0));
+    }
+
+    // 1분마다 북동쪽으로 약 50m씩 걷는 경로
+    private List<TrailPoint> walkingTrail(LocalDateTime start, int count) {
+        List<TrailPoint> points = new ArrayList<>(count);
+        double lat = 37.566535;
+        double lng = 126.977969;
+        for (int i = 0; i < count; i++) {
+            points.add(new TrailPoint(start.plusMinutes(i), lat, lng));
+            lat += 0.0003 + (i % 3) * 0.000011;
+            lng += 0.0004 - (i % 2) * 0.000007;
+        }
+        return points;
+    }
+}
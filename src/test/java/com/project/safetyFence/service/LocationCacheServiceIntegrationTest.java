@@ -6,17 +6,23 @@ import com.project.safetyFence.location.domain.UserLocation;
 import com.project.safetyFence.location.dto.LocationUpdateDto;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +44,12 @@ class LocationCacheServiceIntegrationTest {
     @Autowired
     private UserLocationRepository userLocationRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User testUser;
     private UserLocation testLocation;
 
@@ -177,4 +189,54 @@ class LocationCacheServiceIntegrationTest {
         assertThat(result2).isNotNull();
         assertThat(result2.getLatitude()).isEqualTo(37.222222);
     }
+
+    @Test
+    @DisplayName("getLatestLocations - 캐시 히트는 그대로, 미스는 한 번의 쿼리로 최신 위치 조회 후 캐시 갱신")
+    void getLatestLocations_캐시_미스_일괄_조회() {
+        // Given
+        User user1 = new User("01061111111", "user1", "password", LocalDate.now(), "link1");
+        User user2 = new User("01062222222", "user2", "password", LocalDate.now(), "link2");
+        User noLocation = new User("01063333333", "user3", "password", LocalDate.now(), "link3");
+        userRepository.saveAll(List.of(user1, user2, noLocation));
+
+        UserLocation older = userLocationRepository.save(
+                new UserLocation(user1, new BigDecimal("37.000001"), new BigDecimal("127.000001")));
+        userLocationRepository.save(new UserLocation(user2, new BigDecimal("37.222222"), new BigDecimal("127.222222")));
+        UserLocation newer = userLocationRepository.save(
+                new UserLocation(user1, new BigDecimal("37.111111"), new BigDecimal("127.111111")));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE user_location SET saved_time = ? WHERE id = ?",
+                newer.getSavedTime().minusHours(1), older.getId());
+
+        cacheService.updateLocation(testUser.getNumber(),
+                new LocationUpdateDto(testUser.getNumber(), 1.0, 2.0, 3L));
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // When
+        Map<String, LocationUpdateDto> result = cacheService.getLatestLocations(
+                List.of(testUser.getNumber(), user1.getNumber(), user2.getNumber(), noLocation.getNumber()));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result).containsOnlyKeys(testUser.getNumber(), user1.getNumber(), user2.getNumber());
+        assertThat(result.get(testUser.getNumber()).getLatitude()).isEqualTo(1.0);
+        assertThat(result.get(user1.getNumber()).getLatitude()).isEqualTo(37.111111);
+        assertThat(result.get(user1.getNumber()).getTimestamp()).isEqualTo(
+                newer.getSavedTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(result.get(user2.getNumber()).getLatitude()).isEqualTo(37.222222);
+
+        // 조회된 위치는 캐시에 채워져 다음 호출은 DB 조회 없음
+        statistics.clear();
+        cacheService.getLatestLocations(List.of(user1.getNumber(), user2.getNumber()));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        cacheService.removeLocation(testUser.getNumber());
+        cacheService.removeLocation(user1.getNumber());
+        cacheService.removeLocation(user2.getNumber());
+    }
 }
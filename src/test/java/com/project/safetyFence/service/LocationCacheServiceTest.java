@@ -3,7 +3,6 @@ package com.project.safetyFence.service;
 import com.project.safetyFence.location.dto.LocationUpdateDto;
 import com.project.safetyFence.location.LocationCacheService;
 import com.project.safetyFence.location.UserLocationRepository;
-import com.project.safetyFence.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,15 +25,12 @@ class LocationCacheServiceTest {
 
     private LocationCacheService cacheService;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private UserLocationRepository userLocationRepository;
 
     @BeforeEach
     void setUp() {
-        cacheService = new LocationCacheService(userRepository, userLocationRepository);
+        cacheService = new LocationCacheService(userLocationRepository);
     }
 
     @Test
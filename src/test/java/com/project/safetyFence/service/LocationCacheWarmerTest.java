@@ -0,0 +1,115 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.location.LocationCacheService;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.dto.BatteryUpdateDto;
+import com.project.safetyFence.location.dto.LocationUpdateDto;
+import com.project.safetyFence.location.warmup.LocationCacheWarmer;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class LocationCacheWarmerTest {
+
+    private static final String ACTIVE_USER = "01071111111";
+    private static final String LIVE_USER = "01072222222";
+    private static final String IDLE_USER = "01073333333";
+
+    @Autowired
+    private LocationCacheWarmer warmer;
+
+    @Autowired
+    private LocationCacheService locationCacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clearCache();
+
+        User active = new User(ACTIVE_USER, "활동", "111", LocalDate.of(1950, 1, 1), "warm-1");
+        User live = new User(LIVE_USER, "실시간", "111", LocalDate.of(1950, 1, 1), "warm-2");
+        User idle = new User(IDLE_USER, "휴면", "111", LocalDate.of(1950, 1, 1), "warm-3");
+
+        active.addUserLocation(new UserLocation(active, new BigDecimal("37.1"), new BigDecimal("127.1"), 80));
+        live.addUserLocation(new UserLocation(live, new BigDecimal("37.2"), new BigDecimal("127.2"), 70));
+        idle.addUserLocation(new UserLocation(idle, new BigDecimal("37.3"), new BigDecimal("127.3"), 60));
+        userRepository.saveAll(List.of(active, live, idle));
+        entityManager.flush();
+
+        // 활동 기준(기본 30분)보다 오래된 위치
+        jdbcTemplate.update("UPDATE user_location SET saved_time = saved_time - INTERVAL '2 hours' WHERE user_id = ?",
+                IDLE_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearCache();
+    }
+
+    @Test
+    @DisplayName("최근 활동 사용자의 마지막 위치와 배터리로 캐시 채우기")
+    void warmUp_LoadsRecentlyActiveUsers() {
+        // when
+        warmer.warmUp();
+
+        // then
+        LocationUpdateDto location = locationCacheService.getLatestLocation(ACTIVE_USER);
+        assertThat(location).isNotNull();
+        assertThat(location.getLatitude()).isEqualTo(37.1);
+        assertThat(location.getBatteryLevel()).isEqualTo(80);
+
+        BatteryUpdateDto battery = locationCacheService.getLatestBattery(ACTIVE_USER);
+        assertThat(battery).isNotNull();
+        assertThat(battery.getBatteryLevel()).isEqualTo(80);
+        assertThat(battery.getTimestamp()).isEqualTo(location.getTimestamp());
+
+        assertThat(locationCacheService.getLatestLocation(IDLE_USER)).isNull();
+        assertThat(locationCacheService.getLatestBattery(IDLE_USER)).isNull();
+    }
+
+    @Test
+    @DisplayName("워밍 중 단말이 보고한 값은 덮어쓰지 않음")
+    void warmUp_KeepsLiveValues() {
+        // given
+        locationCacheService.updateLocation(LIVE_USER, new LocationUpdateDto(LIVE_USER, 37.9, 127.9, Long.MAX_VALUE));
+        locationCacheService.updateBattery(LIVE_USER, new BatteryUpdateDto(LIVE_USER, 15, Long.MAX_VALUE));
+
+        // when
+        warmer.warmUp();
+
+        // then
+        assertThat(locationCacheService.getLatestLocation(LIVE_USER).getLatitude()).isEqualTo(37.9);
+        assertThat(locationCacheService.getLatestBattery(LIVE_USER).getBatteryLevel()).isEqualTo(15);
+    }
+
+    private void clearCache() {
+        for (String number : List.of(ACTIVE_USER, LIVE_USER, IDLE_USER)) {
+            locationCacheService.removeLocation(number);
+            locationCacheService.removeBattery(number);
+        }
+    }
+}
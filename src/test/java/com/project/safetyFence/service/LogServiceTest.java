@@ -5,6 +5,11 @@ import com.project.safetyFence.user.domain.User;
 import com.project.safetyFence.log.dto.LogResponseDto;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.log.LogService;
+import com.project.safetyFence.common.exception.CustomException;
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,11 +18,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -29,6 +37,12 @@ class LogServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private Log log1;
     private Log log2;
@@ -161,4 +175,61 @@ class LogServiceTest {
                         result2.stream().map(LogResponseDto::getLocation).toList()
                 );
     }
+
+    @Test
+    @DisplayName("getLogPage - 커서로 이어서 조회하면 누락/중복 없이 최신순으로 모두 조회")
+    void getLogPage_KeysetTraversal() {
+        // given - 같은 시각의 로그를 추가해 (시각, id) 동점 처리 확인
+        User user = userRepository.findByNumber(TEST_NUMBER);
+        for (int i = 0; i < 3; i++) {
+            user.addLog(new Log(user, "Same" + i, "Seoul", LocalDateTime.of(2024, 10, 21, 14, 0)));
+        }
+        entityManager.flush();
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<String> arriveTimes = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponseDto<LogResponseDto> page = logService.getLogPage(TEST_NUMBER, cursor, 2);
+            page.getItems().forEach(item -> {
+                ids.add(item.getId());
+                arriveTimes.add(item.getArriveTime());
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(ids).hasSize(6).doesNotHaveDuplicates();
+        assertThat(pages).isEqualTo(3);
+        assertThat(arriveTimes).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(arriveTimes.get(0)).isEqualTo(LocalDateTime.of(2024, 10, 21, 16, 30).toString());
+    }
+
+    @Test
+    @DisplayName("getLogPage - 잘못된 커서는 예외")
+    void getLogPage_InvalidCursor() {
+        assertThatThrownBy(() -> logService.getLogPage(TEST_NUMBER, "not-a-cursor", 10))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("streamLogs - 전체 이력을 JSON 배열로 스트리밍")
+    void streamLogs_WritesJsonArray() throws Exception {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long written = logService.streamLogs(TEST_NUMBER, outputStream);
+
+        // then
+        JsonNode array = objectMapper.readTree(outputStream.toByteArray());
+        assertThat(written).isEqualTo(3);
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(3);
+        assertThat(array.get(0).get("location").asText()).isEqualTo("Cafe");
+        assertThat(array.get(2).get("location").asText()).isEqualTo("Home");
+    }
 }
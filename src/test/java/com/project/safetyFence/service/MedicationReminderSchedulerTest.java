@@ -1,115 +1,211 @@
 package com.project.safetyFence.service;
 
 import com.project.safetyFence.medication.MedicationRepository;
-import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.dto.ReminderTargetDto;
 import com.project.safetyFence.medication.scheduler.MedicationReminderScheduler;
+import com.project.safetyFence.notification.DeviceTokenRepository;
 import com.project.safetyFence.notification.NotificationService;
-import com.project.safetyFence.user.UserRepository;
-import com.project.safetyFence.user.domain.User;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MedicationReminderSchedulerTest {
 
-    @InjectMocks
     private MedicationReminderScheduler scheduler;
 
     @Mock
     private MedicationRepository medicationRepository;
 
+    @Mock
+    private DeviceTokenRepository deviceTokenRepository;
+
     @Mock
     private NotificationService notificationService;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 청크 크기 2, 동시성 2, 페이싱 없음
+        scheduler = new MedicationReminderScheduler(medicationRepository, deviceTokenRepository,
+                notificationService, meterRegistry, 2, 2, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private void givenTargets(List<ReminderTargetDto> targets) {
+        when(medicationRepository.countUsersWithMedications()).thenReturn((long) targets.size());
+        // afterUserNumber보다 큰 번호를 최대 2명씩 반환하는 키셋 페이지
+        when(medicationRepository.findReminderTargetsAfter(anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    String after = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return targets.stream()
+                            .filter(t -> t.getUserNumber().compareTo(after) > 0)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+        when(deviceTokenRepository.findTokenTargetsByUserNumbers(anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<String> numbers = List.copyOf(invocation.getArgument(0));
+                    return numbers.stream()
+                            .map(number -> new DeviceTokenTargetDto(number, "token-" + number))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("sendMorningReminder - 약이 등록된 사용자에게 아침 알림 전송")
     void sendMorningReminder_SendsToUsersWithMedications() {
         // given
-        User user1 = new User("01011111111", "사용자1", "111", LocalDate.of(1950, 1, 1), "link1");
-        User user2 = new User("01022222222", "사용자2", "111", LocalDate.of(1955, 3, 15), "link2");
-        when(medicationRepository.findAllUsersWithMedications()).thenReturn(List.of(user1, user2));
+        givenTargets(List.of(
+                new ReminderTargetDto("01011111111", "사용자1"),
+                new ReminderTargetDto("01022222222", "사용자2")));
+        when(notificationService.sendMedicationReminder(anyString(), anyString(), anyList(), eq("아침")))
+                .thenReturn(true);
 
         // when
         scheduler.sendMorningReminder();
 
         // then
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user1, "아침");
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user2, "아침");
+        verify(notificationService, times(1))
+                .sendMedicationReminder("01011111111", "사용자1", List.of("token-01011111111"), "아침");
+        verify(notificationService, times(1))
+                .sendMedicationReminder("01022222222", "사용자2", List.of("token-01022222222"), "아침");
     }
 
     @Test
     @DisplayName("sendNoonReminder - 점심 알림 전송")
     void sendNoonReminder_SendsNoonNotification() {
         // given
-        User user = new User("01011111111", "사용자", "111", LocalDate.of(1950, 1, 1), "link1");
-        when(medicationRepository.findAllUsersWithMedications()).thenReturn(List.of(user));
+        givenTargets(List.of(new ReminderTargetDto("01011111111", "사용자")));
 
         // when
         scheduler.sendNoonReminder();
 
         // then
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user, "점심");
+        verify(notificationService, times(1))
+                .sendMedicationReminder(eq("01011111111"), eq("사용자"), anyList(), eq("점심"));
     }
 
     @Test
     @DisplayName("sendEveningReminder - 저녁 알림 전송")
     void sendEveningReminder_SendsEveningNotification() {
         // given
-        User user = new User("01011111111", "사용자", "111", LocalDate.of(1950, 1, 1), "link1");
-        when(medicationRepository.findAllUsersWithMedications()).thenReturn(List.of(user));
+        givenTargets(List.of(new ReminderTargetDto("01011111111", "사용자")));
 
         // when
         scheduler.sendEveningReminder();
 
         // then
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user, "저녁");
+        verify(notificationService, times(1))
+                .sendMedicationReminder(eq("01011111111"), eq("사용자"), anyList(), eq("저녁"));
     }
 
     @Test
     @DisplayName("약이 등록된 사용자가 없으면 알림 전송 안함")
     void sendReminder_NoUsers_SkipsNotification() {
         // given
-        when(medicationRepository.findAllUsersWithMedications()).thenReturn(Collections.emptyList());
+        when(medicationRepository.countUsersWithMedications()).thenReturn(0L);
 
         // when
         scheduler.sendMorningReminder();
 
         // then
-        verify(notificationService, never()).sendMedicationReminderNotification(any(), any());
+        verify(medicationRepository, never()).findReminderTargetsAfter(anyString(), any(Pageable.class));
+        verify(notificationService, never()).sendMedicationReminder(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("개별 사용자 알림 전송 실패해도 나머지 사용자에게 계속 전송")
     void sendReminder_PartialFailure_ContinuesWithOthers() {
         // given
-        User user1 = new User("01011111111", "사용자1", "111", LocalDate.of(1950, 1, 1), "link1");
-        User user2 = new User("01022222222", "사용자2", "111", LocalDate.of(1955, 3, 15), "link2");
-        User user3 = new User("01033333333", "사용자3", "111", LocalDate.of(1960, 7, 20), "link3");
-        when(medicationRepository.findAllUsersWithMedications()).thenReturn(List.of(user1, user2, user3));
+        givenTargets(List.of(
+                new ReminderTargetDto("01011111111", "사용자1"),
+                new ReminderTargetDto("01022222222", "사용자2"),
+                new ReminderTargetDto("01033333333", "사용자3")));
 
         // user2 알림 전송 시 예외 발생
-        doNothing().when(notificationService).sendMedicationReminderNotification(user1, "아침");
-        doThrow(new RuntimeException("FCM 전송 실패"))
-                .when(notificationService).sendMedicationReminderNotification(user2, "아침");
-        doNothing().when(notificationService).sendMedicationReminderNotification(user3, "아침");
+        when(notificationService.sendMedicationReminder(eq("01011111111"), anyString(), anyList(), eq("아침")))
+                .thenReturn(true);
+        when(notificationService.sendMedicationReminder(eq("01022222222"), anyString(), anyList(), eq("아침")))
+                .thenThrow(new RuntimeException("FCM 전송 실패"));
+        when(notificationService.sendMedicationReminder(eq("01033333333"), anyString(), anyList(), eq("아침")))
+                .thenReturn(true);
 
         // when
         scheduler.sendMorningReminder();
 
         // then - user2 실패해도 user3까지 전송 시도
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user1, "아침");
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user2, "아침");
-        verify(notificationService, times(1)).sendMedicationReminderNotification(user3, "아침");
+        verify(notificationService, times(3)).sendMedicationReminder(anyString(), anyString(), anyList(), eq("아침"));
+        assertThat(meterRegistry.counter("medication.reminder.sent", "slot", "아침").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("medication.reminder.failed", "slot", "아침").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자를 청크 단위로 나누어 조회하고 진행 상황을 기록")
+    void sendReminder_PagesUsersInChunks() {
+        // given
+        givenTargets(List.of(
+                new ReminderTargetDto("01011111111", "사용자1"),
+                new ReminderTargetDto("01022222222", "사용자2"),
+                new ReminderTargetDto("01033333333", "사용자3"),
+                new ReminderTargetDto("01044444444", "사용자4"),
+                new ReminderTargetDto("01055555555", "사용자5")));
+        when(notificationService.sendMedicationReminder(anyString(), anyString(), anyList(), eq("아침")))
+                .thenReturn(true);
+
+        // when
+        scheduler.sendMorningReminder();
+
+        // then - 5명 / 청크 2 = 3번 조회, 토큰도 청크마다 한 번씩만 조회
+        verify(medicationRepository, times(3)).findReminderTargetsAfter(anyString(), any(Pageable.class));
+        verify(deviceTokenRepository, times(3)).findTokenTargetsByUserNumbers(anyCollection());
+        assertThat(scheduler.getLastReports().get("아침").processed()).isEqualTo(5);
+        assertThat(scheduler.getLastReports().get("아침").sent()).isEqualTo(5);
+        assertThat(meterRegistry.get("medication.reminder.run.duration").tag("slot", "아침").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 사용자도 빈 목록으로 전달되어 생략 처리")
+    void sendReminder_UserWithoutToken_IsSkipped() {
+        // given
+        when(medicationRepository.countUsersWithMedications()).thenReturn(1L);
+        when(medicationRepository.findReminderTargetsAfter(anyString(), any(Pageable.class)))
+                .thenReturn(List.of(new ReminderTargetDto("01011111111", "사용자")));
+        when(deviceTokenRepository.findTokenTargetsByUserNumbers(anyCollection()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        scheduler.sendMorningReminder();
+
+        // then
+        verify(notificationService).sendMedicationReminder("01011111111", "사용자", List.of(), "아침");
+        assertThat(scheduler.getLastReports().get("아침").skipped()).isEqualTo(1);
     }
 }
@@ -0,0 +1,140 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.medication.MedicationLogRepository;
+import com.project.safetyFence.medication.MedicationRepository;
+import com.project.safetyFence.medication.dto.MedicationCheckCountDto;
+import com.project.safetyFence.medication.reminder.MedicationReminderIndex;
+import com.project.safetyFence.medication.scheduler.MedicationReminderTickScheduler;
+import com.project.safetyFence.notification.DeviceTokenRepository;
+import com.project.safetyFence.notification.NotificationService;
+import com.project.safetyFence.notification.dto.DeviceTokenTargetDto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MedicationReminderTickSchedulerTest {
+
+    @Mock
+    private MedicationRepository medicationRepository;
+
+    @Mock
+    private MedicationLogRepository medicationLogRepository;
+
+    @Mock
+    private DeviceTokenRepository deviceTokenRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private MedicationReminderIndex reminderIndex;
+    private MedicationReminderTickScheduler tickScheduler;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @BeforeEach
+    void setUp() {
+        reminderIndex = new MedicationReminderIndex(medicationRepository);
+        tickScheduler = new MedicationReminderTickScheduler(reminderIndex, medicationLogRepository,
+                deviceTokenRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("해당 분에 예정된 약이 없으면 조회도 하지 않음")
+    void dispatchDue_NothingDue_SkipsQueries() {
+        // given
+        reminderIndex.upsert(1L, "혈압약", "01011111111", "사용자", List.of(LocalTime.of(8, 30)));
+
+        // when
+        int sent = tickScheduler.dispatchDue(LocalTime.of(8, 31), TODAY);
+
+        // then
+        assertThat(sent).isZero();
+        verifyNoInteractions(medicationLogRepository, deviceTokenRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("예정된 약 알림을 사용자별로 묶어서 전송")
+    void dispatchDue_GroupsMedicationsByUser() {
+        // given
+        reminderIndex.upsert(1L, "혈압약", "01011111111", "사용자", List.of(LocalTime.of(8, 30)));
+        reminderIndex.upsert(2L, "당뇨약", "01011111111", "사용자", List.of(LocalTime.of(8, 30), LocalTime.of(20, 0)));
+        when(medicationLogRepository.countChecksByMedicationIdsBetween(anyCollection(), any(), any()))
+                .thenReturn(List.of());
+        when(deviceTokenRepository.findTokenTargetsByUserNumbers(anyCollection()))
+                .thenReturn(List.of(new DeviceTokenTargetDto("01011111111", "token-1")));
+        when(notificationService.sendMedicationReminder(anyString(), anyString(), anyList(), anyString()))
+                .thenReturn(true);
+
+        // when
+        int sent = tickScheduler.dispatchDue(LocalTime.of(8, 30, 15), TODAY);
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        verify(notificationService, times(1)).sendMedicationReminder(
+                eq("01011111111"), eq("사용자"), eq(List.of("token-1")), contains("08:30"));
+    }
+
+    @Test
+    @DisplayName("오늘 해당 회차만큼 이미 복용 체크한 약은 알림 생략")
+    void dispatchDue_AlreadyChecked_Suppressed() {
+        // given - 하루 두 번(08:00, 20:00) 먹는 약을 오늘 1번 체크함
+        reminderIndex.upsert(1L, "혈압약", "01011111111", "사용자", List.of(LocalTime.of(8, 0), LocalTime.of(20, 0)));
+        when(medicationLogRepository.countChecksByMedicationIdsBetween(anyCollection(), any(), any()))
+                .thenReturn(List.of(new MedicationCheckCountDto(1L, 1L)));
+
+        // when - 아침 회차는 이미 복용
+        int morning = tickScheduler.dispatchDue(LocalTime.of(8, 0), TODAY);
+
+        // then
+        assertThat(morning).isZero();
+        verify(notificationService, never()).sendMedicationReminder(any(), any(), any(), any());
+
+        // when - 저녁 회차는 아직 복용 전
+        when(deviceTokenRepository.findTokenTargetsByUserNumbers(anyCollection())).thenReturn(List.of());
+        when(notificationService.sendMedicationReminder(anyString(), anyString(), anyList(), anyString()))
+                .thenReturn(false);
+        tickScheduler.dispatchDue(LocalTime.of(20, 0), TODAY);
+
+        // then
+        verify(notificationService, times(1)).sendMedicationReminder(
+                eq("01011111111"), eq("사용자"), eq(List.of()), contains("20:00"));
+    }
+
+    @Test
+    @DisplayName("알림 시각을 변경하면 이전 버킷에서 제거되고, 빈 목록이면 인덱스에서 삭제")
+    void index_UpsertAndRemove() {
+        // given
+        reminderIndex.upsert(1L, "혈압약", "01011111111", "사용자", List.of(LocalTime.of(8, 0)));
+
+        // when
+        reminderIndex.upsert(1L, "혈압약", "01011111111", "사용자", List.of(LocalTime.of(9, 0)));
+
+        // then
+        assertThat(reminderIndex.dueAt(8 * 60)).isEmpty();
+        assertThat(reminderIndex.dueAt(9 * 60)).hasSize(1);
+
+        // when
+        reminderIndex.remove(1L);
+
+        // then
+        assertThat(reminderIndex.dueAt(9 * 60)).isEmpty();
+        assertThat(reminderIndex.size()).isZero();
+    }
+}
@@ -1,14 +1,28 @@
 package com.project.safetyFence.service;
 
+import com.project.safetyFence.link.LinkRepository;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.medication.MedicationAdherenceMonthRepository;
+import com.project.safetyFence.medication.MedicationLogRepository;
 import com.project.safetyFence.medication.MedicationRepository;
 import com.project.safetyFence.medication.MedicationService;
 import com.project.safetyFence.medication.domain.Medication;
+import com.project.safetyFence.medication.domain.MedicationAdherenceMonth;
+import com.project.safetyFence.medication.domain.MedicationLog;
+import com.project.safetyFence.common.pagination.CursorPageResponseDto;
+import com.project.safetyFence.medication.dto.AdherencePeriodDto;
+import com.project.safetyFence.medication.dto.MedicationAdherenceResponseDto;
 import com.project.safetyFence.medication.dto.MedicationCreateResponseDto;
 import com.project.safetyFence.medication.dto.MedicationDeleteResponseDto;
+import com.project.safetyFence.medication.dto.MedicationHistoryItemDto;
 import com.project.safetyFence.medication.dto.MedicationListResponseDto;
 import com.project.safetyFence.medication.dto.MedicationRequestDto;
+import com.project.safetyFence.medication.dto.WardMedicationStatusDto;
 import com.project.safetyFence.user.UserRepository;
 import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +31,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -33,6 +50,18 @@ class MedicationServiceTest {
     @Autowired
     private MedicationRepository medicationRepository;
 
+    @Autowired
+    private MedicationLogRepository medicationLogRepository;
+
+    @Autowired
+    private MedicationAdherenceMonthRepository adherenceMonthRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private Medication testMedication;
 
@@ -161,4 +190,221 @@ class MedicationServiceTest {
         // then
         assertThat(response.getMedications()).hasSize(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("약 목록 조회 - 해당 날짜 체크 횟수만 집계 (전날/다음날 자정 경계 제외)")
+    void getMedications_CheckCountWithinDate() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        medicationLogRepository.save(new MedicationLog(testMedication, date.atTime(8, 0)));
+        medicationLogRepository.save(new MedicationLog(testMedication, date.atTime(23, 59, 59)));
+        medicationLogRepository.save(new MedicationLog(testMedication, date.minusDays(1).atTime(23, 59)));
+        medicationLogRepository.save(new MedicationLog(testMedication, date.plusDays(1).atStartOfDay()));
+
+        // when
+        MedicationListResponseDto response = medicationService.getMedications(testUser.getNumber(), date);
+
+        // then
+        assertThat(response.getMedications()).hasSize(1);
+        assertThat(response.getMedications().get(0).getCheckCount()).isEqualTo(2);
+        assertThat(response.getMedications().get(0).isCheckedToday()).isTrue();
+    }
+
+    @Test
+    @DisplayName("약 목록 조회 - 약 개수와 무관하게 쿼리 수 고정")
+    void getMedications_ConstantQueryCount() {
+        // given
+        long singleMedicationQueries = countStatements(() -> medicationService.getMedications(testUser.getNumber(), null));
+
+        for (int i = 0; i < 10; i++) {
+            Medication medication = new Medication(testUser, "약" + i, "1정", "테스트", "하루 1회");
+            medication.updateReminderTimes(List.of(LocalTime.of(8, i)));
+            testUser.addMedication(medication);
+            medicationRepository.save(medication);
+            medicationLogRepository.save(new MedicationLog(medication, LocalDateTime.now()));
+        }
+
+        // when
+        long manyMedicationQueries = countStatements(() -> medicationService.getMedications(testUser.getNumber(), null));
+
+        // then
+        assertThat(manyMedicationQueries).isEqualTo(singleMedicationQueries);
+    }
+
+    @Test
+    @DisplayName("피보호자 복용 현황 - 피보호자 수와 무관하게 쿼리 수 고정")
+    void getWardsTodayMedicationStatus_ConstantQueryCount() {
+        // given - 피보호자 1명
+        User supporter = userRepository.save(
+                new User("01055555555", "supporter", "password", LocalDate.now(), "supporter-link"));
+        linkRepository.save(new Link(supporter, testUser.getNumber(), "부모"));
+
+        long singleWardQueries = countStatements(
+                () -> medicationService.getWardsTodayMedicationStatus(supporter.getNumber(), null));
+
+        // given - 피보호자 5명 추가 (각 2개의 약, 1개는 복용 체크)
+        for (int i = 0; i < 5; i++) {
+            User ward = userRepository.save(
+                    new User("0107000000" + i, "ward" + i, "password", LocalDate.now(), "ward-link-" + i));
+            for (int j = 0; j < 2; j++) {
+                Medication medication = new Medication(ward, "약" + j, "1정", "테스트", "하루 1회");
+                ward.addMedication(medication);
+                medicationRepository.save(medication);
+                if (j == 0) {
+                    medicationLogRepository.save(new MedicationLog(medication, LocalDateTime.now()));
+                }
+            }
+            linkRepository.save(new Link(supporter, ward.getNumber(), "부모"));
+        }
+
+        // when
+        long manyWardQueries = countStatements(
+                () -> medicationService.getWardsTodayMedicationStatus(supporter.getNumber(), null));
+        List<WardMedicationStatusDto> statuses =
+                medicationService.getWardsTodayMedicationStatus(supporter.getNumber(), null);
+
+        // then
+        assertThat(manyWardQueries).isEqualTo(singleWardQueries);
+        assertThat(statuses).hasSize(6);
+        assertThat(statuses).filteredOn(status -> status.getWardNumber().startsWith("0107"))
+                .allSatisfy(status -> {
+                    assertThat(status.getTotalMedications()).isEqualTo(2);
+                    assertThat(status.getCheckedMedications()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("복용 통계 - 체크/해제가 월간 집계에 증분 반영")
+    void getMedicationAdherence_ReflectsCheckAndUncheck() {
+        // given - 오늘 두 번 체크 후 한 번 해제
+        medicationService.checkMedication(testUser.getNumber(), testMedication.getId());
+        medicationService.checkMedication(testUser.getNumber(), testMedication.getId());
+        medicationService.checkMedication(testUser.getNumber(), testMedication.getId());
+        medicationService.uncheckMedication(testUser.getNumber(), testMedication.getId());
+
+        // when
+        MedicationAdherenceResponseDto response = medicationService.getMedicationAdherence(
+                testUser.getNumber(), testMedication.getId(), null, null);
+
+        // then
+        assertThat(response.getTotalDays()).isEqualTo(90);
+        assertThat(response.getDailyDoseCounts()).hasSize(90);
+        assertThat(response.getDailyDoseCounts().get(89)).isEqualTo(2);
+        assertThat(response.getTakenDays()).isEqualTo(1);
+        assertThat(response.getTotalDoses()).isEqualTo(2);
+        assertThat(response.getWeeks().stream().mapToInt(AdherencePeriodDto::getTotalDays).sum()).isEqualTo(90);
+        assertThat(response.getMonths()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("복용 통계 - 집계 도입 이전 로그는 백필로 반영")
+    void rebuildAdherence_FromExistingLogs() {
+        // given - 집계 없이 원본 로그만 존재
+        LocalDate end = LocalDate.of(2025, 3, 10);
+        medicationLogRepository.save(new MedicationLog(testMedication, end.atTime(8, 0)));
+        medicationLogRepository.save(new MedicationLog(testMedication, end.atTime(20, 0)));
+        medicationLogRepository.save(new MedicationLog(testMedication, end.minusDays(40).atTime(9, 0)));
+
+        // when
+        medicationService.rebuildAdherence(testMedication.getId());
+        MedicationAdherenceResponseDto response = medicationService.getMedicationAdherence(
+                testUser.getNumber(), testMedication.getId(), 90, end);
+
+        // then
+        assertThat(response.getTakenDays()).isEqualTo(2);
+        assertThat(response.getTotalDoses()).isEqualTo(3);
+        assertThat(response.getDailyDoseCounts().get(89)).isEqualTo(2);
+        assertThat(response.getDailyDoseCounts().get(89 - 40)).isEqualTo(1);
+        assertThat(response.getMonths()).hasSize(4);  // 2024-12 ~ 2025-03
+    }
+
+    @Test
+    @DisplayName("복용 통계 - 배포 후 체크로 이번 달 집계가 먼저 생겨도 이전 로그는 백필 대상")
+    void rebuildAdherence_AfterCurrentMonthRowCreated() {
+        // given - 집계 도입 이전에 만든 약과 지난달 로그
+        LocalDateTime lastMonth = LocalDate.now().minusMonths(1).withDayOfMonth(1).atTime(9, 0);
+        medicationLogRepository.save(new MedicationLog(testMedication, lastMonth));
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Medication m SET m.adherenceBackfilled = false WHERE m.id = :id")
+                .setParameter("id", testMedication.getId())
+                .executeUpdate();
+        entityManager.clear();
+        medicationService.checkMedication(testUser.getNumber(), testMedication.getId());
+
+        // when
+        List<Long> pending = medicationRepository.findIdsPendingAdherenceBackfill();
+        medicationService.rebuildAdherence(testMedication.getId());
+
+        // then
+        assertThat(pending).contains(testMedication.getId());
+        assertThat(medicationRepository.findIdsPendingAdherenceBackfill()).doesNotContain(testMedication.getId());
+        MedicationAdherenceResponseDto response = medicationService.getMedicationAdherence(
+                testUser.getNumber(), testMedication.getId(), 90, LocalDate.now());
+        assertThat(response.getTotalDoses()).isEqualTo(2);
+        assertThat(response.getTakenDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복용 집계 행 생성 - 이미 있으면 무시하고 기존 행 유지")
+    void adherenceMonth_InsertIfAbsent_IgnoresExisting() {
+        // given
+        int monthKey = MedicationAdherenceMonth.toMonthKey(LocalDate.now());
+
+        // when
+        int first = adherenceMonthRepository.insertIfAbsent(testMedication.getId(), monthKey);
+        int second = adherenceMonthRepository.insertIfAbsent(testMedication.getId(), monthKey);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(adherenceMonthRepository.findForUpdate(testMedication.getId(), monthKey))
+                .hasValueSatisfying(month -> assertThat(month.countTakenDays()).isZero());
+    }
+
+    @Test
+    @DisplayName("복용 통계 - 조회 기간 범위를 벗어나면 실패")
+    void getMedicationAdherence_Fail_InvalidDays() {
+        assertThatThrownBy(() -> medicationService.getMedicationAdherence(
+                testUser.getNumber(), testMedication.getId(), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("복용 이력 커서 페이지 - 최신순으로 끝까지 이어서 조회")
+    void getMedicationHistoryPage_KeysetTraversal() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 3, 10, 8, 0);
+        for (int i = 0; i < 5; i++) {
+            medicationLogRepository.save(new MedicationLog(testMedication, base.plusHours(i)));
+        }
+
+        // when
+        CursorPageResponseDto<MedicationHistoryItemDto> first = medicationService.getMedicationHistoryPage(
+                testUser.getNumber(), testMedication.getId(), null, 3);
+        CursorPageResponseDto<MedicationHistoryItemDto> second = medicationService.getMedicationHistoryPage(
+                testUser.getNumber(), testMedication.getId(), first.getNextCursor(), 3);
+
+        // then
+        assertThat(first.getItems()).hasSize(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getItems().get(0).getCheckedDateTime()).isEqualTo(base.plusHours(4));
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getItems().get(1).getCheckedDateTime()).isEqualTo(base);
+    }
+
+    // 영속성 컨텍스트를 비운 상태에서 실행된 SQL 문 수
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
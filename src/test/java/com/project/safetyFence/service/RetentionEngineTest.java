@@ -0,0 +1,114 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.common.retention.RetentionEngine;
+import com.project.safetyFence.common.retention.RetentionRunReport;
+import com.project.safetyFence.common.retention.RetentionTarget;
+import com.project.safetyFence.location.UserLocationArchiveRepository;
+import com.project.safetyFence.location.archive.TrailPoint;
+import com.project.safetyFence.location.domain.UserLocationArchive;
+import com.project.safetyFence.log.LogRepository;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"retention.chunk-size=2", "retention.min-pause-ms=0"})
+@Transactional
+class RetentionEngineTest {
+
+    @Autowired
+    private RetentionEngine retentionEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private UserLocationArchiveRepository archiveRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("01012345678", "tester", "password", LocalDate.now(), "test-link");
+        userRepository.save(testUser);
+    }
+
+    @Test
+    @DisplayName("cutoff 이전 로그만 청크 단위로 삭제")
+    void purgeBefore_DeletesOnlyOldRowsInChunks() {
+        // given - 오래된 로그 5건, 최근 로그 2건
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 1; i <= 5; i++) {
+            testUser.addLog(new Log(testUser, "집", "서울시", cutoff.minusDays(i)));
+        }
+        testUser.addLog(new Log(testUser, "회사", "서울시", cutoff.plusDays(1)));
+        testUser.addLog(new Log(testUser, "병원", "서울시", cutoff.plusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        RetentionRunReport report = retentionEngine.purgeBefore(RetentionTarget.LOG, cutoff);
+
+        // then - chunkSize=2 이므로 2 + 2 + 1
+        assertThat(report.deleted()).isEqualTo(5);
+        assertThat(report.chunks()).isEqualTo(3);
+        assertThat(report.completed()).isTrue();
+        assertThat(logRepository.findByUserNumberAndArriveTimeRange(
+                testUser.getNumber(), cutoff.minusYears(1), cutoff.plusYears(1))).hasSize(2);
+        assertThat(retentionEngine.getLastReports()).containsKey(RetentionTarget.LOG);
+    }
+
+    @Test
+    @DisplayName("위치 기록 보관본은 cutoff 날짜 이전 하루 전체가 지난 날짜만 삭제")
+    void purgeBefore_LocationArchive_DeletesOnlyPastDates() {
+        // given - cutoff 날짜 이전 2일, cutoff 당일, 이후 1일
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDate cutoffDate = cutoff.toLocalDate();
+        for (LocalDate date : List.of(cutoffDate.minusDays(2), cutoffDate.minusDays(1), cutoffDate, cutoffDate.plusDays(1))) {
+            archiveRepository.save(new UserLocationArchive(testUser, date,
+                    List.of(new TrailPoint(date.atTime(9, 0), 37.5, 127.0))));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        RetentionRunReport report = retentionEngine.purgeBefore(RetentionTarget.USER_LOCATION_ARCHIVE, cutoff);
+
+        // then - cutoff 당일은 일부가 보존 기간 안이므로 남긴다
+        assertThat(report.deleted()).isEqualTo(2);
+        assertThat(archiveRepository.findByUserNumberAndArchiveDate(testUser.getNumber(), cutoffDate.minusDays(1))).isEmpty();
+        assertThat(archiveRepository.findByUserNumberAndArchiveDate(testUser.getNumber(), cutoffDate)).isPresent();
+        assertThat(archiveRepository.findByUserNumberAndArchiveDate(testUser.getNumber(), cutoffDate.plusDays(1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("정리할 행이 없으면 0건으로 완료")
+    void purgeBefore_NothingToDelete() {
+        // when
+        RetentionRunReport report = retentionEngine.purgeBefore(RetentionTarget.USER_LOCATION,
+                LocalDateTime.of(2000, 1, 1, 0, 0));
+
+        // then
+        assertThat(report.deleted()).isZero();
+        assertThat(report.chunks()).isZero();
+        assertThat(report.completed()).isTrue();
+    }
+}
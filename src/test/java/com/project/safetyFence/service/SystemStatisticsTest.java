@@ -0,0 +1,105 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.admin.dto.StatisticsResponseDto;
+import com.project.safetyFence.admin.stats.SystemStatistics;
+import com.project.safetyFence.geofence.domain.Geofence;
+import com.project.safetyFence.link.domain.Link;
+import com.project.safetyFence.log.domain.Log;
+import com.project.safetyFence.notification.delivery.ActiveSessionRegistry;
+import com.project.safetyFence.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemStatisticsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveSessionRegistry sessionRegistry;
+    private SystemStatistics statistics;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionRegistry = new ActiveSessionRegistry();
+        statistics = new SystemStatistics(sessionRegistry, meterRegistry);
+        user = new User("01012345678", "tester", "password", LocalDate.now(), "test-link");
+    }
+
+    @Test
+    @DisplayName("엔티티 추가/삭제가 카운터와 게이지에 반영")
+    void insertAndDelete_UpdatesCounters() {
+        // when
+        statistics.onInserted(user);
+        statistics.onInserted(new Link(user, "01099999999", "자녀"));
+        statistics.onInserted(temporaryGeofence());
+        statistics.onInserted(permanentGeofence());
+        Geofence removed = permanentGeofence();
+        statistics.onInserted(removed);
+        statistics.onDeleted(removed);
+
+        // then
+        StatisticsResponseDto snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotalUsers()).isEqualTo(1);
+        assertThat(snapshot.getTotalLinks()).isEqualTo(1);
+        assertThat(snapshot.getTotalGeofences()).isEqualTo(2);
+        assertThat(snapshot.getActiveGeofences()).isEqualTo(1);
+        assertThat(snapshot.getPermanentGeofences()).isEqualTo(1);
+        assertThat(meterRegistry.get("safetyfence.entities").tag("entity", "users").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("safetyfence.geofences").tag("type", "temporary").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB 보정 후에는 보정 값 기준으로 증감")
+    void reconcile_ResetsBaseline() {
+        // given
+        statistics.onInserted(new Log(user, "집", "서울시", LocalDateTime.now()));
+
+        // when
+        statistics.reconcile(10, 4, 3, 2, 5, 6, 100);
+        statistics.onInserted(new Log(user, "회사", "서울시", LocalDateTime.now()));
+        statistics.onBulkDeleted(Log.class, 30);
+
+        // then
+        StatisticsResponseDto snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotalUsers()).isEqualTo(10);
+        assertThat(snapshot.getTotalGeofences()).isEqualTo(5);
+        assertThat(snapshot.getTotalLogs()).isEqualTo(71);
+        assertThat(snapshot.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("연결 세션 수는 사용자별 세션을 모두 합산")
+    void snapshot_CountsSessions() {
+        // given
+        sessionRegistry.register("01011111111", "s1");
+        sessionRegistry.register("01011111111", "s2");
+        sessionRegistry.register("01022222222", "s3");
+
+        // when
+        StatisticsResponseDto snapshot = statistics.snapshot();
+
+        // then
+        assertThat(snapshot.getConnectedSessions()).isEqualTo(3);
+        assertThat(snapshot.getOnlineUsers()).isEqualTo(2);
+    }
+
+    private Geofence temporaryGeofence() {
+        return new Geofence(user, "병원", "서울시", new BigDecimal("37.5"), new BigDecimal("127.0"), 1,
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1), 100);
+    }
+
+    private Geofence permanentGeofence() {
+        return new Geofence(user, "집", "서울시", new BigDecimal("37.5"), new BigDecimal("127.0"), 0, 100);
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.safetyFence.service;
+
+import com.project.safetyFence.location.UserLocationRepository;
+import com.project.safetyFence.location.domain.UserLocation;
+import com.project.safetyFence.location.partition.UserLocationPartitionManager;
+import com.project.safetyFence.user.UserRepository;
+import com.project.safetyFence.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class UserLocationPartitionManagerTest {
+
+    @Autowired
+    private UserLocationPartitionManager partitionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("시작 시 user_location이 월별 파티션 테이블로 전환되고 미래 파티션이 준비됨")
+    void initialize_ConvertsToPartitionedTable() {
+        // then
+        assertThat(partitionManager.isPartitioned()).isTrue();
+        String nextMonth = "user_location_p" + YearMonth.now().plusMonths(1).format(DateTimeFormatter.ofPattern("yyyyMM"));
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, nextMonth)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 파티션 테이블이면 정비 작업이 다시 전환하지 않음")
+    void convertIfNeeded_AlreadyPartitioned_NoOp() {
+        // when
+        boolean converted = partitionManager.convertIfNeeded();
+
+        // then
+        assertThat(converted).isFalse();
+        assertThat(partitionManager.isPartitioned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장한 위치는 해당 월 파티션에 들어가고 최근 위치 조회로 찾을 수 있음")
+    void save_RoutesToMonthlyPartition() {
+        // given
+        User user = new User("01012345678", "tester", "password", LocalDate.now(), "test-link");
+        userRepository.save(user);
+        UserLocation location = userLocationRepository.save(
+                new UserLocation(user, new BigDecimal("37.5"), new BigDecimal("127.0")));
+        entityManager.flush();
+
+        // when
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM user_location WHERE id = ?", String.class, location.getId());
+
+        // then
+        assertThat(partition).isEqualTo(
+                "user_location_p" + YearMonth.now().format(DateTimeFormatter.ofPattern("yyyyMM")));
+        assertThat(userLocationRepository.findLatestByUser(user))
+                .hasValueSatisfying(latest -> assertThat(latest.getId()).isEqualTo(location.getId()));
+    }
+}
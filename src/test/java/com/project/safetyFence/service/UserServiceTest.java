@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -51,6 +52,18 @@ class UserServiceTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    @DisplayName("유저 코드가 같은 사용자는 DB 유니크 제약으로 저장 실패")
+    void saveUser_DuplicateLinkCode_Rejected() {
+        // given
+        User duplicate = new User("01099999999", "중복", "111", LocalDate.of(1990, 1, 1), "test-link");
+
+        // when & then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasStackTraceContaining(User.LINK_CODE_CONSTRAINT);
+    }
+
     @Test
     @DisplayName("checkExistNumber - 존재하지 않는 번호 false 반환")
     void checkExistNumber_NonExistingNumber_ReturnsFalse() {
@@ -156,15 +169,33 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("deleteOwnAccount - 올바른 비밀번호로 계정 삭제 성공")
-    void deleteOwnAccount_CorrectPassword_DeletesAccount() {
+    @DisplayName("deleteOwnAccount - 올바른 비밀번호로 계정 즉시 비활성화 (데이터 삭제는 커밋 후 비동기)")
+    void deleteOwnAccount_CorrectPassword_DisablesAccount() {
+        // given
+        String apiKey = userService.generateAndSaveApiKey(TEST_NUMBER);
+
         // when
         userService.deleteOwnAccount(TEST_NUMBER, "111");
         entityManager.flush();
         entityManager.clear();
 
         // then
-        assertThat(userRepository.existsByNumber(TEST_NUMBER)).isFalse();
+        User deleted = userRepository.findByNumber(TEST_NUMBER);
+        assertThat(deleted.isDisabled()).isTrue();
+        assertThat(deleted.getApiKey()).isNull();
+        assertThat(userService.findUserNumberByApiKey(apiKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("deleteOwnAccount - 이미 탈퇴 접수된 계정은 찾을 수 없음")
+    void deleteOwnAccount_AlreadyDisabled_ThrowsException() {
+        // given
+        userService.deleteOwnAccount(TEST_NUMBER, "111");
+
+        // when & then
+        assertThatThrownBy(() -> userService.deleteOwnAccount(TEST_NUMBER, "111"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자를 찾을 수 없습니다");
     }
 
     @Test